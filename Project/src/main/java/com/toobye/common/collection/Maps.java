@@ -7,6 +7,7 @@
  */
 package com.toobye.common.collection;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -23,6 +24,7 @@ import com.toobye.common.lang.Checks;
 import com.toobye.common.lang.Function;
 import com.toobye.common.lang.Pair;
 import com.toobye.common.string.StringArray;
+import com.toobye.common.string.StringFormat;
 
 /**
  * <pre> Map工具类.
@@ -356,6 +358,7 @@ public final class Maps {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2015/09/05  huangys  Create
+	 * 2026/10/19  huangys  Modify  改为逐列写入，不使用String.format
 	 * </pre>
 	 * 
 	 * @param map map
@@ -367,17 +370,55 @@ public final class Maps {
 		if (map == null) {
 			return null;
 		}
-		List<Integer> lenths = new ArrayList<Integer>();
+		return formatHorizontalTo(map, delimiter, new StringBuilder()).toString();
+	}
+	
+	/**
+	 * <pre> 生成Map的横向描述，直接写入Appendable（如Writer）.
+	 * 第一行为key，第二行为value，每列按key与value的最大长度左对齐。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param <A> 输出类型
+	 * @param map map
+	 * @param delimiter 分隔符，默认" | "
+	 * @param out 输出
+	 * @return 输出
+	 */
+	@Nonnull
+	public static <A extends Appendable> A formatHorizontalTo(@Nonnull final Map<?, ?> map, @Nullable final String delimiter, @Nonnull final A out) {
+		Checks.nullThrow(map);
+		Checks.nullThrow(out);
+		String d = delimiter == null ? DELIMITER_HORIZONTAL : delimiter;
+		String[] keys = new String[map.size()];
+		String[] values = new String[map.size()];
+		int i = 0;
 		for (Entry<?, ?> entry : map.entrySet()) {
-			Object key = entry.getKey();
-			Object value = entry.getValue();
-			lenths.add(Math.max(key == null ? 4 : key.toString().length(), value == null ? 4 : value.toString().length()));
+			keys[i] = String.valueOf(entry.getKey());
+			values[i] = String.valueOf(entry.getValue());
+			i++;
+		}
+		try {
+			appendRow(keys, values, d, out);
+			out.append(Systems.LINE_SEPARATOR);
+			appendRow(values, keys, d, out);
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		return out;
+	}
+	
+	private static void appendRow(@Nonnull final String[] row, @Nonnull final String[] other,
+			@Nonnull final String delimiter, @Nonnull final Appendable out) throws IOException {
+		for (int i = 0; i < row.length; i++) {
+			if (i > 0) {
+				out.append(delimiter);
+			}
+			StringFormat.rightPadTo(row[i], Math.max(row[i].length(), other[i].length()), ' ', out);
 		}
-		String d = delimiter == null ? DELIMITER_HORIZONTAL : delimiter;
-		String format = "%-" + StringArray.join(lenths, "s" + d + "%-") + "s";
-		return String.format(format, map.keySet().toArray())
-				+ Systems.LINE_SEPARATOR
-				+ String.format(format, map.values().toArray());
 	}
 
 	private static final String DELIMITER_VERTICAL = " : ";
@@ -403,6 +444,7 @@ public final class Maps {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2015/09/05  huangys  Create
+	 * 2026/10/19  huangys  Modify  改为逐行写入，不使用String.format
 	 * </pre>
 	 * 
 	 * @param map map
@@ -414,18 +456,42 @@ public final class Maps {
 		if (map == null) {
 			return null;
 		}
+		return formatVerticalTo(map, delimiter, new StringBuilder()).toString();
+	}
+	
+	/**
+	 * <pre> 生成Map的纵向描述，直接写入Appendable（如Writer）.
+	 * 每行为"key : value"，key按最大长度左对齐。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param <A> 输出类型
+	 * @param map map
+	 * @param delimiter 分隔符，默认" : "
+	 * @param out 输出
+	 * @return 输出
+	 */
+	@Nonnull
+	public static <A extends Appendable> A formatVerticalTo(@Nonnull final Map<?, ?> map, @Nullable final String delimiter, @Nonnull final A out) {
+		Checks.nullThrow(map);
+		Checks.nullThrow(out);
+		String d = delimiter == null ? DELIMITER_VERTICAL : delimiter;
 		int maxLen = 0;
-		for (Entry<?, ?> entry : map.entrySet()) {
-			Object key = entry.getKey();
+		for (Object key : map.keySet()) {
 			maxLen = Math.max(maxLen, key == null ? 4 : key.toString().length());
 		}
-		String d = delimiter == null ? DELIMITER_VERTICAL : delimiter;
-		String format = "%-" + maxLen + "s" + d + "%s" + Systems.LINE_SEPARATOR;
-		StringBuffer sb = new StringBuffer();
-		for (Entry<?, ?> entry : map.entrySet()) {
-			sb.append(String.format(format, entry.getKey(), entry.getValue()));
+		try {
+			for (Entry<?, ?> entry : map.entrySet()) {
+				StringFormat.rightPadTo(String.valueOf(entry.getKey()), maxLen, ' ', out);
+				out.append(d).append(String.valueOf(entry.getValue())).append(Systems.LINE_SEPARATOR);
+			}
+		} catch (IOException e) {
+			throw new RuntimeException(e);
 		}
-		return sb.toString();
+		return out;
 	}
 	
 	/**
@@ -10,6 +10,7 @@ package com.toobye.common.db;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -21,12 +22,14 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import com.toobye.common.base.Exceptions;
 import com.toobye.common.collection.Maps;
 import com.toobye.common.reflect.Properties;
 import com.toobye.common.reflect.Reflects;
 import com.toobye.common.string.StringArray;
+import com.toobye.common.string.StringPool;
 
 /**
  * <pre> sql执行工具.
@@ -34,6 +37,7 @@ import com.toobye.common.string.StringArray;
  * Modification History:
  * Date        Author   Version   Action
  * 2015/07/18  huangys  v1.0      Create
+ * 2026/10/19  huangys  v1.1      查询结果支持字符串去重池
  * </pre>
  * 
  */
@@ -116,6 +120,7 @@ public final class Sql {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2015/07/18  huangys  Create
+	 * 2026/10/19  huangys  Modify  列名只取一次，字符串值支持去重池
 	 * </pre>
 	 * 
 	 * @param conn 数据库连接
@@ -126,11 +131,21 @@ public final class Sql {
 		try (PreparedStatement pstmt = prepare(conn);) {
 			ResultSet rs = pstmt.executeQuery();
 			List<Map<String, Object>> list = new ArrayList<>();
-			int columns = rs.getMetaData().getColumnCount();
+			// 列名只取一次，各行共用
+			ResultSetMetaData meta = rs.getMetaData();
+			String[] names = new String[meta.getColumnCount()];
+			for (int i = 0; i < names.length; i++) {
+				names[i] = meta.getColumnName(i + 1);
+			}
+			StringPool pool = stringPool;
 			while (rs.next()) {
 				Map<String, Object> one = new HashMap<>();
-				for (int i = 0; i < columns; i++) {
-					one.put(rs.getMetaData().getColumnName(i + 1), rs.getObject(i + 1));
+				for (int i = 0; i < names.length; i++) {
+					Object value = rs.getObject(i + 1);
+					if (pool != null && value instanceof String) {
+						value = pool.intern((String) value);
+					}
+					one.put(names[i], value);
 				}
 				list.add(one);
 			}
@@ -307,6 +322,24 @@ public final class Sql {
 	
 	private String sql;
 	private Map<String, Object> params;
+	private StringPool stringPool;
+	
+	/**
+	 * <pre> 设置字符串去重池.
+	 * 设置后查询结果中的字符串值经去重池去重，适合状态码等低基数字段较多的大结果集。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param stringPool 字符串去重池，null时不去重
+	 * @return sql语句
+	 */
+	public Sql setStringPool(@Nullable final StringPool stringPool) {
+		this.stringPool = stringPool;
+		return this;
+	}
 	
 	/**
 	 * <pre> 构造sql语句.
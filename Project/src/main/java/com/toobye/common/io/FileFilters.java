@@ -21,6 +21,7 @@ import org.apache.commons.io.filefilter.RegexFileFilter;
 import com.toobye.common.collection.Iterables;
 import com.toobye.common.lang.Checks;
 import com.toobye.common.lang.Condition;
+import com.toobye.common.string.PatternCache;
 
 /**
  * <pre> 文件过滤.
@@ -208,6 +209,7 @@ public final class FileFilters {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2013/08/11  huangys  Create
+	 * 2026/10/19  huangys  Modify 正则表达式使用共用缓存
 	 * </pre>
 	 * 
 	 * @param directory 目录
@@ -218,7 +220,7 @@ public final class FileFilters {
 	public static File[] listFiles(@Nonnull final File directory, @Nonnull final String regex) {
 		Checks.fileNotExistsThrow(directory);
 		Checks.nullThrow(regex);
-		return directory.listFiles((FileFilter) new RegexFileFilter(regex));
+		return directory.listFiles((FileFilter) new RegexFileFilter(PatternCache.get(regex)));
 	}
 	
 	/**
@@ -40,6 +40,7 @@ import com.toobye.common.time.DateFormat;
  * Modification History:
  * Date        Author   Version   Action
  * 2013/08/11  huangys  v1.0      Create
+ * 2026/10/19  huangys  v1.1      支持内存映射按行读取
  * </pre>
  * 
  */
@@ -764,6 +765,60 @@ public final class Files extends org.apache.commons.io.FileUtils {
 		}
     }
 	
+	/**
+	 * <pre> 返回内存映射的按行读取，适合大文件.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param file 文件
+	 * @param charset 字符集
+	 * @return 按行读取，使用后须关闭
+	 */
+	@Nonnull
+	public static MappedLineReader mappedLineReader(@Nonnull final File file, @Nullable final String charset) {
+		return MappedLineReader.of(file, charset);
+	}
+	
+	/**
+	 * <pre> 返回内存映射的按行读取，只读取首字节在[start, end)中的行.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param file 文件
+	 * @param charset 字符集
+	 * @param start 起始偏移
+	 * @param end 结束偏移（不含）
+	 * @return 按行读取，使用后须关闭
+	 */
+	@Nonnull
+	public static MappedLineReader mappedLineReader(@Nonnull final File file, @Nullable final String charset, final long start, final long end) {
+		return MappedLineReader.of(file, charset, start, end);
+	}
+	
+	/**
+	 * <pre> 将文件按字节数分为若干段，偏移对齐到行首，用于多线程分段读取.
+	 * 返回parts + 1个偏移，第i段为[offsets[i], offsets[i + 1])。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param file 文件
+	 * @param parts 段数
+	 * @return 偏移
+	 */
+	@Nonnull
+	public static long[] splitByLines(@Nonnull final File file, final int parts) {
+		return MappedLineReader.split(file, parts);
+	}
+	
 	/**
 	 * <pre> 读取文件.
 	 * 
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 (C) , All Rights Reserved.
+ * Company: China.
+ * 
+ * Create At 2026/10/19.
+ * 
+ */
+package com.toobye.common.io;
+
+import java.io.Closeable;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * <pre> 流式读取的迭代器.
+ * 
+ * 按需读取输入流，每次只持有当前元素，内存占用与文件大小无关。
+ * 读取完毕或读取中抛出异常时自动关闭输入流；未读取完毕就放弃时，须调用close（可用于try-with-resources）。
+ * 由IOReader的iterate*WithClose方法创建，不支持remove。
+ * 
+ * try (IOIterator<Record> it = IOReader.STANDARD.iterateListWithClose(is, parser)) {
+ *     while (it.hasNext()) {
+ *         ...
+ *     }
+ * }
+ * 
+ * Modification History:
+ * Date        Author   Version   Action
+ * 2026/10/19  huangys  v1.0      Create
+ * </pre>
+ * 
+ * @param <T> 元素类型
+ */
+public abstract class IOIterator<T> implements Iterator<T>, Closeable {
+
+	private final InputStream is;
+	private T next;
+	private boolean ready = false;
+	private boolean end = false;
+	private boolean closed = false;
+
+	/**
+	 * <pre> 构造器. </pre>
+	 * 
+	 * @param is 输入流
+	 */
+	IOIterator(@Nonnull final InputStream is) {
+		this.is = is;
+	}
+
+	/**
+	 * <pre> 读取下一个元素，没有时返回endOfData().
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 元素
+	 */
+	@Nullable
+	abstract T computeNext();
+
+	/**
+	 * <pre> 标记读取完毕.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return null
+	 */
+	@Nullable
+	final T endOfData() {
+		end = true;
+		return null;
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (ready) {
+			return true;
+		}
+		if (closed) {
+			return false;
+		}
+		try {
+			next = computeNext();
+		} catch (Throwable e) {
+			close();
+			throw e;
+		}
+		if (end) {
+			close();
+			return false;
+		}
+		ready = true;
+		return true;
+	}
+
+	@Override
+	public T next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		T ret = next;
+		next = null;
+		ready = false;
+		return ret;
+	}
+
+	@Override
+	public void remove() {
+		throw new UnsupportedOperationException("Remove unsupported on IOIterator");
+	}
+
+	/**
+	 * <pre> 关闭输入流，之后hasNext返回false.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 */
+	@Override
+	public void close() {
+		if (!closed) {
+			closed = true;
+			next = null;
+			ready = false;
+			IOs.closeQuietly(is);
+		}
+	}
+
+}
@@ -8,10 +8,19 @@
 package com.toobye.common.io;
 
 import java.io.InputStream;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -19,8 +28,10 @@ import javax.annotation.Nullable;
 import org.apache.commons.io.LineIterator;
 
 import com.toobye.common.lang.Checks;
+import com.toobye.common.lang.Doable;
 import com.toobye.common.lang.Function;
 import com.toobye.common.lang.Pair;
+import com.toobye.common.string.StringPool;
 import com.toobye.common.string.StringSplit;
 import com.toobye.common.string.StringUtils;
 
@@ -30,6 +41,10 @@ import com.toobye.common.string.StringUtils;
  * Modification History:
  * Date        Author   Version   Action
  * 2015/12/20  huangys  v1.0      Create
+ * 2026/10/19  huangys  v1.1      支持字符串去重池
+ * 2026/10/19  huangys  v1.2      支持多线程按序处理
+ * 2026/10/19  huangys  v1.3      支持流式读取（迭代器、逐个处理）
+ * 2026/10/19  huangys  v1.4      多线程读取可使用外部线程池，内部线程池改为命名的守护线程
  * </pre>
  * 
  */
@@ -39,12 +54,26 @@ public final class IOReader {
 	private String commentPrefix;
 	private boolean skipReturnNull = false;
 	private String charset;
+	private StringPool stringPool;
 	
 	/**
 	 * <pre> 跳过空行，跳过#开头的注释行，跳过空返回值. </pre>
 	 */
 	public static final IOReader STANDARD = new IOReader(true, "#", true);
 	
+	/**
+	 * <pre> 多线程读取时内部线程池的线程：命名为IOReader-序号，守护线程，不阻止JVM退出. </pre>
+	 */
+	private static final ThreadFactory THREAD_FACTORY = new ThreadFactory() {
+		private final AtomicInteger count = new AtomicInteger();
+		@Override
+		public Thread newThread(final Runnable r) {
+			Thread thread = new Thread(r, "IOReader-" + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	};
+	
 	/**
 	 * <pre> 构造器. </pre>
 	 *
@@ -174,12 +203,45 @@ public final class IOReader {
 		this.charset = charset;
 	}
 
+	/**
+	 * <pre> 获取字符串去重池.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 字符串去重池
+	 */
+	@Nullable
+	public StringPool getStringPool() {
+		return stringPool;
+	}
+
+	/**
+	 * <pre> 设置字符串去重池.
+	 * 设置后读取的行（readLinesWithClose）及简单分隔符拆分的key、value经去重池去重；
+	 * 自定义函数可通过getStringPool取得去重池，对拆分出的字段去重。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param stringPool 字符串去重池，null时不去重
+	 */
+	public void setStringPool(@Nullable final StringPool stringPool) {
+		this.stringPool = stringPool;
+	}
+
 	/**
 	 * <pre> 读取元素列表.
 	 * 
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2015/12/20  huangys  Create
+	 * 2026/10/19  huangys  Modify  抽取行过滤
+	 * 2026/10/19  huangys  Modify  基于iterateListWithClose
 	 * </pre>
 	 * 
 	 * @param <T> 元素类型
@@ -189,33 +251,308 @@ public final class IOReader {
 	 */
 	@Nonnull
 	public <T> List<T> readListWithClose(@Nonnull final InputStream is, @Nonnull final Function<String, T> func) {
+		List<T> ret = new ArrayList<>();
+		IOIterator<T> it = iterateListWithClose(is, func);
+		try {
+			while (it.hasNext()) {
+				ret.add(it.next());
+			}
+		} finally {
+			it.close();
+		}
+		return ret;
+	}
+
+	/**
+	 * <pre> 流式读取元素.
+	 * 跳过空行、注释行及空返回值的规则同readListWithClose，但每次只读取并处理一行，内存占用与文件大小无关。
+	 * Map可读取为Pair后逐个处理。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param <T> 元素类型
+	 * @param is 输入流
+	 * @param func 函数
+	 * @return 迭代器，读取完毕时关闭输入流
+	 */
+	@Nonnull
+	public <T> IOIterator<T> iterateListWithClose(@Nonnull final InputStream is, @Nonnull final Function<String, T> func) {
+		final LineIterator lines = openLines(is, func);
+		final boolean skipNull = skipReturnNull;
+		return new IOIterator<T>(is) {
+			@Override
+			T computeNext() {
+				while (lines.hasNext()) {
+					String line = lines.next();
+					if (isSkipped(line)) {
+						continue;
+					}
+					T one = func.apply(line);
+					if (!skipNull || one != null) {
+						return one;
+					}
+				}
+				return endOfData();
+			}
+		};
+	}
+
+	/**
+	 * <pre> 流式读取元素并逐个处理.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param <T> 元素类型
+	 * @param is 输入流
+	 * @param func 函数
+	 * @param consumer 处理
+	 * @return 处理的元素个数
+	 */
+	public <T> long forEachWithClose(@Nonnull final InputStream is, @Nonnull final Function<String, T> func, @Nonnull final Doable<T> consumer) {
+		return forEach(iterateListWithClose(is, func), consumer);
+	}
+
+	/**
+	 * <pre> 逐个处理，结束时关闭迭代器.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param <T> 元素类型
+	 * @param it 迭代器
+	 * @param consumer 处理
+	 * @return 处理的元素个数
+	 */
+	private static <T> long forEach(@Nonnull final IOIterator<T> it, @Nonnull final Doable<T> consumer) {
+		long count = 0;
+		try {
+			Checks.nullThrow(consumer);
+			while (it.hasNext()) {
+				consumer.run(it.next());
+				count++;
+			}
+		} finally {
+			it.close();
+		}
+		return count;
+	}
+
+	/**
+	 * <pre> 校验参数并打开行迭代器，校验失败时关闭输入流.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param is 输入流
+	 * @param func 函数
+	 * @return 行迭代器
+	 */
+	@Nonnull
+	private LineIterator openLines(@Nonnull final InputStream is, @Nonnull final Object func) {
+		try {
+			Checks.nullThrow(is);
+			Checks.nullThrow(func);
+			return IOs.lineIterator(is, charset);
+		} catch (RuntimeException e) {
+			IOs.closeQuietly(is);
+			throw e;
+		}
+	}
+	
+	/**
+	 * <pre> 多线程读取元素列表.
+	 * 当前线程读取行并按批次提交，由parallel个线程执行函数，结果按行的顺序返回。
+	 * 跳过空行、注释行及空返回值的规则同单线程；函数须是线程安全的。
+	 * 同时处理中的批次不超过parallel的2倍，读取快于处理时不会积压全部内容。
+	 * 函数抛出异常时，停止读取并抛出该异常。
+	 * 线程池为本次调用创建（命名的守护线程），结束时关闭；需要复用线程池时使用指定ExecutorService的方法。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * 2026/10/19  huangys  Modify  线程改为命名的守护线程
+	 * </pre>
+	 * 
+	 * @param <T> 元素类型
+	 * @param is 输入流
+	 * @param func 函数
+	 * @param parallel 并发数，为1时在当前线程执行
+	 * @param batchSize 每批行数
+	 * @return 元素列表
+	 */
+	@Nonnull
+	public <T> List<T> readListWithClose(@Nonnull final InputStream is, @Nonnull final Function<String, T> func,
+			final int parallel, final int batchSize) {
+		if (parallel == 1) {
+			return readListWithClose(is, func);
+		}
+		ExecutorService executor = null;
+		try {
+			Checks.matchThrow(parallel <= 0, "The parallel must be positive.");
+			executor = Executors.newFixedThreadPool(parallel, THREAD_FACTORY);
+			return readListWithClose(is, func, executor, parallel, batchSize);
+		} finally {
+			if (executor != null) {
+				executor.shutdownNow();
+			}
+			IOs.closeQuietly(is);
+		}
+	}
+
+	/**
+	 * <pre> 使用指定线程池多线程读取元素列表.
+	 * 规则同readListWithClose(InputStream, Function, int, int)；线程池由调用方管理，本方法不关闭。
+	 * 同时处理中的批次不超过parallel的2倍。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param <T> 元素类型
+	 * @param is 输入流
+	 * @param func 函数
+	 * @param executor 线程池
+	 * @param parallel 并发数（用于限制同时处理中的批次数）
+	 * @param batchSize 每批行数
+	 * @return 元素列表
+	 */
+	@Nonnull
+	public <T> List<T> readListWithClose(@Nonnull final InputStream is, @Nonnull final Function<String, T> func,
+			@Nonnull final ExecutorService executor, final int parallel, final int batchSize) {
 		List<T> ret = null;
+		Deque<Future<List<T>>> pending = new ArrayDeque<>();
 		try {
 			Checks.nullThrow(is);
 			Checks.nullThrow(func);
+			Checks.nullThrow(executor);
+			Checks.matchThrow(parallel <= 0, "The parallel must be positive.");
+			Checks.matchThrow(batchSize <= 0, "The batch size must be positive.");
 			ret = new ArrayList<>();
 			LineIterator it = IOs.lineIterator(is, charset);
+			List<String> batch = new ArrayList<>(batchSize);
 			while (it.hasNext()) {
 				String line = it.next();
-				if (skipBlank && StringUtils.isBlank(line)) {
-					continue;
-				}
-				if (commentPrefix != null && (
-						(commentPrefix.startsWith(" ") && line.startsWith(commentPrefix)) 
-						|| (!commentPrefix.startsWith(" ") && line.trim().startsWith(commentPrefix))
-						)) {
+				if (isSkipped(line)) {
 					continue;
 				}
-				T one = func.apply(line);
-				if (!skipReturnNull || one != null) {
-					ret.add(one);
+				batch.add(line);
+				if (batch.size() == batchSize) {
+					pending.add(executor.submit(applyBatch(batch, func)));
+					batch = new ArrayList<>(batchSize);
+					if (pending.size() >= parallel * 2) {
+						collect(pending.poll(), ret);
+					}
 				}
 			}
+			if (!batch.isEmpty()) {
+				pending.add(executor.submit(applyBatch(batch, func)));
+			}
+			while (!pending.isEmpty()) {
+				collect(pending.poll(), ret);
+			}
 		} finally {
+			// 出错时取消未完成的批次，共用的线程池不被关闭
+			for (Future<List<T>> future : pending) {
+				future.cancel(true);
+			}
 			IOs.closeQuietly(is);
 		}
 		return ret;
 	}
+
+	/**
+	 * <pre> 批次任务：对每行执行函数，按需跳过空返回值.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param <T> 元素类型
+	 * @param batch 行
+	 * @param func 函数
+	 * @return 任务
+	 */
+	@Nonnull
+	private <T> Callable<List<T>> applyBatch(@Nonnull final List<String> batch, @Nonnull final Function<String, T> func) {
+		final boolean skipNull = skipReturnNull;
+		return new Callable<List<T>>() {
+			@Override
+			public List<T> call() {
+				List<T> ret = new ArrayList<>(batch.size());
+				for (String line : batch) {
+					T one = func.apply(line);
+					if (!skipNull || one != null) {
+						ret.add(one);
+					}
+				}
+				return ret;
+			}
+		};
+	}
+
+	/**
+	 * <pre> 等待批次完成并收集结果，函数抛出的异常原样抛出.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param <T> 元素类型
+	 * @param future 批次
+	 * @param ret 结果
+	 */
+	private static <T> void collect(@Nonnull final Future<List<T>> future, @Nonnull final List<T> ret) {
+		try {
+			ret.addAll(future.get());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new RuntimeException(cause);
+		}
+	}
+
+	/**
+	 * <pre> 是否跳过该行（空行、注释行）.
+	 * 注释前缀以空格开头时按原行匹配，否则去除首尾空白后匹配。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param line 行
+	 * @return 是否跳过
+	 */
+	private boolean isSkipped(@Nonnull final String line) {
+		if (skipBlank && StringUtils.isBlank(line)) {
+			return true;
+		}
+		return commentPrefix != null && (
+				(commentPrefix.startsWith(" ") && line.startsWith(commentPrefix)) 
+				|| (!commentPrefix.startsWith(" ") && line.trim().startsWith(commentPrefix))
+				);
+	}
 	
 	private static final Function<String, String> FUNC_DUMMY = new Function<String, String>() {
 		@Override
@@ -229,6 +566,7 @@ public final class IOReader {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2015/12/20  huangys  Create
+	 * 2026/10/19  huangys  Modify  支持字符串去重池
 	 * </pre>
 	 * 
 	 * @param is 输入流
@@ -236,7 +574,47 @@ public final class IOReader {
 	 */
 	@Nonnull
 	public List<String> readLinesWithClose(@Nonnull final InputStream is) {
-		return readListWithClose(is, FUNC_DUMMY);
+		return readListWithClose(is, linesFunc());
+	}
+
+	/**
+	 * <pre> 流式读取行.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param is 输入流
+	 * @return 迭代器，读取完毕时关闭输入流
+	 */
+	@Nonnull
+	public IOIterator<String> iterateLinesWithClose(@Nonnull final InputStream is) {
+		return iterateListWithClose(is, linesFunc());
+	}
+
+	/**
+	 * <pre> 读取行的函数，设置了字符串去重池时去重.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 函数
+	 */
+	@Nonnull
+	private Function<String, String> linesFunc() {
+		final StringPool pool = stringPool;
+		if (pool == null) {
+			return FUNC_DUMMY;
+		}
+		return new Function<String, String>() {
+			@Override
+			public String apply(final String in) {
+				return pool.intern(in);
+			}
+		};
 	}
 	
 	/**
@@ -245,6 +623,8 @@ public final class IOReader {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2015/12/20  huangys  Create
+	 * 2026/10/19  huangys  Modify  抽取行过滤
+	 * 2026/10/19  huangys  Modify  基于iterateListWithClose
 	 * </pre>
 	 * 
 	 * @param <K> Key类型
@@ -256,33 +636,18 @@ public final class IOReader {
 	 */
 	@Nonnull
 	public <K, V> Map<K, V> readMapWithClose(@Nonnull final InputStream is, @Nonnull final Function<String, Pair<K, V>> func, @Nonnull final boolean allowDuplicate) {
-		Map<K, V> ret = null;
+		Map<K, V> ret = new HashMap<>();
+		IOIterator<Pair<K, V>> it = iterateListWithClose(is, func);
 		try {
-			Checks.nullThrow(is);
-			Checks.nullThrow(func);
-			ret = new HashMap<>();
-			LineIterator it = IOs.lineIterator(is, charset);
 			while (it.hasNext()) {
-				String line = it.next();
-				if (skipBlank && StringUtils.isBlank(line)) {
-					continue;
-				}
-				if (commentPrefix != null && (
-						(commentPrefix.startsWith(" ") && line.startsWith(commentPrefix)) 
-						|| (!commentPrefix.startsWith(" ") && line.trim().startsWith(commentPrefix))
-						)) {
-					continue;
-				}
-				Pair<K, V> one = func.apply(line);
-				if (!skipReturnNull || one != null) {
-					if (!allowDuplicate) {
-						Checks.containsThrow(ret, one.getLeft());
-					}
-					ret.put(one.getLeft(), one.getRight());
+				Pair<K, V> one = it.next();
+				if (!allowDuplicate) {
+					Checks.containsThrow(ret, one.getLeft());
 				}
+				ret.put(one.getLeft(), one.getRight());
 			}
 		} finally {
-			IOs.closeQuietly(is);
+			it.close();
 		}
 		return ret;
 	}
@@ -293,6 +658,7 @@ public final class IOReader {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/03/28  huangys  Create
+	 * 2026/10/19  huangys  Modify  支持字符串去重池
 	 * </pre>
 	 * 
 	 * @param is 输入流
@@ -301,11 +667,15 @@ public final class IOReader {
 	 */
 	@Nonnull
 	public Map<String, String> readMapWithCloseSimpleSeparator(@Nonnull final InputStream is, @Nonnull final String separator) {
+		final StringPool pool = stringPool;
 		return readMapWithClose(is, new Function<String, Pair<String, String>>() {
 			@Override
 			public Pair<String, String> apply(final String line) {
 				String[] fields = StringSplit.splitString(line, separator, 2);
-				return Pair.of(fields[0], fields[1]);
+				if (pool == null) {
+					return Pair.of(fields[0], fields[1]);
+				}
+				return Pair.of(pool.intern(fields[0]), pool.intern(fields[1]));
 			}
 		}, true);
 	}
@@ -333,6 +703,8 @@ public final class IOReader {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2015/12/20  huangys  Create
+	 * 2026/10/19  huangys  Modify  抽取行过滤
+	 * 2026/10/19  huangys  Modify  基于iterateGroupWithClose，修正组满后未清空导致重复执行函数
 	 * </pre>
 	 * 
 	 * @param <T> 元素类型
@@ -343,45 +715,87 @@ public final class IOReader {
 	 */
 	@Nonnull
 	public <T> List<T> readGroupWithClose(@Nonnull final InputStream is, @Nonnull final int groupCount, @Nonnull final Function<List<String>, T> func) {
-		List<T> ret = null;
+		List<T> ret = new ArrayList<>();
+		IOIterator<T> it = iterateGroupWithClose(is, groupCount, func);
 		try {
-			Checks.nullThrow(is);
-			Checks.nullThrow(func);
-			ret = new ArrayList<>();
-			LineIterator it = IOs.lineIterator(is, charset);
-			List<String >group = new ArrayList<>();
 			while (it.hasNext()) {
-				String line = it.next();
-				if (skipBlank && StringUtils.isBlank(line)) {
-					continue;
-				}
-				if (commentPrefix != null && (
-						(commentPrefix.startsWith(" ") && line.startsWith(commentPrefix)) 
-						|| (!commentPrefix.startsWith(" ") && line.trim().startsWith(commentPrefix))
-						)) {
-					continue;
-				}
-				group.add(line);
-				if (group.size() == groupCount) {
-					T one = func.apply(group);
-					if (!skipReturnNull || one != null) {
-						ret.add(one);
-					}
-				}
-			}
-			if (group.size() == groupCount) {
-				T one = func.apply(group);
-				if (!skipReturnNull || one != null) {
-					ret.add(one);
-				}
-			} else {
-				Checks.throwException("Lines not enough.");
+				ret.add(it.next());
 			}
 		} finally {
-			IOs.closeQuietly(is);
+			it.close();
 		}
 		return ret;
 	}
+
+	/**
+	 * <pre> 流式按组读取元素.
+	 * 每满groupCount行（跳过空行、注释行后）执行一次函数，每组是新的列表；
+	 * 最后一组不满groupCount行时抛出异常。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param <T> 元素类型
+	 * @param is 输入流
+	 * @param groupCount 每组行数
+	 * @param func 函数
+	 * @return 迭代器，读取完毕时关闭输入流
+	 */
+	@Nonnull
+	public <T> IOIterator<T> iterateGroupWithClose(@Nonnull final InputStream is, @Nonnull final int groupCount, @Nonnull final Function<List<String>, T> func) {
+		if (groupCount <= 0) {
+			IOs.closeQuietly(is);
+			Checks.throwException("The group count must be positive.");
+		}
+		final LineIterator lines = openLines(is, func);
+		final boolean skipNull = skipReturnNull;
+		return new IOIterator<T>(is) {
+			@Override
+			T computeNext() {
+				List<String> group = new ArrayList<>(groupCount);
+				while (lines.hasNext()) {
+					String line = lines.next();
+					if (isSkipped(line)) {
+						continue;
+					}
+					group.add(line);
+					if (group.size() == groupCount) {
+						T one = func.apply(group);
+						if (!skipNull || one != null) {
+							return one;
+						}
+						group = new ArrayList<>(groupCount);
+					}
+				}
+				if (!group.isEmpty()) {
+					Checks.throwException("Lines not enough.");
+				}
+				return endOfData();
+			}
+		};
+	}
+
+	/**
+	 * <pre> 流式按组读取元素并逐个处理.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param <T> 元素类型
+	 * @param is 输入流
+	 * @param groupCount 每组行数
+	 * @param func 函数
+	 * @param consumer 处理
+	 * @return 处理的元素个数
+	 */
+	public <T> long forEachGroupWithClose(@Nonnull final InputStream is, @Nonnull final int groupCount,
+			@Nonnull final Function<List<String>, T> func, @Nonnull final Doable<T> consumer) {
+		return forEach(iterateGroupWithClose(is, groupCount, func), consumer);
+	}
 	
 	/**
 	 * <pre> 按组读取元素列表.
@@ -0,0 +1,449 @@
+/*
+ * Copyright 2026 (C) , All Rights Reserved.
+ * Company: China.
+ * 
+ * Create At 2026/10/19.
+ * 
+ */
+package com.toobye.common.io;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.apache.commons.io.Charsets;
+
+import com.toobye.common.lang.Checks;
+
+/**
+ * <pre> 内存映射的按行读取.
+ * 
+ * 按窗口映射只读文件，在映射的字节上查找换行符，每行以字节区间（文件偏移、长度）表示，
+ * 不经过BufferedReader的字节、字符两次复制；只在调用getLine时解码为字符串，
+ * 按字节过滤（byteAt、startsWith）的行不产生任何对象。适合GB级的只读文件。
+ * 行以\n分隔，行尾的\r去除（\r\n），不支持单独以\r分隔；文件末尾的换行符后不再有行（同LineIterator）。
+ * 字符集须与ASCII兼容（\n编码为单字节0x0A，如UTF-8、GBK），UTF-16等不支持。
+ * 单行超过窗口时扩大窗口，单行不能超过2GB。
+ * 
+ * 按偏移分段读取：行属于其首字节所在的段[start, end)，任意偏移的分段都不会遗漏或重复行；
+ * Files.splitByLines返回对齐到行首的偏移，可按段多线程读取：
+ * long[] splits = Files.splitByLines(file, parallel);
+ * // 第i个线程
+ * try (MappedLineReader reader = MappedLineReader.of(file, "UTF-8", splits[i], splits[i + 1])) {
+ *     while (reader.nextLine()) {
+ *         if (reader.startsWith(prefix)) {
+ *             String line = reader.getLine();
+ *         }
+ *     }
+ * }
+ * 
+ * 非线程安全，每个线程使用各自的实例。
+ * 
+ * Modification History:
+ * Date        Author   Version   Action
+ * 2026/10/19  huangys  v1.0      Create
+ * </pre>
+ * 
+ */
+public final class MappedLineReader implements Closeable {
+
+	/**
+	 * <pre> 映射窗口大小. </pre>
+	 */
+	private static final int WINDOW_SIZE = 1 << 26;
+	private static final byte LF = '\n';
+	private static final byte CR = '\r';
+
+	private final RandomAccessFile raf;
+	private final FileChannel channel;
+	private final Charset charset;
+	private final long fileSize;
+	private final long end;
+
+	private MappedByteBuffer buffer;
+	/**
+	 * <pre> 窗口首字节的文件偏移. </pre>
+	 */
+	private long bufferOffset = 0;
+	/**
+	 * <pre> 下一行的文件偏移. </pre>
+	 */
+	private long pos;
+	private long lineOffset = -1;
+	private int lineLength = 0;
+	private long lineNumber = 0;
+	private byte[] scratch = new byte[256];
+	private boolean closed = false;
+
+	/**
+	 * <pre> 构造器. </pre>
+	 * 
+	 * @param file 文件
+	 * @param charset 字符集
+	 * @param start 起始偏移
+	 * @param end 结束偏移（不含）
+	 */
+	private MappedLineReader(@Nonnull final File file, @Nonnull final Charset charset, final long start, final long end) {
+		this.charset = charset;
+		try {
+			this.raf = new RandomAccessFile(file, "r");
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		this.channel = raf.getChannel();
+		this.fileSize = file.length();
+		this.end = Math.min(end, fileSize);
+		try {
+			this.pos = lineStartAtOrAfter(start);
+		} catch (RuntimeException e) {
+			close();
+			throw e;
+		}
+	}
+
+	/**
+	 * <pre> 读取整个文件.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param file 文件
+	 * @param charset 字符集，null时为默认字符集
+	 * @return 按行读取
+	 */
+	@Nonnull
+	public static MappedLineReader of(@Nonnull final File file, @Nullable final String charset) {
+		return of(file, charset, 0, Long.MAX_VALUE);
+	}
+
+	/**
+	 * <pre> 读取首字节在[start, end)中的行.
+	 * start不在行首时从下一行开始，最后一行超出end时读取完整。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param file 文件
+	 * @param charset 字符集，null时为默认字符集
+	 * @param start 起始偏移
+	 * @param end 结束偏移（不含）
+	 * @return 按行读取
+	 */
+	@Nonnull
+	public static MappedLineReader of(@Nonnull final File file, @Nullable final String charset, final long start, final long end) {
+		Checks.fileNotExistsThrow(file);
+		Checks.matchThrow(start < 0 || end < start, "Illegal range [" + start + ", " + end + ").");
+		Charset cs = Charsets.toCharset(charset);
+		byte[] lf = "\n".getBytes(cs);
+		Checks.matchThrow(lf.length != 1 || lf[0] != LF, "Charset " + cs + " is not ASCII compatible.");
+		return new MappedLineReader(file, cs, start, end);
+	}
+
+	/**
+	 * <pre> 将文件按字节数分为若干段，偏移对齐到行首.
+	 * 返回parts + 1个偏移，第i段为[offsets[i], offsets[i + 1])；行很长时部分段可能为空。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param file 文件
+	 * @param parts 段数
+	 * @return 偏移
+	 */
+	@Nonnull
+	public static long[] split(@Nonnull final File file, final int parts) {
+		Checks.matchThrow(parts <= 0, "The parts must be positive.");
+		try (MappedLineReader reader = of(file, null)) {
+			long[] ret = new long[parts + 1];
+			for (int i = 1; i < parts; i++) {
+				long offset = Math.max(ret[i - 1], reader.fileSize / parts * i);
+				ret[i] = reader.lineStartAtOrAfter(offset);
+			}
+			ret[parts] = reader.fileSize;
+			return ret;
+		}
+	}
+
+	/**
+	 * <pre> 不早于offset的第一个行首.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param offset 偏移
+	 * @return 行首偏移，没有时为文件大小
+	 */
+	private long lineStartAtOrAfter(final long offset) {
+		if (offset <= 0) {
+			return 0;
+		}
+		if (offset >= fileSize) {
+			return fileSize;
+		}
+		// offset - 1处为换行符时offset即为行首
+		long lf = scanLine(offset - 1);
+		return Math.min(lf + 1, fileSize);
+	}
+
+	/**
+	 * <pre> 读取下一行.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 是否有下一行
+	 */
+	public boolean nextLine() {
+		if (closed || pos >= end) {
+			return false;
+		}
+		long lf = scanLine(pos);
+		lineOffset = pos;
+		long length = lf - pos;
+		if (length > 0 && buffer.get((int) (lf - 1 - bufferOffset)) == CR) {
+			length--;
+		}
+		lineLength = (int) length;
+		lineNumber++;
+		pos = lf + 1;
+		return true;
+	}
+
+	/**
+	 * <pre> 从行首查找换行符，保证[lineStart, 换行符)在当前窗口内.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param lineStart 行首偏移
+	 * @return 换行符偏移，没有时为文件大小
+	 */
+	private long scanLine(final long lineStart) {
+		if (buffer == null || lineStart < bufferOffset || lineStart >= bufferOffset + buffer.limit()) {
+			map(lineStart, WINDOW_SIZE);
+		}
+		long from = lineStart;
+		while (true) {
+			int limit = buffer.limit();
+			for (int i = (int) (from - bufferOffset); i < limit; i++) {
+				if (buffer.get(i) == LF) {
+					return bufferOffset + i;
+				}
+			}
+			long windowEnd = bufferOffset + limit;
+			if (windowEnd >= fileSize) {
+				return fileSize;
+			}
+			// 行跨越窗口：从行首重新映射，行比窗口长时扩大窗口
+			long length = windowEnd - lineStart;
+			Checks.matchThrow(length >= Integer.MAX_VALUE, "Line at " + lineStart + " is too long.");
+			from = windowEnd;
+			map(lineStart, Math.max(WINDOW_SIZE, Math.min(length * 2, Integer.MAX_VALUE)));
+		}
+	}
+
+	private void map(final long offset, final long size) {
+		try {
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(size, fileSize - offset));
+			bufferOffset = offset;
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * <pre> 当前行的文件偏移.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 偏移
+	 */
+	public long getLineOffset() {
+		return lineOffset;
+	}
+
+	/**
+	 * <pre> 当前行的字节数（不含换行符）.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 字节数
+	 */
+	public int getLineLength() {
+		return lineLength;
+	}
+
+	/**
+	 * <pre> 已读取的行数（当前行是本段的第几行）.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 行数
+	 */
+	public long getLineNumber() {
+		return lineNumber;
+	}
+
+	/**
+	 * <pre> 当前行的第index个字节.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param index 位置
+	 * @return 字节
+	 */
+	public byte byteAt(final int index) {
+		if (index < 0 || index >= lineLength) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + lineLength);
+		}
+		return buffer.get(lineStartInBuffer() + index);
+	}
+
+	/**
+	 * <pre> 当前行是否以指定字节开头.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param prefix 前缀
+	 * @return 是否
+	 */
+	public boolean startsWith(@Nonnull final byte[] prefix) {
+		Checks.nullThrow(prefix);
+		if (prefix.length > lineLength) {
+			return false;
+		}
+		int base = lineStartInBuffer();
+		for (int i = 0; i < prefix.length; i++) {
+			if (buffer.get(base + i) != prefix[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * <pre> 当前行的只读字节视图（不复制），读取下一行后失效.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 字节视图
+	 */
+	@Nonnull
+	public ByteBuffer getLineBuffer() {
+		checkLine();
+		ByteBuffer ret = buffer.duplicate();
+		int base = lineStartInBuffer();
+		ret.limit(base + lineLength).position(base);
+		return ret.slice();
+	}
+
+	/**
+	 * <pre> 当前行的字节.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 字节
+	 */
+	@Nonnull
+	public byte[] getLineBytes() {
+		byte[] ret = new byte[lineLength];
+		copyLine(ret);
+		return ret;
+	}
+
+	/**
+	 * <pre> 当前行解码后的字符串.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 行
+	 */
+	@Nonnull
+	public String getLine() {
+		if (scratch.length < lineLength) {
+			scratch = new byte[Math.max(lineLength, scratch.length * 2)];
+		}
+		copyLine(scratch);
+		return new String(scratch, 0, lineLength, charset);
+	}
+
+	private void copyLine(@Nonnull final byte[] dst) {
+		checkLine();
+		ByteBuffer src = buffer.duplicate();
+		src.position(lineStartInBuffer());
+		src.get(dst, 0, lineLength);
+	}
+
+	private int lineStartInBuffer() {
+		checkLine();
+		return (int) (lineOffset - bufferOffset);
+	}
+
+	private void checkLine() {
+		Checks.matchThrow(closed || lineOffset < 0, "No current line.");
+	}
+
+	/**
+	 * <pre> 关闭文件，之后nextLine返回false.
+	 * 映射的内存在垃圾回收时释放。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 */
+	@Override
+	public void close() {
+		if (!closed) {
+			closed = true;
+			buffer = null;
+			IOs.closeQuietly(channel);
+			IOs.closeQuietly(raf);
+		}
+	}
+
+}
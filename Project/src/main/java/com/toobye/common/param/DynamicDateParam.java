@@ -7,16 +7,23 @@
  */
 package com.toobye.common.param;
 
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
+import com.google.common.cache.CacheBuilder;
 import com.toobye.common.dbenums.Freq;
 import com.toobye.common.lang.Checks;
+import com.toobye.common.lang.Objects;
 import com.toobye.common.string.StringUtils;
 import com.toobye.common.time.DateFormat;
+import com.toobye.common.time.DateFormatter;
 import com.toobye.common.time.DatePeriod;
 
 /**
@@ -38,6 +45,9 @@ import com.toobye.common.time.DatePeriod;
  * Modification History:
  * Date        Author   Version   Action
  * 2016/04/29  huangys  v1.0      Create
+ * 2026/10/19  huangys  v1.1      预编译为表达式树，不再使用正则，并缓存计算结果
+ * 2026/10/19  huangys  v1.2      计算结果及格式化随默认时区变化
+ * 2026/10/19  huangys  v1.3      表达式缓存改为按最近最少使用淘汰
  * </pre>
  * 
  */
@@ -45,12 +55,32 @@ public final class DynamicDateParam {
 	
 	private DynamicDateParam() { }
 	
+	/**
+	 * <pre> 缓存的表达式数上限，超出后按最近最少使用淘汰（同PatternCache）. </pre>
+	 */
+	private static final int MAX_CACHE_SIZE = 4096;
+	/**
+	 * <pre> Cache. </pre>
+	 */
+	private static final ConcurrentMap<String, Expression> EXPRESSION_MAP = CacheBuilder.newBuilder()
+			.maximumSize(MAX_CACHE_SIZE)
+			.<String, Expression>build()
+			.asMap();
+	/**
+	 * <pre> 每个表达式缓存的计算结果数. </pre>
+	 */
+	private static final int MEMO_SIZE = 8;
+	
 	/**
 	 * <pre> 计算动态时间变量.
+	 * 表达式只解析一次，由内向外逐层计算；
+	 * 相同表达式在相同的最内层时间、频率、频率详细设置及默认时区下直接返回上次的计算结果（SYSDATE除外）。
 	 * 
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2016/04/29  huangys  Create
+	 * 2026/10/19  huangys  改为表达式树计算，并缓存计算结果
+	 * 2026/10/19  huangys  Modify  计算结果缓存按默认时区区分
 	 * </pre>
 	 * 
 	 * @param dynamicDateParam 动态时间参数
@@ -63,89 +93,215 @@ public final class DynamicDateParam {
 	public static String calculate(@Nonnull final String dynamicDateParam, @Nullable final Map<String, Date> dateParamMap, @Nonnull final Date date, @Nonnull final Freq freq, @Nullable final String freqDetail) {
 		Checks.nullThrow(dynamicDateParam);
 		Checks.nullThrow(date);
-		String param = dynamicDateParam;
-		String placeholder = "[[[]]]";
-		// 从最内层向最外层展开
-		// 获取最内层
-		String innermostPart = ParamCatcher.catchDynamicDateParamInnermostPart(param);
-		// 拆解信息
-		Info info = parse(innermostPart);
-		// 首层时间处理
-		Checks.nullThrow(info.date, "Date cannot be null(" + dynamicDateParam + ").");
-		Date time = info.date.equals("INPUTDATE") ? date : (info.date.equals("SYSDATE") ? new Date() : dateParamMap.get(info.date));
-		Checks.nullThrow(time, "Cannot found date param(" + info.date + ").");
-		time = getTime(info, time, freq, freqDetail);
-		// 是否为最外层
-		if (param.equals(innermostPart)) {
-			if (info.format == null) {
-				return DateFormat.getDetail(time);
-			} else {
-				return DateFormat.get(time, info.format);
-			}
+		Expression exp = compile(dynamicDateParam);
+		// 最内层时间
+		Expression innermost = exp;
+		while (innermost.source != null) {
+			innermost = innermost.source;
 		}
-		// 非最外层，Format必须为Null
-		Checks.notNullThrow(info.format, "Format must be null except the outermost part(" + dynamicDateParam + ").");
-		param = param.replace(innermostPart, placeholder);
-		while (true) {
-			// 获取最内层
-			innermostPart = ParamCatcher.catchDynamicDateParamInnermostPart(param);
-			// 拆解信息
-			info = parse(innermostPart);
-			// 时间校验
-			Checks.notMatchThrow(info.date.equals(placeholder), "Date must be from uplevel except the innermost part(" + dynamicDateParam + ").");
-			time = getTime(info, time, freq, freqDetail);
-			// 是否为最外层
-			if (param.equals(innermostPart)) {
-				if (info.format == null) {
-					return DateFormat.getDetail(time);
-				} else {
-					return DateFormat.get(time, info.format);
-				}
+		Date time = innermost.date.equals("INPUTDATE") ? date : (innermost.date.equals("SYSDATE") ? new Date() : dateParamMap.get(innermost.date));
+		Checks.nullThrow(time, "Cannot found date param(" + innermost.date + ").");
+		long ms = time.getTime();
+		boolean memorable = !innermost.date.equals("SYSDATE");
+		// DatePeriod及格式化均按默认时区
+		String zone = memorable ? TimeZone.getDefault().getID() : null;
+		if (memorable) {
+			String ret = exp.getMemo(ms, freq, freqDetail, zone);
+			if (ret != null) {
+				return ret;
 			}
-			Checks.notNullThrow(info.format, "Format must be null except the outermost part(" + dynamicDateParam + ").");
-			param = param.replace(innermostPart, placeholder);
 		}
+		String ret = exp.evaluate(ms, freq, freqDetail);
+		if (memorable) {
+			exp.putMemo(ms, freq, freqDetail, zone, ret);
+		}
+		return ret;
 	}
 	
-	private static Date getTime(@Nonnull final Info info, @Nonnull final Date date, @Nonnull final Freq freq, @Nullable final String freqDetail) {
-		return DatePeriod.get(date,
-					info.freq == null ? freq : info.freq,
-					info.freq == null ? freqDetail : info.freqDetail,
-					info.shifting);
+	/**
+	 * <pre> 获得预编译的表达式. </pre>
+	 */
+	@Nonnull
+	private static Expression compile(@Nonnull final String dynamicDateParam) {
+		Expression exp = EXPRESSION_MAP.get(dynamicDateParam);
+		if (exp == null) {
+			exp = parse(dynamicDateParam, dynamicDateParam, true);
+			Expression exists = EXPRESSION_MAP.putIfAbsent(dynamicDateParam, exp);
+			if (exists != null) {
+				exp = exists;
+			}
+		}
+		return exp;
 	}
-
-	private static Info parse(@Nonnull final String part) {
+	
+	/**
+	 * <pre> 解析表达式，首个字段为${...}时递归解析为内层表达式. </pre>
+	 */
+	@Nonnull
+	private static Expression parse(@Nonnull final String part, @Nonnull final String dynamicDateParam, final boolean outermost) {
+		if (!part.startsWith("${") || !part.endsWith("}")) {
+			throw new RuntimeException("Part(" + part + ") syntax error.");
+		}
 		// 拆解信息
-		String[] fields = part.substring(2, part.length() - 1).split("\\|\\|");
-		if (fields.length != 4 && fields.length != 5) {
+		List<String> fields = split(part, 2, part.length() - 1);
+		if (fields.size() != 4 && fields.size() != 5) {
 			throw new RuntimeException("Part(" + part + ") syntax error.");
 		}
-		Info info = new Info();
-		info.date = StringUtils.isBlank(fields[0]) ? null : fields[0].trim();
-		info.freq = StringUtils.isBlank(fields[1]) ? null : Freq.valueOfSupper(fields[1].trim());
-		info.freqDetail = StringUtils.isBlank(fields[2]) ? null : fields[2].trim();
-		info.shifting = Integer.parseInt(fields[3].trim());
-		if (fields.length == 5) {
-			info.format = StringUtils.isBlank(fields[4]) ? null : fields[4].trim();
+		for (int i = 1; i < fields.size(); i++) {
+			if (fields.get(i).indexOf('{') >= 0 || fields.get(i).indexOf('}') >= 0) {
+				throw new RuntimeException("Part(" + part + ") syntax error.");
+			}
+		}
+		String first = fields.get(0).trim();
+		Expression source = null;
+		String date = null;
+		if (first.startsWith("${")) {
+			source = parse(first, dynamicDateParam, false);
+		} else {
+			Checks.matchThrow(first.indexOf('{') >= 0 || first.indexOf('}') >= 0, "Part(" + part + ") syntax error.");
+			date = StringUtils.isBlank(first) ? null : first;
+			// 首层时间处理
+			Checks.nullThrow(date, "Date cannot be null(" + dynamicDateParam + ").");
+		}
+		Freq freq = StringUtils.isBlank(fields.get(1)) ? null : Freq.valueOfSupper(fields.get(1).trim());
+		String freqDetail = StringUtils.isBlank(fields.get(2)) ? null : fields.get(2).trim();
+		int shifting = Integer.parseInt(fields.get(3).trim());
+		String format = null;
+		if (fields.size() == 5) {
+			format = StringUtils.isBlank(fields.get(4)) ? null : fields.get(4).trim();
+		}
+		// 非最外层，Format必须为Null
+		if (!outermost) {
+			Checks.notNullThrow(format, "Format must be null except the outermost part(" + dynamicDateParam + ").");
+		}
+		return new Expression(source, date, freq, freqDetail, shifting, format);
+	}
+	
+	/**
+	 * <pre> 按最外层（不在{}中）的"||"拆分[from, to)部分，同String.split忽略末尾的空字段. </pre>
+	 */
+	@Nonnull
+	private static List<String> split(@Nonnull final String str, final int from, final int to) {
+		List<String> fields = new ArrayList<String>();
+		int depth = 0;
+		int start = from;
+		for (int i = from; i < to; i++) {
+			char c = str.charAt(i);
+			if (c == '{') {
+				depth++;
+			} else if (c == '}') {
+				depth--;
+			} else if (c == '|' && depth == 0 && i + 1 < to && str.charAt(i + 1) == '|') {
+				fields.add(str.substring(start, i));
+				i++;
+				start = i + 1;
+			}
+		}
+		fields.add(str.substring(start, to));
+		while (!fields.isEmpty() && fields.get(fields.size() - 1).isEmpty()) {
+			fields.remove(fields.size() - 1);
 		}
-		return info;
+		return fields;
 	}
 
 	/**
-	 * <pre> 中间信息.
+	 * <pre> 表达式（一层），不可变（计算结果缓存除外）.
 	 * 
 	 * Modification History:
 	 * Date        Author   Version   Action
 	 * 2016/04/29  huangys  v1.0      Create
+	 * 2026/10/19  huangys  v1.1      改为表达式树
 	 * </pre>
 	 * 
 	 */
-	private static class Info {
-		public String date;
-		public Freq freq;
-		public String freqDetail;
-		public int shifting;
-		public String format;
+	private static final class Expression {
+		/**
+		 * <pre> 内层表达式，为空时为最内层. </pre>
+		 */
+		private final Expression source;
+		/**
+		 * <pre> 最内层的预定义时间参数. </pre>
+		 */
+		private final String date;
+		private final Freq freq;
+		private final String freqDetail;
+		private final int shifting;
+		/**
+		 * <pre> 返回格式，计算时按当前默认时区取格式化器. </pre>
+		 */
+		private final String format;
+		/**
+		 * <pre> 计算结果缓存，槽位中为不可变对象. </pre>
+		 */
+		private final Memo[] memos = new Memo[MEMO_SIZE];
+
+		private Expression(@Nullable final Expression source, @Nullable final String date, @Nullable final Freq freq, @Nullable final String freqDetail, final int shifting, @Nullable final String format) {
+			this.source = source;
+			this.date = date;
+			this.freq = freq;
+			this.freqDetail = freqDetail;
+			this.shifting = shifting;
+			this.format = format == null ? DateFormat.DETAIL : format;
+		}
+
+		/**
+		 * <pre> 由内向外计算，ms为最内层时间. </pre>
+		 */
+		@Nonnull
+		private String evaluate(final long ms, @Nullable final Freq defaultFreq, @Nullable final String defaultFreqDetail) {
+			return DateFormatter.of(format).format(getTime(ms, defaultFreq, defaultFreqDetail));
+		}
+
+		private long getTime(final long ms, @Nullable final Freq defaultFreq, @Nullable final String defaultFreqDetail) {
+			long time = source == null ? ms : source.getTime(ms, defaultFreq, defaultFreqDetail);
+			return DatePeriod.get(time,
+						freq == null ? defaultFreq : freq,
+						freq == null ? defaultFreqDetail : freqDetail,
+						shifting);
+		}
+
+		@Nullable
+		private String getMemo(final long ms, @Nullable final Freq defaultFreq, @Nullable final String defaultFreqDetail, @Nonnull final String zone) {
+			Memo memo = memos[Memo.index(ms)];
+			if (memo != null && memo.ms == ms && memo.freq == defaultFreq && Objects.equals(memo.freqDetail, defaultFreqDetail)
+					&& memo.zone.equals(zone)) {
+				return memo.result;
+			}
+			return null;
+		}
+
+		private void putMemo(final long ms, @Nullable final Freq defaultFreq, @Nullable final String defaultFreqDetail, @Nonnull final String zone, @Nonnull final String result) {
+			memos[Memo.index(ms)] = new Memo(ms, defaultFreq, defaultFreqDetail, zone, result);
+		}
+	}
+
+	/**
+	 * <pre> 计算结果，不可变. </pre>
+	 */
+	private static final class Memo {
+		private final long ms;
+		private final Freq freq;
+		private final String freqDetail;
+		/**
+		 * <pre> 计算时的默认时区ID. </pre>
+		 */
+		private final String zone;
+		private final String result;
+
+		private Memo(final long ms, @Nullable final Freq freq, @Nullable final String freqDetail, @Nonnull final String zone, @Nonnull final String result) {
+			this.ms = ms;
+			this.freq = freq;
+			this.freqDetail = freqDetail;
+			this.zone = zone;
+			this.result = result;
+		}
+
+		/**
+		 * <pre> 槽位下标，时间多为整秒（低位为0），故取散列后的高位. </pre>
+		 */
+		private static int index(final long ms) {
+			return ((int) (ms ^ (ms >>> 32)) * 0x9E3779B9) >>> 29;
+		}
 	}
 	
 }
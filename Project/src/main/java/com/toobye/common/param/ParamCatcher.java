@@ -8,6 +8,7 @@
 package com.toobye.common.param;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -15,14 +16,18 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import com.toobye.common.string.StringArray;
-import com.toobye.common.string.StringRE;
 
 /**
  * <pre> 参数捕获器.
  * 
+ * 一次线性扫描字符串，按括号层级配对${...}，同时捕获普通参数及动态时间参数（嵌套层数不限），
+ * 结果为位置（ParamSpan），调用方可直接按位置拼接，无需再次查找。
+ * 
  * Modification History:
  * Date        Author   Version   Action
  * 2016/04/29  huangys  v1.0      Create
+ * 2026/10/19  huangys  v1.1      改为单次扫描，不再使用生成的嵌套正则表达式
+ * 2026/10/19  huangys  v1.2      增加wholeSpan，供ParamTemplate按同一语法判断参数类型
  * </pre>
  * 
  */
@@ -39,7 +44,8 @@ public final class ParamCatcher {
 	
 	/**
 	 * <pre> 动态时间参数.
-	 * 可以嵌套所有字符，目前JAVA的正则表达式还不支持平衡组，故程序中设定嵌套最多5层。
+	 * 可以嵌套所有字符，目前JAVA的正则表达式还不支持平衡组，故正则表达式中设定嵌套最多5层。
+	 * 捕获方法已改为扫描实现（嵌套层数不限），此正则表达式仅为兼容保留。
 	 * </pre>
 	 * @see DynamicDateParam
 	 */
@@ -67,12 +73,152 @@ public final class ParamCatcher {
 		DYNAMIC_DATE_PARAM_INNERMOST_PART_REGEX = list.get(0);
 	}
 	
+	/**
+	 * <pre> 扫描过程中一对括号的状态. </pre>
+	 */
+	private static final class Frame {
+		/**
+		 * <pre> ${的位置，为-1时为普通的{. </pre>
+		 */
+		private final int start;
+		/**
+		 * <pre> 在结果列表中预留的下标. </pre>
+		 */
+		private final int index;
+		/**
+		 * <pre> 最外层"||"分隔符数. </pre>
+		 */
+		private int separators;
+		private boolean hasPipe;
+		private boolean hasBrace;
+		/**
+		 * <pre> 是否符合动态时间参数的结构：仅首个字段可以（且必须完整地）为内层动态时间参数. </pre>
+		 */
+		private boolean dynamicShape = true;
+		/**
+		 * <pre> 首个字段为内层动态时间参数时，其结束位置及结果下标. </pre>
+		 */
+		private int childEnd = -1;
+		private int childIndex = -1;
+
+		private Frame(final int start, final int index) {
+			this.start = start;
+			this.index = index;
+		}
+	}
+
+	/**
+	 * <pre> 捕获所有参数的位置.
+	 * 按起始位置排序，包括嵌套在其他参数中的参数（如${TABLE_${ENV}}中的${ENV}、动态时间参数的内层表达式）。
+	 * 普通参数为${ID}，其中标识ID可以使用除"{}|"外所有字符；
+	 * 动态时间参数为${...||...||...||...}，至少3个"||"分隔符，仅首个字段可以为内层动态时间参数，嵌套层数不限。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 字符串
+	 * @return 参数位置
+	 */
+	@Nonnull
+	public static List<ParamSpan> catchSpans(@Nullable final CharSequence str) {
+		List<ParamSpan> spans = new ArrayList<>();
+		if (str == null) {
+			return spans;
+		}
+		List<Frame> stack = new ArrayList<>();
+		int length = str.length();
+		for (int i = 0; i < length; i++) {
+			char c = str.charAt(i);
+			Frame top = stack.isEmpty() ? null : stack.get(stack.size() - 1);
+			if (c == '{' || c == '$' && i + 1 < length && str.charAt(i + 1) == '{') {
+				if (top != null) {
+					top.hasBrace = true;
+				}
+				if (c == '$') {
+					stack.add(new Frame(i, spans.size()));
+					// 预留位置，保证结果按起始位置排序
+					spans.add(null);
+					i++;
+				} else {
+					stack.add(new Frame(-1, -1));
+				}
+			} else if (c == '}') {
+				if (top == null) {
+					continue;
+				}
+				stack.remove(stack.size() - 1);
+				Frame parent = stack.isEmpty() ? null : stack.get(stack.size() - 1);
+				boolean dynamicDate = false;
+				if (top.start >= 0) {
+					boolean common = !top.hasBrace && !top.hasPipe && i > top.start + 2;
+					dynamicDate = top.separators >= 3 && top.dynamicShape;
+					if (common || dynamicDate) {
+						spans.set(top.index, new ParamSpan(top.start, i + 1, dynamicDate, false));
+					}
+					if (dynamicDate && top.childIndex >= 0) {
+						ParamSpan child = spans.get(top.childIndex);
+						spans.set(top.childIndex, new ParamSpan(child.getStart(), child.getEnd(), true, true));
+					}
+				}
+				if (parent != null) {
+					if (parent.separators == 0 && dynamicDate && top.start == parent.start + 2) {
+						parent.childEnd = i + 1;
+						parent.childIndex = top.index;
+					} else {
+						parent.dynamicShape = false;
+					}
+				}
+			} else if (c == '|' && top != null) {
+				top.hasPipe = true;
+				if (i + 1 < length && str.charAt(i + 1) == '|') {
+					if (top.separators == 0 && top.childEnd >= 0 && top.childEnd != i) {
+						top.dynamicShape = false;
+					}
+					top.separators++;
+					i++;
+				}
+			}
+		}
+		List<ParamSpan> ret = new ArrayList<>(spans.size());
+		for (ParamSpan span : spans) {
+			if (span != null) {
+				ret.add(span);
+			}
+		}
+		return ret;
+	}
+	
+	/**
+	 * <pre> 整个字符串恰为一个参数（普通参数或动态时间参数）时返回其位置，否则返回null.
+	 * ParamTemplate据此判断${...}的类型，保证与catchSpans的语法一致。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 字符串
+	 * @return 参数位置
+	 */
+	@Nullable
+	static ParamSpan wholeSpan(@Nonnull final CharSequence str) {
+		List<ParamSpan> spans = catchSpans(str);
+		// 按起始位置排序，最外层参数在前
+		if (!spans.isEmpty() && spans.get(0).getStart() == 0 && spans.get(0).getEnd() == str.length()) {
+			return spans.get(0);
+		}
+		return null;
+	}
+	
 	/**
 	 * <pre> 捕获普通参数集合.
 	 * 
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2016/04/29  huangys  Create
+	 * 2026/10/19  huangys  Modify 改为扫描实现
 	 * </pre>
 	 * 
 	 * @param str 字符串
@@ -80,15 +226,22 @@ public final class ParamCatcher {
 	 */
 	@Nonnull
 	public static Set<String> catchCommonParamSet(@Nullable final String str) {
-		return StringRE.getSet(str, COMMON_PARAM_REGEX);
+		Set<String> ret = new HashSet<>();
+		for (ParamSpan span : catchSpans(str)) {
+			if (!span.isDynamicDate()) {
+				ret.add(span.getText(str));
+			}
+		}
+		return ret;
 	}
 	
 	/**
-	 * <pre> 捕获动态时间参数集合.
+	 * <pre> 捕获动态时间参数集合（最外层）.
 	 * 
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2016/04/29  huangys  Create
+	 * 2026/10/19  huangys  Modify 改为扫描实现
 	 * </pre>
 	 * 
 	 * @param str 字符串
@@ -96,23 +249,38 @@ public final class ParamCatcher {
 	 */
 	@Nonnull
 	public static Set<String> catchDynamicDateParamSet(@Nullable final String str) {
-		return StringRE.getSet(str, DYNAMIC_DATE_PARAM_REGEX);
+		Set<String> ret = new HashSet<>();
+		for (ParamSpan span : catchSpans(str)) {
+			if (span.isDynamicDate() && !span.isNested()) {
+				ret.add(span.getText(str));
+			}
+		}
+		return ret;
 	}
 	
 	/**
-	 * <pre> 捕获动态时间参数集合.
+	 * <pre> 捕获首个最内层的动态时间参数.
 	 * 
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2016/04/29  huangys  Create
+	 * 2026/10/19  huangys  Modify 改为扫描实现
 	 * </pre>
 	 * 
 	 * @param str 字符串
-	 * @return 动态时间参数集合
+	 * @return 动态时间参数
 	 */
-	@Nonnull
+	@Nullable
 	public static String catchDynamicDateParamInnermostPart(@Nullable final String str) {
-		return StringRE.getOne(str, DYNAMIC_DATE_PARAM_INNERMOST_PART_REGEX);
+		for (ParamSpan span : catchSpans(str)) {
+			if (span.isDynamicDate()) {
+				int brace = str.indexOf('{', span.getStart() + 2);
+				if (brace < 0 || brace >= span.getEnd()) {
+					return span.getText(str);
+				}
+			}
+		}
+		return null;
 	}
 	
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 (C) , All Rights Reserved.
+ * Company: China.
+ * 
+ * Create At 2026/10/19.
+ * 
+ */
+package com.toobye.common.param;
+
+import javax.annotation.Nonnull;
+
+/**
+ * <pre> 参数在字符串中的位置，不可变.
+ * 位置为[start, end)，包含${及}。
+ * 
+ * Modification History:
+ * Date        Author   Version   Action
+ * 2026/10/19  huangys  v1.0      Create
+ * </pre>
+ * 
+ */
+public final class ParamSpan {
+
+	private final int start;
+	private final int end;
+	private final boolean dynamicDate;
+	/**
+	 * <pre> 是否嵌套在动态时间参数中. </pre>
+	 */
+	private final boolean nested;
+
+	ParamSpan(final int start, final int end, final boolean dynamicDate, final boolean nested) {
+		this.start = start;
+		this.end = end;
+		this.dynamicDate = dynamicDate;
+		this.nested = nested;
+	}
+
+	/**
+	 * <pre> 起始位置（$的位置）.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 起始位置
+	 */
+	public int getStart() {
+		return start;
+	}
+
+	/**
+	 * <pre> 结束位置（}之后的位置）.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 结束位置
+	 */
+	public int getEnd() {
+		return end;
+	}
+
+	/**
+	 * <pre> 是否为动态时间参数，否则为普通参数.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 是否为动态时间参数
+	 */
+	public boolean isDynamicDate() {
+		return dynamicDate;
+	}
+
+	/**
+	 * <pre> 是否嵌套在动态时间参数中（作为其内层表达式）.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 是否嵌套
+	 */
+	public boolean isNested() {
+		return nested;
+	}
+
+	/**
+	 * <pre> 获得参数文本.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 捕获参数时的字符串
+	 * @return 参数文本
+	 */
+	@Nonnull
+	public String getText(@Nonnull final CharSequence str) {
+		return str.subSequence(start, end).toString();
+	}
+
+	@Override
+	public String toString() {
+		return (dynamicDate ? "DynamicDate" : "Common") + "[" + start + ", " + end + ")";
+	}
+
+}
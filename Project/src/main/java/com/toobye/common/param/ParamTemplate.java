@@ -0,0 +1,383 @@
+/*
+ * Copyright 2026 (C) , All Rights Reserved.
+ * Company: China.
+ * 
+ * Create At 2026/10/19.
+ * 
+ */
+package com.toobye.common.param;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.google.common.cache.CacheBuilder;
+import com.toobye.common.dbenums.Freq;
+import com.toobye.common.lang.Checks;
+
+/**
+ * <pre> 预编译的参数模板.
+ * 
+ * 模板字符串只解析一次（按字符串缓存），编译为由文本、普通参数${ID}及动态时间参数组成的节点列表，
+ * 渲染时一次遍历写入StringBuilder，不再反复正则扫描及替换整个字符串。
+ * 参数值中含有参数时递归展开，展开路径上出现重复参数即视为死循环并报错。
+ * 嵌套在${}中的参数先展开，再按展开后的内容判断为普通参数（如${TABLE_${ENV}}）、动态时间参数或普通文本。
+ * 参数的语法（普通参数、动态时间参数的判断）与ParamCatcher.catchSpans一致。
+ * 
+ * Modification History:
+ * Date        Author   Version   Action
+ * 2026/10/19  huangys  v1.0      Create
+ * 2026/10/19  huangys  v1.1      模板缓存改为按最近最少使用淘汰
+ * 2026/10/19  huangys  v1.2      参数类型改由ParamCatcher判断，两者语法一致
+ * </pre>
+ * 
+ */
+public final class ParamTemplate {
+
+	/**
+	 * <pre> 缓存的模板数上限，超出后按最近最少使用淘汰（同PatternCache）. </pre>
+	 */
+	private static final int MAX_CACHE_SIZE = 4096;
+	/**
+	 * <pre> Cache. </pre>
+	 */
+	private static final ConcurrentMap<String, ParamTemplate> TEMPLATE_MAP = CacheBuilder.newBuilder()
+			.maximumSize(MAX_CACHE_SIZE)
+			.<String, ParamTemplate>build()
+			.asMap();
+
+	private static final int LITERAL = 0;
+	private static final int REF = 1;
+	private static final int DYNAMIC = 2;
+	private static final int GROUP = 3;
+
+	/**
+	 * <pre> 模板节点，不可变.
+	 * LITERAL：text为文本；
+	 * REF：text为参数（${ID}，即参数对中的键）；
+	 * DYNAMIC：text为动态时间参数表达式；
+	 * GROUP：含嵌套参数的${}，children为括号内的节点，渲染时按展开后的内容判断类型。
+	 * </pre>
+	 */
+	private static final class Node {
+		private final int kind;
+		private final String text;
+		private final Node[] children;
+
+		private Node(final int kind, @Nonnull final String text, @Nullable final Node[] children) {
+			this.kind = kind;
+			this.text = text;
+			this.children = children;
+		}
+	}
+
+	/**
+	 * <pre> 渲染上下文. </pre>
+	 */
+	private static final class Context {
+		private final String source;
+		private final Map<String, String> paramMap;
+		private final Map<String, Date> dateParamMap;
+		private final Date date;
+		private final Freq freq;
+		private final String freqDetail;
+		/**
+		 * <pre> 正在展开的参数，用于检查死循环. </pre>
+		 */
+		private final Set<String> expanding = new HashSet<String>();
+
+		private Context(@Nonnull final String source, @Nullable final Map<String, String> paramMap, @Nullable final Map<String, Date> dateParamMap, @Nullable final Date date, @Nullable final Freq freq, @Nullable final String freqDetail) {
+			this.source = source;
+			this.paramMap = paramMap;
+			this.dateParamMap = dateParamMap;
+			this.date = date;
+			this.freq = freq;
+			this.freqDetail = freqDetail;
+		}
+	}
+
+	private final String source;
+	private final Node[] nodes;
+	/**
+	 * <pre> 是否不含任何参数. </pre>
+	 */
+	private final boolean plain;
+
+	private ParamTemplate(@Nonnull final String source) {
+		this.source = source;
+		this.nodes = compile(source, 0, source.length());
+		this.plain = nodes.length == 0 || nodes.length == 1 && nodes[0].kind == LITERAL;
+	}
+
+	/**
+	 * <pre> 获得预编译的参数模板.
+	 * 相同的模板字符串只编译一次。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param source 模板字符串
+	 * @return 参数模板
+	 */
+	@Nonnull
+	public static ParamTemplate of(@Nonnull final String source) {
+		Checks.nullThrow(source);
+		ParamTemplate template = TEMPLATE_MAP.get(source);
+		if (template == null) {
+			template = new ParamTemplate(source);
+			ParamTemplate exists = TEMPLATE_MAP.putIfAbsent(source, template);
+			if (exists != null) {
+				template = exists;
+			}
+		}
+		return template;
+	}
+
+	/**
+	 * <pre> 获得模板字符串.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 模板字符串
+	 */
+	@Nonnull
+	public String getSource() {
+		return source;
+	}
+
+	/**
+	 * <pre> 转化参数.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param paramMap 参数对
+	 * @return 转化后字符串
+	 */
+	@Nonnull
+	public String render(@Nullable final Map<String, String> paramMap) {
+		return render(paramMap, null, null, null, null);
+	}
+
+	/**
+	 * <pre> 转化参数含动态时间参数.
+	 * 时间为空时不转化动态时间参数。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param paramMap 参数对
+	 * @param dateParamMap 时间参数Map
+	 * @param date 时间
+	 * @param freq 频率
+	 * @param freqDetail 频率详细设置
+	 * @return 转化后字符串
+	 */
+	@Nonnull
+	public String render(@Nullable final Map<String, String> paramMap, @Nullable final Map<String, Date> dateParamMap, @Nullable final Date date, @Nullable final Freq freq, @Nullable final String freqDetail) {
+		if (plain) {
+			return source;
+		}
+		StringBuilder sb = new StringBuilder(source.length() + 64);
+		render(nodes, new Context(source, paramMap, dateParamMap, date, freq, freqDetail), sb);
+		return sb.toString();
+	}
+
+	/**
+	 * <pre> 编译模板字符串的[from, to)部分. </pre>
+	 */
+	@Nonnull
+	private static Node[] compile(@Nonnull final String str, final int from, final int to) {
+		List<Node> list = new ArrayList<Node>();
+		int literalStart = from;
+		int i = from;
+		while (i < to - 1) {
+			if (str.charAt(i) != '$' || str.charAt(i + 1) != '{') {
+				i++;
+				continue;
+			}
+			int close = findClose(str, i + 2, to);
+			if (close < 0) {
+				i++;
+				continue;
+			}
+			if (literalStart < i) {
+				list.add(new Node(LITERAL, str.substring(literalStart, i), null));
+			}
+			list.add(compileGroup(str, i, close));
+			i = close + 1;
+			literalStart = i;
+		}
+		if (literalStart < to) {
+			list.add(new Node(LITERAL, str.substring(literalStart, to), null));
+		}
+		return list.toArray(new Node[list.size()]);
+	}
+
+	/**
+	 * <pre> 编译${...}，start为$的位置，close为对应}的位置. </pre>
+	 */
+	@Nonnull
+	private static Node compileGroup(@Nonnull final String str, final int start, final int close) {
+		String text = str.substring(start, close + 1);
+		boolean nested = false;
+		for (int i = start + 2; i < close; i++) {
+			char c = str.charAt(i);
+			if (c == '{' || c == '}') {
+				nested = true;
+				break;
+			}
+		}
+		if (nested) {
+			Node[] children = compile(str, start + 2, close);
+			boolean literal = true;
+			for (Node child : children) {
+				if (child.kind != LITERAL) {
+					literal = false;
+					break;
+				}
+			}
+			if (!literal) {
+				return new Node(GROUP, text, children);
+			}
+		}
+		return classify(text);
+	}
+
+	/**
+	 * <pre> 按${...}的内容判断类型，语法同ParamCatcher.catchSpans. </pre>
+	 */
+	@Nonnull
+	private static Node classify(@Nonnull final String text) {
+		ParamSpan span = ParamCatcher.wholeSpan(text);
+		if (span == null) {
+			return new Node(LITERAL, text, null);
+		}
+		return new Node(span.isDynamicDate() ? DYNAMIC : REF, text, null);
+	}
+
+	/**
+	 * <pre> 查找与{对应的}，from为{之后的位置，未找到时返回-1. </pre>
+	 */
+	private static int findClose(@Nonnull final String str, final int from, final int to) {
+		int depth = 1;
+		for (int i = from; i < to; i++) {
+			char c = str.charAt(i);
+			if (c == '{') {
+				depth++;
+			} else if (c == '}') {
+				depth--;
+				if (depth == 0) {
+					return i;
+				}
+			}
+		}
+		return -1;
+	}
+
+	private void render(@Nonnull final Node[] list, @Nonnull final Context context, @Nonnull final StringBuilder sb) {
+		for (Node node : list) {
+			switch (node.kind) {
+			case LITERAL:
+				sb.append(node.text);
+				break;
+			case REF:
+				renderRef(node.text, context, sb);
+				break;
+			case DYNAMIC:
+				renderDynamic(node.text, context, sb);
+				break;
+			default:
+				renderGroup(node, context, sb);
+				break;
+			}
+		}
+	}
+
+	/**
+	 * <pre> 渲染嵌套的${}：先展开其中的参数（动态时间参数保留原样），再按展开后的内容判断类型. </pre>
+	 */
+	private void renderGroup(@Nonnull final Node node, @Nonnull final Context context, @Nonnull final StringBuilder sb) {
+		StringBuilder content = new StringBuilder();
+		renderSource(node.children, context, content);
+		String text = "${" + content + "}";
+		Node resolved = classify(text);
+		if (resolved.kind == REF) {
+			renderRef(text, context, sb);
+		} else if (resolved.kind == DYNAMIC) {
+			renderDynamic(text, context, sb);
+		} else {
+			sb.append("${");
+			render(node.children, context, sb);
+			sb.append('}');
+		}
+	}
+
+	/**
+	 * <pre> 展开参数，动态时间参数保留原样（作为外层动态时间参数的一部分）. </pre>
+	 */
+	private void renderSource(@Nonnull final Node[] list, @Nonnull final Context context, @Nonnull final StringBuilder sb) {
+		for (Node node : list) {
+			switch (node.kind) {
+			case REF:
+				renderRef(node.text, context, sb);
+				break;
+			case GROUP:
+				StringBuilder content = new StringBuilder();
+				renderSource(node.children, context, content);
+				String text = "${" + content + "}";
+				Node resolved = classify(text);
+				if (resolved.kind == REF) {
+					renderRef(text, context, sb);
+				} else {
+					sb.append(text);
+				}
+				break;
+			default:
+				sb.append(node.text);
+				break;
+			}
+		}
+	}
+
+	private void renderRef(@Nonnull final String param, @Nonnull final Context context, @Nonnull final StringBuilder sb) {
+		String value = context.paramMap == null ? null : context.paramMap.get(param);
+		// 参数值不能为Null
+		Checks.nullThrow(value, "Parameter(" + param + ") cannot be found or is null");
+		if (value.indexOf("${") < 0) {
+			sb.append(value);
+			return;
+		}
+		// 配置有误，导致死循环
+		Checks.containsThrow(context.expanding, param, "Configuration of string(" + context.source + ") is wrong. Parameter(" + param + ") is endless loop.");
+		context.expanding.add(param);
+		ParamTemplate template = of(value);
+		template.render(template.nodes, context, sb);
+		context.expanding.remove(param);
+	}
+
+	private void renderDynamic(@Nonnull final String text, @Nonnull final Context context, @Nonnull final StringBuilder sb) {
+		if (context.date == null) {
+			sb.append(text);
+		} else {
+			sb.append(DynamicDateParam.calculate(text, context.dateParamMap, context.date, context.freq, context.freqDetail));
+		}
+	}
+
+}
@@ -0,0 +1,393 @@
+/*
+ * Copyright 2026 (C) , All Rights Reserved.
+ * Company: China.
+ * 
+ * Create At 2026/10/19.
+ * 
+ */
+package com.toobye.common.string;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.toobye.common.lang.Checks;
+
+/**
+ * <pre> 按编辑距离查找的模糊索引（BK树）.
+ * 
+ * 利用编辑距离的三角不等式剪枝：节点与查询串距离为d时，只需访问与该节点距离在[d - k, d + k]内的子树，
+ * 查找距离不超过k的全部字符串时无需逐个比较。查询串预编译一次（Levenshtein），与各节点比较时复用。
+ * 节点以基本类型数组存储，重复的字符串只保留一个。
+ * 添加与查询不同步：构建完成后可多线程查询。
+ * 
+ * Modification History:
+ * Date        Author   Version   Action
+ * 2026/10/19  huangys  v1.0      Create
+ * </pre>
+ * 
+ */
+public final class FuzzyIndex {
+
+	private String[] strings = new String[16];
+	/**
+	 * <pre> 首个子节点，无为-1. </pre>
+	 */
+	private int[] firstChild = new int[16];
+	/**
+	 * <pre> 下一个兄弟节点，无为-1. </pre>
+	 */
+	private int[] nextSibling = new int[16];
+	/**
+	 * <pre> 与父节点的编辑距离. </pre>
+	 */
+	private int[] parentDistance = new int[16];
+	private int size = 0;
+
+	/**
+	 * <pre> 构造器. </pre>
+	 */
+	private FuzzyIndex() { }
+
+	/**
+	 * <pre> 创建空索引.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 索引
+	 */
+	@Nonnull
+	public static FuzzyIndex create() {
+		return new FuzzyIndex();
+	}
+
+	/**
+	 * <pre> 创建索引，null被忽略.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param strs 字符串
+	 * @return 索引
+	 */
+	@Nonnull
+	public static FuzzyIndex of(@Nullable final String... strs) {
+		FuzzyIndex index = new FuzzyIndex();
+		if (strs != null) {
+			for (String str : strs) {
+				index.add(str);
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * <pre> 创建索引，null被忽略.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param strs 字符串
+	 * @return 索引
+	 */
+	@Nonnull
+	public static FuzzyIndex of(@Nullable final Iterable<String> strs) {
+		FuzzyIndex index = new FuzzyIndex();
+		if (strs != null) {
+			for (String str : strs) {
+				index.add(str);
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * <pre> 添加字符串.
+	 * null被忽略。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 字符串
+	 * @return 是否新增（已存在时返回false）
+	 */
+	public boolean add(@Nullable final String str) {
+		if (str == null) {
+			return false;
+		}
+		if (size == 0) {
+			addNode(str, 0);
+			return true;
+		}
+		Levenshtein compiled = Levenshtein.compile(str);
+		int node = 0;
+		while (true) {
+			int d = compiled.distance(strings[node]);
+			if (d == 0) {
+				return false;
+			}
+			int child = findChild(node, d);
+			if (child < 0) {
+				int added = addNode(str, d);
+				nextSibling[added] = firstChild[node];
+				firstChild[node] = added;
+				return true;
+			}
+			node = child;
+		}
+	}
+
+	/**
+	 * <pre> 与父节点距离为指定值的子节点.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param node 节点
+	 * @param distance 距离
+	 * @return 子节点，无为-1
+	 */
+	private int findChild(final int node, final int distance) {
+		for (int child = firstChild[node]; child >= 0; child = nextSibling[child]) {
+			if (parentDistance[child] == distance) {
+				return child;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * <pre> 增加节点.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 字符串
+	 * @param distance 与父节点的距离
+	 * @return 节点
+	 */
+	private int addNode(@Nonnull final String str, final int distance) {
+		if (size == strings.length) {
+			int capacity = size * 2;
+			strings = Arrays.copyOf(strings, capacity);
+			firstChild = Arrays.copyOf(firstChild, capacity);
+			nextSibling = Arrays.copyOf(nextSibling, capacity);
+			parentDistance = Arrays.copyOf(parentDistance, capacity);
+		}
+		strings[size] = str;
+		firstChild[size] = -1;
+		nextSibling[size] = -1;
+		parentDistance[size] = distance;
+		return size++;
+	}
+
+	/**
+	 * <pre> 字符串个数（不重复）.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 个数
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * <pre> 是否包含字符串.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 字符串
+	 * @return 是否包含
+	 */
+	public boolean contains(@Nullable final CharSequence str) {
+		return str != null && !search(str, 0).isEmpty();
+	}
+
+	/**
+	 * <pre> 查找编辑距离不超过k的全部字符串.
+	 * 按距离升序，距离相同时按添加顺序。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param query 查询串
+	 * @param k 最大编辑距离>=0
+	 * @return 匹配结果
+	 */
+	@Nonnull
+	public List<Match> search(@Nonnull final CharSequence query, final int k) {
+		Checks.nullThrow(query);
+		Checks.matchThrow(k < 0, "The max distance must not be negative.");
+		List<Match> ret = new ArrayList<>();
+		if (size == 0) {
+			return ret;
+		}
+		Levenshtein compiled = Levenshtein.compile(query);
+		int[] stack = new int[16];
+		int top = 0;
+		stack[top++] = 0;
+		while (top > 0) {
+			int node = stack[--top];
+			int d = compiled.distance(strings[node]);
+			if (d <= k) {
+				ret.add(new Match(strings[node], node, d));
+			}
+			for (int child = firstChild[node]; child >= 0; child = nextSibling[child]) {
+				int cd = parentDistance[child];
+				if (cd >= d - k && cd <= d + k) {
+					if (top == stack.length) {
+						stack = Arrays.copyOf(stack, top * 2);
+					}
+					stack[top++] = child;
+				}
+			}
+		}
+		Collections.sort(ret, MATCH_ORDER);
+		return ret;
+	}
+
+	/**
+	 * <pre> 查找编辑距离不超过k的字符串.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param query 查询串
+	 * @param k 最大编辑距离>=0
+	 * @return 字符串，按距离升序
+	 */
+	@Nonnull
+	public List<String> searchStrings(@Nonnull final CharSequence query, final int k) {
+		List<Match> matches = search(query, k);
+		List<String> ret = new ArrayList<>(matches.size());
+		for (Match match : matches) {
+			ret.add(match.getString());
+		}
+		return ret;
+	}
+
+	/**
+	 * <pre> 查找编辑距离最小且不超过k的字符串.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param query 查询串
+	 * @param k 最大编辑距离>=0
+	 * @return 字符串，无则返回null
+	 */
+	@Nullable
+	public String findNearest(@Nonnull final CharSequence query, final int k) {
+		List<Match> matches = search(query, k);
+		return matches.isEmpty() ? null : matches.get(0).getString();
+	}
+
+	/**
+	 * <pre> 结果排序：距离升序，相同时按添加顺序. </pre>
+	 */
+	private static final Comparator<Match> MATCH_ORDER = new Comparator<Match>() {
+		@Override
+		public int compare(final Match m1, final Match m2) {
+			if (m1.distance != m2.distance) {
+				return m1.distance < m2.distance ? -1 : 1;
+			}
+			return m1.order < m2.order ? -1 : (m1.order == m2.order ? 0 : 1);
+		}
+	};
+
+	/**
+	 * <pre> 查找结果.
+	 * 
+	 * Modification History:
+	 * Date        Author   Version   Action
+	 * 2026/10/19  huangys  v1.0      Create
+	 * </pre>
+	 * 
+	 */
+	public static final class Match {
+
+		private final String string;
+		private final int order;
+		private final int distance;
+
+		/**
+		 * <pre> 构造器. </pre>
+		 * 
+		 * @param string 字符串
+		 * @param order 添加顺序
+		 * @param distance 编辑距离
+		 */
+		private Match(@Nonnull final String string, final int order, final int distance) {
+			this.string = string;
+			this.order = order;
+			this.distance = distance;
+		}
+
+		/**
+		 * <pre> 匹配的字符串.
+		 * 
+		 * Modification History:
+		 * Date        Author   Action
+		 * 2026/10/19  huangys  Create
+		 * </pre>
+		 * 
+		 * @return 字符串
+		 */
+		@Nonnull
+		public String getString() {
+			return string;
+		}
+
+		/**
+		 * <pre> 与查询串的编辑距离.
+		 * 
+		 * Modification History:
+		 * Date        Author   Action
+		 * 2026/10/19  huangys  Create
+		 * </pre>
+		 * 
+		 * @return 编辑距离
+		 */
+		public int getDistance() {
+			return distance;
+		}
+
+		@Override
+		public String toString() {
+			return string + "(" + distance + ")";
+		}
+
+	}
+
+}
@@ -0,0 +1,739 @@
+/*
+ * Copyright 2026 (C) , All Rights Reserved.
+ * Company: China.
+ * 
+ * Create At 2026/10/19.
+ * 
+ */
+package com.toobye.common.string;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.toobye.common.lang.Checks;
+
+/**
+ * <pre> 预编译的关键字集合（Aho-Corasick自动机）.
+ * 
+ * 一次线性扫描即可查找任意关键字，适用于候选字符串较多的查找、计数及替换。
+ * 自动机以基本类型数组存储：状态的转移按字符排序连续存放，根状态的ASCII字符直接定位。
+ * null及空字符串关键字被忽略（序号仍保留），重复的关键字只报告序号最小的。
+ * 忽略大小写时，按String.equalsIgnoreCase的规则逐字符比较。
+ * 
+ * Modification History:
+ * Date        Author   Version   Action
+ * 2026/10/19  huangys  v1.0      Create
+ * 2026/10/19  huangys  v1.1      替换字符串为null的关键字不参与替换（同StringUtils.replaceEach）
+ * </pre>
+ * 
+ */
+public final class KeywordSet {
+
+	/**
+	 * <pre> Cache. </pre>
+	 */
+	private static final ConcurrentMap<List<String>, KeywordSet> SET_MAP = new ConcurrentHashMap<List<String>, KeywordSet>();
+	/**
+	 * <pre> Cache. </pre>
+	 */
+	private static final ConcurrentMap<List<String>, KeywordSet> IGNORE_CASE_SET_MAP = new ConcurrentHashMap<List<String>, KeywordSet>();
+	/**
+	 * <pre> 缓存的关键字集合数上限，超出后不再缓存. </pre>
+	 */
+	private static final int MAX_CACHE_SIZE = 1024;
+	private static final int ASCII = 128;
+
+	private final String[] keywords;
+	private final boolean ignoreCase;
+	private final int maxLength;
+	/**
+	 * <pre> 不重复的关键字个数. </pre>
+	 */
+	private final int distinct;
+	/**
+	 * <pre> 状态s的转移为edgeChars/edgeTargets的[edgeStart[s], edgeStart[s + 1])，按字符升序. </pre>
+	 */
+	private final int[] edgeStart;
+	private final char[] edgeChars;
+	private final int[] edgeTargets;
+	/**
+	 * <pre> 根状态ASCII字符的转移，无转移为-1. </pre>
+	 */
+	private final int[] rootAscii = new int[ASCII];
+	private final int[] fail;
+	/**
+	 * <pre> 以该状态结尾的关键字序号，无为-1. </pre>
+	 */
+	private final int[] output;
+	/**
+	 * <pre> 失败链上下一个有关键字结尾的状态，无为0（根状态）. </pre>
+	 */
+	private final int[] dictLink;
+
+	/**
+	 * <pre> 匹配结果，不可变.
+	 * 位置为[start, end)。
+	 * 
+	 * Modification History:
+	 * Date        Author   Version   Action
+	 * 2026/10/19  huangys  v1.0      Create
+	 * </pre>
+	 * 
+	 */
+	public static final class Match {
+
+		private final int start;
+		private final int end;
+		private final int index;
+
+		private Match(final int start, final int end, final int index) {
+			this.start = start;
+			this.end = end;
+			this.index = index;
+		}
+
+		/**
+		 * <pre> 起始位置.
+		 * 
+		 * Modification History:
+		 * Date        Author   Action
+		 * 2026/10/19  huangys  Create
+		 * </pre>
+		 * 
+		 * @return 起始位置
+		 */
+		public int getStart() {
+			return start;
+		}
+
+		/**
+		 * <pre> 结束位置（不包含）.
+		 * 
+		 * Modification History:
+		 * Date        Author   Action
+		 * 2026/10/19  huangys  Create
+		 * </pre>
+		 * 
+		 * @return 结束位置
+		 */
+		public int getEnd() {
+			return end;
+		}
+
+		/**
+		 * <pre> 关键字序号.
+		 * 
+		 * Modification History:
+		 * Date        Author   Action
+		 * 2026/10/19  huangys  Create
+		 * </pre>
+		 * 
+		 * @return 关键字序号
+		 */
+		public int getIndex() {
+			return index;
+		}
+
+		@Override
+		public String toString() {
+			return index + "[" + start + ", " + end + ")";
+		}
+
+	}
+
+	KeywordSet(@Nonnull final List<String> list, final boolean ignoreCase) {
+		this.keywords = list.toArray(new String[list.size()]);
+		this.ignoreCase = ignoreCase;
+		// 构建字典树，转移以(状态 << 16 | 字符)为键
+		int total = 1;
+		for (String keyword : keywords) {
+			if (keyword != null) {
+				total += keyword.length();
+			}
+		}
+		Map<Long, Integer> edges = new HashMap<>();
+		int[] out = new int[total];
+		Arrays.fill(out, -1);
+		int states = 1;
+		int max = 0;
+		for (int id = 0; id < keywords.length; id++) {
+			String keyword = keywords[id];
+			if (keyword == null || keyword.isEmpty()) {
+				continue;
+			}
+			max = Math.max(max, keyword.length());
+			int s = 0;
+			for (int i = 0; i < keyword.length(); i++) {
+				Long key = ((long) s << 16) | fold(keyword.charAt(i));
+				Integer t = edges.get(key);
+				if (t == null) {
+					t = states++;
+					edges.put(key, t);
+				}
+				s = t;
+			}
+			if (out[s] < 0) {
+				out[s] = id;
+			}
+		}
+		this.maxLength = max;
+		int count = 0;
+		for (int s = 0; s < states; s++) {
+			if (out[s] >= 0) {
+				count++;
+			}
+		}
+		this.distinct = count;
+		this.output = Arrays.copyOf(out, states);
+		// 转为按状态、字符排序的连续数组
+		long[] keys = new long[edges.size()];
+		int k = 0;
+		for (Long key : edges.keySet()) {
+			keys[k++] = key;
+		}
+		Arrays.sort(keys);
+		this.edgeStart = new int[states + 1];
+		this.edgeChars = new char[keys.length];
+		this.edgeTargets = new int[keys.length];
+		Arrays.fill(rootAscii, -1);
+		for (int i = 0; i < keys.length; i++) {
+			int s = (int) (keys[i] >>> 16);
+			edgeChars[i] = (char) keys[i];
+			edgeTargets[i] = edges.get(keys[i]);
+			edgeStart[s + 1]++;
+			if (s == 0 && edgeChars[i] < ASCII) {
+				rootAscii[edgeChars[i]] = edgeTargets[i];
+			}
+		}
+		for (int s = 0; s < states; s++) {
+			edgeStart[s + 1] += edgeStart[s];
+		}
+		// 按广度优先计算失败转移
+		this.fail = new int[states];
+		this.dictLink = new int[states];
+		int[] queue = new int[states];
+		int head = 0;
+		int tail = 0;
+		queue[tail++] = 0;
+		while (head < tail) {
+			int s = queue[head++];
+			for (int e = edgeStart[s]; e < edgeStart[s + 1]; e++) {
+				int t = edgeTargets[e];
+				if (s != 0) {
+					int f = fail[s];
+					int g;
+					while ((g = getGoto(f, edgeChars[e])) < 0 && f != 0) {
+						f = fail[f];
+					}
+					fail[t] = g < 0 ? 0 : g;
+				}
+				dictLink[t] = output[fail[t]] >= 0 ? fail[t] : dictLink[fail[t]];
+				queue[tail++] = t;
+			}
+		}
+	}
+
+	/**
+	 * <pre> 获得预编译的关键字集合.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param keywords 关键字
+	 * @return 关键字集合
+	 */
+	@Nonnull
+	public static KeywordSet of(@Nonnull final CharSequence... keywords) {
+		Checks.nullThrow(keywords);
+		return of(Arrays.asList(keywords), false);
+	}
+
+	/**
+	 * <pre> 获得预编译的关键字集合.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param keywords 关键字
+	 * @return 关键字集合
+	 */
+	@Nonnull
+	public static KeywordSet of(@Nonnull final Iterable<? extends CharSequence> keywords) {
+		Checks.nullThrow(keywords);
+		return of(keywords, false);
+	}
+
+	/**
+	 * <pre> 获得预编译的关键字集合（忽略大小写）.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param keywords 关键字
+	 * @return 关键字集合
+	 */
+	@Nonnull
+	public static KeywordSet ofIgnoreCase(@Nonnull final CharSequence... keywords) {
+		Checks.nullThrow(keywords);
+		return of(Arrays.asList(keywords), true);
+	}
+
+	/**
+	 * <pre> 获得预编译的关键字集合（忽略大小写）.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param keywords 关键字
+	 * @return 关键字集合
+	 */
+	@Nonnull
+	public static KeywordSet ofIgnoreCase(@Nonnull final Iterable<? extends CharSequence> keywords) {
+		Checks.nullThrow(keywords);
+		return of(keywords, true);
+	}
+
+	private static KeywordSet of(@Nonnull final Iterable<? extends CharSequence> keywords, final boolean ignoreCase) {
+		List<String> key = new ArrayList<>();
+		for (CharSequence keyword : keywords) {
+			key.add(keyword == null ? null : keyword.toString());
+		}
+		ConcurrentMap<List<String>, KeywordSet> map = ignoreCase ? IGNORE_CASE_SET_MAP : SET_MAP;
+		KeywordSet set = map.get(key);
+		if (set == null) {
+			set = new KeywordSet(key, ignoreCase);
+			if (map.size() < MAX_CACHE_SIZE) {
+				KeywordSet exists = map.putIfAbsent(key, set);
+				if (exists != null) {
+					set = exists;
+				}
+			}
+		}
+		return set;
+	}
+
+	private char fold(final char c) {
+		return ignoreCase ? Character.toLowerCase(Character.toUpperCase(c)) : c;
+	}
+
+	private int getGoto(final int state, final char c) {
+		if (state == 0 && c < ASCII) {
+			return rootAscii[c];
+		}
+		int lo = edgeStart[state];
+		int hi = edgeStart[state + 1] - 1;
+		while (lo <= hi) {
+			int mid = (lo + hi) >>> 1;
+			char m = edgeChars[mid];
+			if (m < c) {
+				lo = mid + 1;
+			} else if (m > c) {
+				hi = mid - 1;
+			} else {
+				return edgeTargets[mid];
+			}
+		}
+		return -1;
+	}
+
+	private int next(final int state, final char c) {
+		int s = state;
+		while (true) {
+			int g = getGoto(s, c);
+			if (g >= 0) {
+				return g;
+			}
+			if (s == 0) {
+				return 0;
+			}
+			s = fail[s];
+		}
+	}
+
+	/**
+	 * <pre> 查找起始位置最小的关键字（同一位置取序号最小的），返回(起始位置 << 32 | 序号)，未找到返回-1. </pre>
+	 */
+	long first(@Nonnull final CharSequence str, final int from) {
+		int bestStart = -1;
+		int bestIndex = -1;
+		int s = 0;
+		int len = str.length();
+		for (int i = Math.max(from, 0); i < len; i++) {
+			s = next(s, fold(str.charAt(i)));
+			for (int o = output[s] >= 0 ? s : dictLink[s]; o > 0; o = dictLink[o]) {
+				int id = output[o];
+				int start = i + 1 - keywords[id].length();
+				if (bestStart < 0 || start < bestStart || (start == bestStart && id < bestIndex)) {
+					bestStart = start;
+					bestIndex = id;
+				}
+			}
+			// 之后的匹配起始位置均大于已找到的
+			if (bestStart >= 0 && i + 1 - maxLength >= bestStart) {
+				break;
+			}
+		}
+		return bestStart < 0 ? -1 : ((long) bestStart << 32) | bestIndex;
+	}
+
+	/**
+	 * <pre> 从指定位置开始匹配的最长关键字序号（沿字典树前进），无匹配返回-1. </pre>
+	 */
+	int longestAt(@Nonnull final CharSequence str, final int start) {
+		int best = -1;
+		int s = 0;
+		for (int i = start, len = str.length(); i < len; i++) {
+			s = getGoto(s, fold(str.charAt(i)));
+			if (s < 0) {
+				break;
+			}
+			if (output[s] >= 0) {
+				best = output[s];
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * <pre> 一次扫描字符串，标记出现的关键字（重复的关键字只标记序号最小的），全部出现后提前结束. </pre>
+	 */
+	@Nonnull
+	boolean[] getPresent(@Nonnull final CharSequence str) {
+		boolean[] found = new boolean[keywords.length];
+		int remain = distinct;
+		int s = 0;
+		for (int i = 0; i < str.length() && remain > 0; i++) {
+			s = next(s, fold(str.charAt(i)));
+			for (int o = output[s] >= 0 ? s : dictLink[s]; o > 0; o = dictLink[o]) {
+				if (!found[output[o]]) {
+					found[output[o]] = true;
+					remain--;
+				}
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * <pre> 关键字个数（含被忽略的null及空字符串）.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 关键字个数
+	 */
+	public int size() {
+		return keywords.length;
+	}
+
+	/**
+	 * <pre> 获得指定序号的关键字.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param index 序号，从0开始
+	 * @return 关键字
+	 */
+	@Nullable
+	public String getKeyword(@Nonnull final int index) {
+		return keywords[index];
+	}
+
+	/**
+	 * <pre> 是否忽略大小写.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 是否忽略大小写
+	 */
+	public boolean isIgnoreCase() {
+		return ignoreCase;
+	}
+
+	/**
+	 * <pre> 是否包含任意关键字.
+	 * null -> false
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 字符串
+	 * @return 是否包含
+	 */
+	public boolean containsAny(@Nullable final CharSequence str) {
+		if (str == null) {
+			return false;
+		}
+		int s = 0;
+		for (int i = 0; i < str.length(); i++) {
+			s = next(s, fold(str.charAt(i)));
+			if (output[s] >= 0 || dictLink[s] > 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * <pre> 定位任意关键字首次出现的位置.
+	 * null -> -1
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 字符串
+	 * @return 索引位置，未找到返回-1
+	 */
+	public int indexOf(@Nullable final CharSequence str) {
+		return indexOf(str, 0);
+	}
+
+	/**
+	 * <pre> 从指定位置开始定位任意关键字首次出现的位置.
+	 * null -> -1
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 字符串
+	 * @param from 开始位置
+	 * @return 索引位置，未找到返回-1
+	 */
+	public int indexOf(@Nullable final CharSequence str, @Nonnull final int from) {
+		if (str == null) {
+			return -1;
+		}
+		long hit = first(str, from);
+		return hit < 0 ? -1 : (int) (hit >>> 32);
+	}
+
+	/**
+	 * <pre> 定位任意关键字最后出现的位置.
+	 * null -> -1
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 字符串
+	 * @return 索引位置，未找到返回-1
+	 */
+	public int lastIndexOf(@Nullable final CharSequence str) {
+		if (str == null) {
+			return -1;
+		}
+		int ret = -1;
+		int s = 0;
+		for (int i = 0; i < str.length(); i++) {
+			s = next(s, fold(str.charAt(i)));
+			for (int o = output[s] >= 0 ? s : dictLink[s]; o > 0; o = dictLink[o]) {
+				ret = Math.max(ret, i + 1 - keywords[output[o]].length());
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * <pre> 是否以任意关键字起始.
+	 * null -> false
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 字符串
+	 * @return 是否满足条件
+	 */
+	public boolean startsWithAny(@Nullable final CharSequence str) {
+		if (str == null) {
+			return false;
+		}
+		int s = 0;
+		for (int i = 0; i < str.length(); i++) {
+			s = getGoto(s, fold(str.charAt(i)));
+			if (s < 0) {
+				return false;
+			}
+			if (output[s] >= 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * <pre> 查找起始位置最小的关键字，同一位置有多个关键字时取序号最小的.
+	 * null -> null
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 字符串
+	 * @return 匹配结果，未找到返回null
+	 */
+	@Nullable
+	public Match findFirst(@Nullable final CharSequence str) {
+		if (str == null) {
+			return null;
+		}
+		long hit = first(str, 0);
+		if (hit < 0) {
+			return null;
+		}
+		int start = (int) (hit >>> 32);
+		int index = (int) hit;
+		return new Match(start, start + keywords[index].length(), index);
+	}
+
+	/**
+	 * <pre> 查找所有出现的关键字（可重叠），按结束位置排序，结束位置相同时长的在前.
+	 * null -> 空列表
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 字符串
+	 * @return 匹配结果
+	 */
+	@Nonnull
+	public List<Match> findAll(@Nullable final CharSequence str) {
+		List<Match> ret = new ArrayList<>();
+		if (str == null) {
+			return ret;
+		}
+		int s = 0;
+		for (int i = 0; i < str.length(); i++) {
+			s = next(s, fold(str.charAt(i)));
+			for (int o = output[s] >= 0 ? s : dictLink[s]; o > 0; o = dictLink[o]) {
+				int index = output[o];
+				ret.add(new Match(i + 1 - keywords[index].length(), i + 1, index));
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * <pre> 统计关键字出现的总次数（可重叠）.
+	 * null -> 0
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 字符串
+	 * @return 出现次数
+	 */
+	public int count(@Nullable final CharSequence str) {
+		if (str == null) {
+			return 0;
+		}
+		int ret = 0;
+		int s = 0;
+		for (int i = 0; i < str.length(); i++) {
+			s = next(s, fold(str.charAt(i)));
+			for (int o = output[s] >= 0 ? s : dictLink[s]; o > 0; o = dictLink[o]) {
+				ret++;
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * <pre> 替换关键字（不迭代替换）.
+	 * 从左至右，每次替换起始位置最小的关键字（同一位置取序号最小的），并从其后继续查找，
+	 * 与StringUtils.replaceEach一致；替换字符串为null的关键字被忽略，不参与匹配。
+	 * null -> null
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * 2026/10/19  huangys  Modify  替换字符串为null时忽略该关键字，不再抛出异常
+	 * </pre>
+	 * 
+	 * @param str 字符串
+	 * @param replacements 替换字符串，与关键字按序号对应，可包含null
+	 * @return 处理后的字符串
+	 */
+	@Nullable
+	public String replace(@Nullable final CharSequence str, @Nonnull final String[] replacements) {
+		Checks.nullThrow(replacements);
+		Checks.matchThrow(replacements.length != keywords.length,
+				"Replacements length(" + replacements.length + ") doesn't match keywords length(" + keywords.length + ").");
+		if (str == null) {
+			return null;
+		}
+		// 忽略的关键字置为null（序号不变），其位置上可匹配其他关键字
+		KeywordSet set = this;
+		if (Arrays.asList(replacements).contains(null)) {
+			String[] masked = keywords.clone();
+			for (int i = 0; i < masked.length; i++) {
+				if (replacements[i] == null) {
+					masked[i] = null;
+				}
+			}
+			set = of(Arrays.asList(masked), ignoreCase);
+		}
+		StringBuilder sb = null;
+		int pos = 0;
+		while (true) {
+			long hit = set.first(str, pos);
+			if (hit < 0) {
+				break;
+			}
+			int start = (int) (hit >>> 32);
+			int index = (int) hit;
+			if (sb == null) {
+				sb = new StringBuilder(str.length() + 16);
+			}
+			sb.append(str, pos, start).append(replacements[index]);
+			pos = start + keywords[index].length();
+		}
+		if (sb == null) {
+			return str.toString();
+		}
+		return sb.append(str, pos, str.length()).toString();
+	}
+
+	@Override
+	public String toString() {
+		return (ignoreCase ? "IgnoreCase" : "") + Arrays.toString(keywords);
+	}
+
+}
@@ -0,0 +1,460 @@
+/*
+ * Copyright 2026 (C) , All Rights Reserved.
+ * Company: China.
+ * 
+ * Create At 2026/10/19.
+ * 
+ */
+package com.toobye.common.string;
+
+import java.util.Arrays;
+
+import javax.annotation.Nonnull;
+
+/**
+ * <pre> 位并行的编辑距离（Levenshtein）计算.
+ * 
+ * 采用Myers/Hyyrö位并行算法：模式串按64个字符一个long分块，文本每个字符只需若干次位运算，
+ * 复杂度O(n * ⌈m / 64⌉)；模式串不超过64个字符时为单个long的快速实现。
+ * 预编译的模式串可反复与不同文本比较（如模糊索引中的查询串），编译后只读，可多线程共用。
+ * 带阀值时，当剩余字符已不可能使距离回到阀值以内即提前结束。
+ * 
+ * Modification History:
+ * Date        Author   Version   Action
+ * 2026/10/19  huangys  v1.0      Create
+ * </pre>
+ * 
+ */
+public final class Levenshtein {
+
+	private static final int WORD_SIZE = 64;
+	private static final int ASCII = 128;
+
+	private final String pattern;
+	private final int length;
+	/**
+	 * <pre> 分块数. </pre>
+	 */
+	private final int blocks;
+	/**
+	 * <pre> ASCII字符在各块中的出现位置，下标为字符 * blocks + 块序号. </pre>
+	 */
+	private final long[] asciiPeq;
+	/**
+	 * <pre> 非ASCII字符的开放寻址表，槽位无字符为0. </pre>
+	 */
+	private final char[] otherChars;
+	private final long[] otherPeq;
+	private final int otherMask;
+
+	/**
+	 * <pre> 构造器. </pre>
+	 * 
+	 * @param pattern 模式串
+	 */
+	private Levenshtein(@Nonnull final String pattern) {
+		this.pattern = pattern;
+		this.length = pattern.length();
+		this.blocks = Math.max(1, (length + WORD_SIZE - 1) / WORD_SIZE);
+		this.asciiPeq = new long[ASCII * blocks];
+
+		int others = 0;
+		for (int i = 0; i < length; i++) {
+			if (pattern.charAt(i) >= ASCII) {
+				others++;
+			}
+		}
+		int capacity = others == 0 ? 0 : Integer.highestOneBit(others) * 4;
+		this.otherChars = new char[capacity];
+		this.otherPeq = new long[capacity * blocks];
+		this.otherMask = capacity - 1;
+
+		for (int i = 0; i < length; i++) {
+			char c = pattern.charAt(i);
+			int base = c < ASCII ? c * blocks : otherSlot(c, true) * blocks;
+			long[] peq = c < ASCII ? asciiPeq : otherPeq;
+			peq[base + i / WORD_SIZE] |= 1L << (i % WORD_SIZE);
+		}
+	}
+
+	/**
+	 * <pre> 非ASCII字符的槽位.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param c 字符
+	 * @param add 不存在时是否占用空槽位
+	 * @return 槽位，不存在且不占用时返回-1
+	 */
+	private int otherSlot(final char c, final boolean add) {
+		if (otherChars.length == 0) {
+			return -1;
+		}
+		int slot = (c * 0x9E3779B1) >>> 16 & otherMask;
+		while (otherChars[slot] != 0) {
+			if (otherChars[slot] == c) {
+				return slot;
+			}
+			slot = (slot + 1) & otherMask;
+		}
+		if (add) {
+			otherChars[slot] = c;
+			return slot;
+		}
+		return -1;
+	}
+
+	/**
+	 * <pre> 预编译模式串.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param pattern 模式串
+	 * @return 编译后的模式串
+	 */
+	@Nonnull
+	public static Levenshtein compile(@Nonnull final CharSequence pattern) {
+		if (pattern == null) {
+			throw new IllegalArgumentException("Strings must not be null");
+		}
+		return new Levenshtein(pattern.toString());
+	}
+
+	/**
+	 * <pre> 模式串.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 模式串
+	 */
+	@Nonnull
+	public String getPattern() {
+		return pattern;
+	}
+
+	/**
+	 * <pre> 与文本的编辑距离.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param text 文本
+	 * @return 编辑距离
+	 */
+	@Nonnull
+	public int distance(@Nonnull final CharSequence text) {
+		if (text == null) {
+			throw new IllegalArgumentException("Strings must not be null");
+		}
+		return distance(text, 0, text.length(), Integer.MAX_VALUE);
+	}
+
+	/**
+	 * <pre> 与文本的编辑距离，超过阀值时返回-1.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param text 文本
+	 * @param threshold 最大阀值>=0
+	 * @return 编辑距离，超过阀值时返回-1
+	 */
+	@Nonnull
+	public int distance(@Nonnull final CharSequence text, final int threshold) {
+		if (text == null) {
+			throw new IllegalArgumentException("Strings must not be null");
+		}
+		if (threshold < 0) {
+			throw new IllegalArgumentException("Threshold must not be negative");
+		}
+		return distance(text, 0, text.length(), threshold);
+	}
+
+	/**
+	 * <pre> 与文本区间的编辑距离.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param text 文本
+	 * @param start 起始位置
+	 * @param end 结束位置（不包含）
+	 * @param threshold 最大阀值>=0
+	 * @return 编辑距离，超过阀值时返回-1
+	 */
+	private int distance(@Nonnull final CharSequence text, final int start, final int end, final int threshold) {
+		int n = end - start;
+		if (Math.abs(n - length) > threshold) {
+			return -1;
+		}
+		if (length == 0) {
+			return n;
+		}
+		return blocks == 1 ? distanceSingle(text, start, end, threshold) : distanceMulti(text, start, end, threshold);
+	}
+
+	/**
+	 * <pre> 模式串不超过64个字符时的计算（Myers）.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param text 文本
+	 * @param start 起始位置
+	 * @param end 结束位置（不包含）
+	 * @param threshold 最大阀值
+	 * @return 编辑距离，超过阀值时返回-1
+	 */
+	private int distanceSingle(@Nonnull final CharSequence text, final int start, final int end, final int threshold) {
+		long lastBit = 1L << (length - 1);
+		long pv = -1L;
+		long mv = 0L;
+		int score = length;
+		for (int j = start; j < end; j++) {
+			long eq = peq(text.charAt(j), 0);
+			long xv = eq | mv;
+			long xh = (((eq & pv) + pv) ^ pv) | eq;
+			long ph = mv | ~(xh | pv);
+			long mh = pv & xh;
+			if ((ph & lastBit) != 0) {
+				score++;
+			} else if ((mh & lastBit) != 0) {
+				score--;
+			}
+			// 第0行D[0][j] = j，横向差值恒为+1
+			ph = (ph << 1) | 1L;
+			mh <<= 1;
+			pv = mh | ~(xv | ph);
+			mv = ph & xv;
+			// 每个剩余字符最多使距离减1
+			if (score - (end - j - 1) > threshold) {
+				return -1;
+			}
+		}
+		return score > threshold ? -1 : score;
+	}
+
+	/**
+	 * <pre> 模式串超过64个字符时的分块计算（Hyyrö）.
+	 * 每块的横向差值从低位块传递到高位块。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param text 文本
+	 * @param start 起始位置
+	 * @param end 结束位置（不包含）
+	 * @param threshold 最大阀值
+	 * @return 编辑距离，超过阀值时返回-1
+	 */
+	private int distanceMulti(@Nonnull final CharSequence text, final int start, final int end, final int threshold) {
+		long highBit = 1L << (WORD_SIZE - 1);
+		long lastBit = 1L << ((length - 1) % WORD_SIZE);
+		long[] pvs = new long[blocks];
+		long[] mvs = new long[blocks];
+		Arrays.fill(pvs, -1L);
+		int score = length;
+		for (int j = start; j < end; j++) {
+			char c = text.charAt(j);
+			int hin = 1;
+			for (int b = 0; b < blocks; b++) {
+				long eq = peq(c, b);
+				long pv = pvs[b];
+				long mv = mvs[b];
+				long xv = eq | mv;
+				if (hin < 0) {
+					eq |= 1L;
+				}
+				long xh = (((eq & pv) + pv) ^ pv) | eq;
+				long ph = mv | ~(xh | pv);
+				long mh = pv & xh;
+				long outBit = b == blocks - 1 ? lastBit : highBit;
+				int hout = (ph & outBit) != 0 ? 1 : ((mh & outBit) != 0 ? -1 : 0);
+				ph <<= 1;
+				mh <<= 1;
+				if (hin < 0) {
+					mh |= 1L;
+				} else if (hin > 0) {
+					ph |= 1L;
+				}
+				pvs[b] = mh | ~(xv | ph);
+				mvs[b] = ph & xv;
+				hin = hout;
+			}
+			score += hin;
+			if (score - (end - j - 1) > threshold) {
+				return -1;
+			}
+		}
+		return score > threshold ? -1 : score;
+	}
+
+	/**
+	 * <pre> 字符在指定块中的出现位置.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param c 字符
+	 * @param block 块序号
+	 * @return 位图
+	 */
+	private long peq(final char c, final int block) {
+		if (c < ASCII) {
+			return asciiPeq[c * blocks + block];
+		}
+		int slot = otherSlot(c, false);
+		return slot < 0 ? 0L : otherPeq[slot * blocks + block];
+	}
+
+	/**
+	 * <pre> 两个字符串的编辑距离.
+	 * 先去除相同的前缀和后缀，再以较短者为模式串计算。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param cs1 字符串1
+	 * @param cs2 字符串2
+	 * @return 编辑距离
+	 */
+	@Nonnull
+	public static int distance(@Nonnull final CharSequence cs1, @Nonnull final CharSequence cs2) {
+		if (cs1 == null || cs2 == null) {
+			throw new IllegalArgumentException("Strings must not be null");
+		}
+		return distance(cs1, cs2, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * <pre> 两个字符串的编辑距离，超过阀值时返回-1.
+	 * 较长的字符串配合较小的阀值时，改用只计算对角线带状区域的动态规划。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param cs1 字符串1
+	 * @param cs2 字符串2
+	 * @param threshold 最大阀值>=0
+	 * @return 编辑距离，超过阀值时返回-1
+	 */
+	@Nonnull
+	public static int distance(@Nonnull final CharSequence cs1, @Nonnull final CharSequence cs2, final int threshold) {
+		if (cs1 == null || cs2 == null) {
+			throw new IllegalArgumentException("Strings must not be null");
+		}
+		if (threshold < 0) {
+			throw new IllegalArgumentException("Threshold must not be negative");
+		}
+		int len1 = cs1.length();
+		int len2 = cs2.length();
+		if (Math.abs(len1 - len2) > threshold) {
+			return -1;
+		}
+		// 去除相同的前缀和后缀，不影响编辑距离
+		int prefix = 0;
+		int min = Math.min(len1, len2);
+		while (prefix < min && cs1.charAt(prefix) == cs2.charAt(prefix)) {
+			prefix++;
+		}
+		int suffix = 0;
+		while (suffix < min - prefix && cs1.charAt(len1 - 1 - suffix) == cs2.charAt(len2 - 1 - suffix)) {
+			suffix++;
+		}
+		CharSequence shorter = len1 <= len2 ? cs1 : cs2;
+		CharSequence longer = len1 <= len2 ? cs2 : cs1;
+		int shortLength = Math.min(len1, len2) - prefix - suffix;
+		int longLength = Math.max(len1, len2) - prefix - suffix;
+		if (shortLength == 0) {
+			return longLength > threshold ? -1 : longLength;
+		}
+		int blocks = (shortLength + WORD_SIZE - 1) / WORD_SIZE;
+		if (blocks > 1 && (long) threshold * 2 + 1 < shortLength / 4) {
+			return bandDistance(shorter, prefix, shortLength, longer, prefix, longLength, threshold);
+		}
+		Levenshtein compiled = new Levenshtein(shorter.subSequence(prefix, prefix + shortLength).toString());
+		return compiled.distance(longer, prefix, prefix + longLength, threshold);
+	}
+
+	/**
+	 * <pre> 只计算对角线两侧threshold宽度的动态规划（Ukkonen）.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param s 字符串1
+	 * @param sStart 字符串1起始位置
+	 * @param m 字符串1长度
+	 * @param t 字符串2
+	 * @param tStart 字符串2起始位置
+	 * @param n 字符串2长度
+	 * @param threshold 最大阀值
+	 * @return 编辑距离，超过阀值时返回-1
+	 */
+	private static int bandDistance(@Nonnull final CharSequence s, final int sStart, final int m,
+			@Nonnull final CharSequence t, final int tStart, final int n, final int threshold) {
+		int big = Integer.MAX_VALUE - 1;
+		int[] prev = new int[m + 1];
+		int[] curr = new int[m + 1];
+		int bound = Math.min(m, threshold);
+		for (int i = 0; i <= m; i++) {
+			prev[i] = i <= bound ? i : big;
+		}
+		for (int j = 1; j <= n; j++) {
+			char tc = t.charAt(tStart + j - 1);
+			int from = Math.max(1, j - threshold);
+			int to = Math.min(m, j + threshold);
+			if (from > to) {
+				return -1;
+			}
+			curr[0] = j <= threshold ? j : big;
+			if (from > 1) {
+				curr[from - 1] = big;
+			}
+			int rowMin = curr[0];
+			for (int i = from; i <= to; i++) {
+				int cost = s.charAt(sStart + i - 1) == tc ? prev[i - 1] : 1 + Math.min(Math.min(curr[i - 1], prev[i]), prev[i - 1]);
+				curr[i] = cost;
+				rowMin = Math.min(rowMin, cost);
+			}
+			if (to < m) {
+				curr[to + 1] = big;
+			}
+			if (rowMin > threshold) {
+				return -1;
+			}
+			int[] tmp = prev;
+			prev = curr;
+			curr = tmp;
+		}
+		return prev[m] > threshold ? -1 : prev[m];
+	}
+
+}
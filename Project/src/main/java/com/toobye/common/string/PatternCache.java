@@ -0,0 +1,217 @@
+/*
+ * Copyright 2026 (C) , All Rights Reserved.
+ * Company: China.
+ * 
+ * Create At 2026/10/19.
+ * 
+ */
+package com.toobye.common.string;
+
+import java.util.regex.Pattern;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.toobye.common.lang.Checks;
+
+/**
+ * <pre> 正则表达式编译缓存.
+ * 
+ * string包及文件过滤等共用的线程安全缓存，容量有上限，超出后按最近最少使用淘汰（分段LRU），
+ * 避免动态拼接的正则表达式无限占用内存。
+ * 可查询命中、未命中及淘汰次数，并可预先编译常用的正则表达式。
+ * 
+ * Modification History:
+ * Date        Author   Version   Action
+ * 2026/10/19  huangys  v1.0      Create
+ * </pre>
+ * 
+ */
+public final class PatternCache {
+
+	private PatternCache() { }
+
+	/**
+	 * <pre> 缓存的正则表达式数上限. </pre>
+	 */
+	public static final int MAX_SIZE = 2048;
+
+	/**
+	 * <pre> Cache. </pre>
+	 */
+	private static final LoadingCache<String, Pattern> PATTERN_CACHE = CacheBuilder.newBuilder()
+			.maximumSize(MAX_SIZE)
+			.recordStats()
+			.build(new CacheLoader<String, Pattern>() {
+				@Override
+				public Pattern load(final String regex) {
+					return Pattern.compile(regex);
+				}
+			});
+
+	/**
+	 * <pre> 获取编译后的正则表达式.
+	 * 正则表达式有误时抛出PatternSyntaxException（同Pattern.compile）。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param regex 正则表达式
+	 * @return Java-REGEX-Pattern
+	 */
+	@Nonnull
+	public static Pattern get(@Nonnull final String regex) {
+		Checks.nullThrow(regex);
+		try {
+			return PATTERN_CACHE.getUnchecked(regex);
+		} catch (UncheckedExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * <pre> 字符串是否完全匹配正则表达式（同String.matches）.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 字符串
+	 * @param regex 正则表达式
+	 * @return 是否匹配
+	 */
+	public static boolean matches(@Nonnull final CharSequence str, @Nonnull final String regex) {
+		return get(regex).matcher(str).matches();
+	}
+
+	/**
+	 * <pre> 预先编译正则表达式.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param regexes 正则表达式
+	 */
+	public static void warmUp(@Nullable final String... regexes) {
+		if (regexes != null) {
+			for (String regex : regexes) {
+				get(regex);
+			}
+		}
+	}
+
+	/**
+	 * <pre> 预先编译正则表达式.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param regexes 正则表达式
+	 */
+	public static void warmUp(@Nullable final Iterable<String> regexes) {
+		if (regexes != null) {
+			for (String regex : regexes) {
+				get(regex);
+			}
+		}
+	}
+
+	/**
+	 * <pre> 当前缓存的正则表达式数.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 缓存数
+	 */
+	public static long size() {
+		return PATTERN_CACHE.size();
+	}
+
+	/**
+	 * <pre> 命中次数.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 命中次数
+	 */
+	public static long getHitCount() {
+		return PATTERN_CACHE.stats().hitCount();
+	}
+
+	/**
+	 * <pre> 未命中（即编译）次数.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 未命中次数
+	 */
+	public static long getMissCount() {
+		return PATTERN_CACHE.stats().missCount();
+	}
+
+	/**
+	 * <pre> 淘汰次数.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 淘汰次数
+	 */
+	public static long getEvictionCount() {
+		return PATTERN_CACHE.stats().evictionCount();
+	}
+
+	/**
+	 * <pre> 全部统计信息.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 统计信息
+	 */
+	@Nonnull
+	public static CacheStats getStats() {
+		return PATTERN_CACHE.stats();
+	}
+
+	/**
+	 * <pre> 清空缓存（统计信息不清零）.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 */
+	public static void clear() {
+		PATTERN_CACHE.invalidateAll();
+	}
+
+}
@@ -0,0 +1,510 @@
+/*
+ * Copyright 2026 (C) , All Rights Reserved.
+ * Company: China.
+ * 
+ * Create At 2026/10/19.
+ * 
+ */
+package com.toobye.common.string;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.toobye.common.lang.Checks;
+
+/**
+ * <pre> 预编译的正则表达式集合.
+ * 
+ * 用于大量正则表达式同时匹配同一字符串（如按规则分类日志）。
+ * 编译时提取每个正则表达式必须出现的最长纯文本片段，匹配时先以关键字自动机（KeywordSet）一次扫描字符串找出包含对应片段的正则表达式，
+ * 仅对这些候选（及无法提取片段的）正则表达式执行真正的匹配，结果与逐个匹配一致。
+ * 
+ * 匹配：同String.matches，整个字符串匹配正则表达式。
+ * 包含：同StringRE.containsAny，即".*" + regex + ".*"匹配整个字符串。
+ * 
+ * Modification History:
+ * Date        Author   Version   Action
+ * 2026/10/19  huangys  v1.0      Create
+ * 2026/10/19  huangys  v1.1      片段扫描改用KeywordSet
+ * </pre>
+ * 
+ */
+public final class RegexSet {
+
+	/**
+	 * <pre> Cache. </pre>
+	 */
+	private static final ConcurrentMap<List<String>, RegexSet> SET_MAP = new ConcurrentHashMap<List<String>, RegexSet>();
+	/**
+	 * <pre> 缓存的正则表达式集合数上限，超出后不再缓存. </pre>
+	 */
+	private static final int MAX_CACHE_SIZE = 1024;
+	private static final int[] EMPTY = new int[0];
+
+	private final String[] regexes;
+	private final Pattern[] matchPatterns;
+	private final Pattern[] containsPatterns;
+	/**
+	 * <pre> 各正则表达式必须出现的纯文本片段，无法提取时为null. </pre>
+	 */
+	private final String[] literals;
+	/**
+	 * <pre> 片段自动机，及与各正则表达式片段相同的首个正则表达式序号. </pre>
+	 */
+	private final KeywordSet literalSet;
+	private final int[] literalOwner;
+
+	private RegexSet(@Nonnull final List<String> list) {
+		int size = list.size();
+		this.regexes = list.toArray(new String[size]);
+		this.matchPatterns = new Pattern[size];
+		this.containsPatterns = new Pattern[size];
+		this.literals = new String[size];
+		for (String regex : regexes) {
+			Checks.emptyThrow(regex);
+		}
+		this.literalOwner = new int[size];
+		Map<String, Integer> owners = new HashMap<>();
+		for (int i = 0; i < size; i++) {
+			matchPatterns[i] = PatternCache.get(regexes[i]);
+			containsPatterns[i] = PatternCache.get(".*" + regexes[i] + ".*");
+			literals[i] = getRequiredLiteral(regexes[i]);
+			if (literals[i] != null) {
+				Integer owner = owners.get(literals[i]);
+				if (owner == null) {
+					owner = i;
+					owners.put(literals[i], owner);
+				}
+				literalOwner[i] = owner;
+			}
+		}
+		this.literalSet = new KeywordSet(Arrays.asList(literals), false);
+	}
+
+	/**
+	 * <pre> 获得预编译的正则表达式集合.
+	 * 正则表达式不能为空，有误时抛出PatternSyntaxException。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param regexes 正则表达式
+	 * @return 正则表达式集合
+	 */
+	@Nonnull
+	public static RegexSet of(@Nonnull final String... regexes) {
+		Checks.emptyThrow(regexes);
+		List<String> key = Arrays.asList(regexes);
+		RegexSet set = SET_MAP.get(key);
+		if (set == null) {
+			// 复制一份，避免调用方修改数组后影响缓存
+			set = cache(Arrays.asList(regexes.clone()));
+		}
+		return set;
+	}
+
+	/**
+	 * <pre> 获得预编译的正则表达式集合.
+	 * 正则表达式不能为空，有误时抛出PatternSyntaxException。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param regexes 正则表达式
+	 * @return 正则表达式集合
+	 */
+	@Nonnull
+	public static RegexSet of(@Nonnull final Iterable<String> regexes) {
+		Checks.emptyThrow(regexes);
+		List<String> key = new ArrayList<>();
+		for (String regex : regexes) {
+			key.add(regex);
+		}
+		RegexSet set = SET_MAP.get(key);
+		if (set == null) {
+			set = cache(key);
+		}
+		return set;
+	}
+
+	private static RegexSet cache(@Nonnull final List<String> key) {
+		RegexSet set = new RegexSet(key);
+		if (SET_MAP.size() < MAX_CACHE_SIZE) {
+			RegexSet exists = SET_MAP.putIfAbsent(key, set);
+			if (exists != null) {
+				set = exists;
+			}
+		}
+		return set;
+	}
+
+	/**
+	 * <pre> 提取正则表达式匹配时必须出现的最长纯文本片段，无法提取时返回null.
+	 * 仅分析最外层：含最外层“|”或内嵌标志（如(?i)）时不提取，分组、字符类、可选字符均视为片段的间断。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param regex 正则表达式
+	 * @return 纯文本片段
+	 */
+	@Nullable
+	static String getRequiredLiteral(@Nonnull final String regex) {
+		String best = "";
+		StringBuilder run = new StringBuilder();
+		int len = regex.length();
+		int i = 0;
+		while (i < len) {
+			char c = regex.charAt(i);
+			// 当前单元的结束位置，及是否为单个字符
+			int next;
+			int literal = -1;
+			if (c == '\\') {
+				if (i + 1 >= len) {
+					return null;
+				}
+				char e = regex.charAt(i + 1);
+				if (e < 128 && Character.isLetterOrDigit(e)) {
+					next = skipEscape(regex, i);
+				} else if (Character.isSurrogate(e)) {
+					next = Character.isHighSurrogate(e) && i + 2 < len && Character.isLowSurrogate(regex.charAt(i + 2)) ? i + 3 : i + 2;
+				} else {
+					literal = e;
+					next = i + 2;
+				}
+			} else if (c == '(') {
+				if (i + 2 < len && regex.charAt(i + 1) == '?' && isFlagGroup(regex, i + 2)) {
+					// 内嵌标志影响后续全部内容
+					return null;
+				}
+				next = skipGroup(regex, i);
+			} else if (c == '[') {
+				next = skipClass(regex, i);
+			} else if (c == '|' || c == ')' || c == '*' || c == '+' || c == '?' || c == '{') {
+				return null;
+			} else if (c == '.' || c == '^' || c == '$') {
+				next = i + 1;
+			} else if (Character.isSurrogate(c)) {
+				next = Character.isHighSurrogate(c) && i + 1 < len && Character.isLowSurrogate(regex.charAt(i + 1)) ? i + 2 : i + 1;
+			} else {
+				literal = c;
+				next = i + 1;
+			}
+			if (next < 0) {
+				return null;
+			}
+			// 量词
+			char q = next < len ? regex.charAt(next) : 0;
+			boolean optional = q == '?' || q == '*' || q == '{';
+			boolean repeat = q == '+';
+			if (literal >= 0 && !optional) {
+				run.append((char) literal);
+			}
+			if (literal < 0 || optional || repeat) {
+				if (run.length() > best.length()) {
+					best = run.toString();
+				}
+				run.setLength(0);
+			}
+			i = next;
+			if (optional || repeat) {
+				if (q == '{') {
+					i = regex.indexOf('}', i);
+					if (i < 0) {
+						return null;
+					}
+				}
+				i++;
+				if (i < len && (regex.charAt(i) == '?' || regex.charAt(i) == '+')) {
+					i++;
+				}
+			}
+		}
+		if (run.length() > best.length()) {
+			best = run.toString();
+		}
+		return best.isEmpty() ? null : best;
+	}
+
+	/**
+	 * <pre> 是否为内嵌标志(?idmsuxU-idmsuxU)，不含(?i:X)形式. </pre>
+	 */
+	private static boolean isFlagGroup(@Nonnull final String regex, final int from) {
+		for (int i = from; i < regex.length(); i++) {
+			char c = regex.charAt(i);
+			if (c == ')') {
+				return i > from;
+			}
+			if (!(c == '-' || (c < 128 && Character.isLetter(c)))) {
+				return false;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * <pre> 跳过以字母或数字开头的转义，返回其后位置. </pre>
+	 */
+	private static int skipEscape(@Nonnull final String regex, final int from) {
+		int len = regex.length();
+		int i = from + 2;
+		char e = regex.charAt(from + 1);
+		switch (e) {
+			case 'p':
+			case 'P':
+			case 'x':
+			case 'N':
+				if (i < len && regex.charAt(i) == '{') {
+					int end = regex.indexOf('}', i);
+					return end < 0 ? -1 : end + 1;
+				}
+				return Math.min(len, i + (e == 'x' ? 2 : 1));
+			case 'u':
+				return Math.min(len, i + 4);
+			case 'c':
+				return Math.min(len, i + 1);
+			case 'k':
+				int end = regex.indexOf('>', i);
+				return end < 0 ? -1 : end + 1;
+			case 'Q':
+				end = regex.indexOf("\\E", i);
+				return end < 0 ? len : end + 2;
+			default:
+				// 反向引用及八进制
+				if (Character.isDigit(e)) {
+					while (i < len && Character.isDigit(regex.charAt(i))) {
+						i++;
+					}
+				}
+				return i;
+		}
+	}
+
+	/**
+	 * <pre> 跳过分组，返回右括号之后的位置，不完整时返回-1. </pre>
+	 */
+	private static int skipGroup(@Nonnull final String regex, final int from) {
+		int len = regex.length();
+		int depth = 0;
+		int i = from;
+		while (i < len) {
+			char c = regex.charAt(i);
+			if (c == '\\') {
+				if (i + 1 < len && regex.charAt(i + 1) == 'Q') {
+					int end = regex.indexOf("\\E", i + 2);
+					i = end < 0 ? len : end + 2;
+				} else {
+					i += 2;
+				}
+				continue;
+			}
+			if (c == '[') {
+				i = skipClass(regex, i);
+				if (i < 0) {
+					return -1;
+				}
+				continue;
+			}
+			if (c == '(') {
+				depth++;
+			} else if (c == ')') {
+				depth--;
+				if (depth == 0) {
+					return i + 1;
+				}
+			}
+			i++;
+		}
+		return -1;
+	}
+
+	/**
+	 * <pre> 跳过字符类（支持嵌套），返回右方括号之后的位置，不完整时返回-1. </pre>
+	 */
+	private static int skipClass(@Nonnull final String regex, final int from) {
+		int len = regex.length();
+		int depth = 0;
+		int i = from;
+		while (i < len) {
+			char c = regex.charAt(i);
+			if (c == '\\') {
+				i += 2;
+				continue;
+			}
+			if (c == '[') {
+				depth++;
+				i++;
+				// 开头的^及]为普通字符
+				if (i < len && regex.charAt(i) == '^') {
+					i++;
+				}
+				if (i < len && regex.charAt(i) == ']') {
+					i++;
+				}
+				continue;
+			}
+			if (c == ']') {
+				depth--;
+				if (depth == 0) {
+					return i + 1;
+				}
+			}
+			i++;
+		}
+		return -1;
+	}
+
+	@Nonnull
+	private int[] find(@Nonnull final CharSequence str, @Nonnull final Pattern[] patterns, final boolean firstOnly) {
+		// 一次扫描字符串，标记出现的片段
+		boolean[] found = literalSet.getPresent(str);
+		int[] ret = null;
+		int count = 0;
+		for (int i = 0; i < regexes.length; i++) {
+			if ((literals[i] == null || found[literalOwner[i]]) && patterns[i].matcher(str).matches()) {
+				if (firstOnly) {
+					return new int[] {i};
+				}
+				if (ret == null) {
+					ret = new int[regexes.length];
+				}
+				ret[count++] = i;
+			}
+		}
+		return ret == null ? EMPTY : Arrays.copyOf(ret, count);
+	}
+
+	/**
+	 * <pre> 正则表达式个数.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 正则表达式个数
+	 */
+	public int size() {
+		return regexes.length;
+	}
+
+	/**
+	 * <pre> 获得指定序号的正则表达式.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param index 序号，从0开始
+	 * @return 正则表达式
+	 */
+	@Nonnull
+	public String getRegex(@Nonnull final int index) {
+		return regexes[index];
+	}
+
+	/**
+	 * <pre> 获得所有正则表达式.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 正则表达式
+	 */
+	@Nonnull
+	public String[] getRegexes() {
+		return regexes.clone();
+	}
+
+	/**
+	 * <pre> 是否匹配任意正则表达式.
+	 * null -> false
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 字符串
+	 * @return 是否匹配
+	 */
+	@Nonnull
+	public boolean matchAny(@Nullable final CharSequence str) {
+		return str != null && find(str, matchPatterns, true).length > 0;
+	}
+
+	/**
+	 * <pre> 获得所匹配的正则表达式序号（升序）.
+	 * null -> 空数组
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 字符串
+	 * @return 正则表达式序号
+	 */
+	@Nonnull
+	public int[] matchIndexes(@Nullable final CharSequence str) {
+		return str == null ? EMPTY : find(str, matchPatterns, false);
+	}
+
+	/**
+	 * <pre> 是否包含任意正则表达式所匹配的字符串.
+	 * null -> false
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 字符串
+	 * @return 是否包含
+	 */
+	@Nonnull
+	public boolean containsAny(@Nullable final CharSequence str) {
+		return str != null && find(str, containsPatterns, true).length > 0;
+	}
+
+	/**
+	 * <pre> 获得所包含的正则表达式序号（升序）.
+	 * null -> 空数组
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 字符串
+	 * @return 正则表达式序号
+	 */
+	@Nonnull
+	public int[] containsIndexes(@Nullable final CharSequence str) {
+		return str == null ? EMPTY : find(str, containsPatterns, false);
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString(regexes);
+	}
+
+}
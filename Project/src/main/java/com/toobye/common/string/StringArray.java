@@ -7,8 +7,10 @@
  */
 package com.toobye.common.string;
 
+import java.util.Collections;
 import java.util.Iterator;
 
+import com.google.common.collect.Iterators;
 import com.toobye.common.collection.Arrays;
 import com.toobye.common.lang.Checks;
 import com.toobye.common.lang.Condition;
@@ -20,31 +22,142 @@ import javax.annotation.Nullable;
 /**
  * <pre> 字符串数组.
  * 
+ * 通过lazyOf创建时为延迟执行模式：加工和过滤方法只记录步骤（StringArrayPlan），
+ * 在getArray、join、迭代时一次遍历完成，不生成中间数组。
+ * 
  * Modification History:
  * Date        Author   Version   Action
  * 2014/08/22  huangys  v1.0      Create
+ * 2026/10/19  huangys  v1.1      增加延迟执行模式
  * </pre>
  * 
  */
-public final class StringArray {
+public final class StringArray implements Iterable<String> {
 	
 	private String[] array;
 	
+	/**
+	 * <pre> 延迟执行的步骤，非延迟执行模式时为null. </pre>
+	 */
+	private StringArrayPlan plan;
+	
+	/**
+	 * <pre> 已执行到数组上的步骤数. </pre>
+	 */
+	private int applied = 0;
+	
 	/**
 	 * <pre> 返回字符串数组内容.
+	 * 延迟执行模式时，先执行已记录的步骤。
 	 * 
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/08/22  huangys  Create
+	 * 2026/10/19  huangys  Modify  支持延迟执行
 	 * </pre>
 	 * 
 	 * @return 字符串数组
 	 */
 	@Nullable
 	public String[] getArray() {
+		if (plan != null && applied < plan.size()) {
+			array = plan.apply(array, applied);
+			applied = plan.size();
+		}
 		return array;
 	}
 	
+	/**
+	 * <pre> 返回已记录的步骤.
+	 * 包含已在getArray时执行过的步骤，可用于其他数组（如文件的其他行），参见StringArrayPlan#apply(String[])。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 步骤，非延迟执行模式时为null
+	 */
+	@Nullable
+	public StringArrayPlan getPlan() {
+		return plan;
+	}
+	
+	/**
+	 * <pre> 是否延迟执行模式.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 是否延迟执行
+	 */
+	public boolean isLazy() {
+		return plan != null;
+	}
+	
+	/**
+	 * <pre> 连接元素.
+	 * 元素为Null时，连接时使用空字符串；延迟执行模式时，在执行步骤的同时连接，不修改数组。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param separator 分隔符，null时使用空字符串
+	 * @return 连接后字符串
+	 * @see #join(Object[], String)
+	 */
+	@Nullable
+	public String join(@Nullable final String separator) {
+		if (plan != null) {
+			return plan.join(array, separator, applied);
+		}
+		return join(array, separator);
+	}
+	
+	/**
+	 * <pre> 连接元素.
+	 * 元素为Null时，连接时使用空字符串；延迟执行模式时，在执行步骤的同时连接，不修改数组。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param separator 分隔符
+	 * @return 连接后字符串
+	 * @see #join(Object[], char)
+	 */
+	@Nullable
+	public String join(@Nonnull final char separator) {
+		if (plan != null) {
+			return plan.join(array, String.valueOf(separator), applied);
+		}
+		return join(array, separator);
+	}
+	
+	/**
+	 * <pre> 遍历元素.
+	 * 延迟执行模式时，逐个执行步骤，不修改数组。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 迭代器，数组为null时无元素
+	 */
+	@Override
+	public Iterator<String> iterator() {
+		if (plan != null) {
+			return plan.iterator(array, applied);
+		}
+		return array == null ? Collections.<String>emptyIterator() : Iterators.forArray(array);
+	}
+	
 	/**
 	 * <pre> 创建处理对象.
 	 * 
@@ -60,6 +173,25 @@ public final class StringArray {
 	public static StringArray of(@Nullable final String[] array) {
 		return new StringArray(array);
 	}
+	
+	/**
+	 * <pre> 创建延迟执行的处理对象.
+	 * 加工和过滤方法只记录步骤，在getArray、join、迭代时一次遍历完成。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param array 字符串数组
+	 * @return 处理对象
+	 */
+	@Nonnull
+	public static StringArray lazyOf(@Nullable final String[] array) {
+		StringArray ret = new StringArray(array);
+		ret.plan = StringArrayPlan.create();
+		return ret;
+	}
 
 	/**
 	 * <pre> 构造器. </pre>
@@ -76,13 +208,18 @@ public final class StringArray {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/08/21  huangys  Create
+	 * 2026/10/19  huangys  Modify  支持延迟执行
 	 * </pre>
 	 * 
 	 * @return 对象本身
 	 */
 	@Nonnull
 	public StringArray trim() {
-		array = trim(array);
+		if (plan != null) {
+			plan.trim();
+		} else {
+			array = trim(array);
+		}
 		return this;
 	}
 	
@@ -92,6 +229,7 @@ public final class StringArray {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/08/21  huangys  Create
+	 * 2026/10/19  huangys  Modify  支持延迟执行
 	 * </pre>
 	 * 
 	 * @param searchChars 移除字符集合，null时使用空白字符
@@ -99,7 +237,11 @@ public final class StringArray {
 	 */
 	@Nonnull
 	public StringArray trimAnyChar(@Nullable final String searchChars) {
-		array = trimAnyChar(array, searchChars);
+		if (plan != null) {
+			plan.trimAnyChar(searchChars);
+		} else {
+			array = trimAnyChar(array, searchChars);
+		}
 		return this;
 	}
 	
@@ -109,6 +251,7 @@ public final class StringArray {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/08/21  huangys  Create
+	 * 2026/10/19  huangys  Modify  支持延迟执行
 	 * </pre>
 	 * 
 	 * @param toStr 替换字符串
@@ -116,7 +259,11 @@ public final class StringArray {
 	 */
 	@Nonnull
 	public StringArray nullTo(@Nullable final String toStr) {
-		array = nullTo(array, toStr);
+		if (plan != null) {
+			plan.nullTo(toStr);
+		} else {
+			array = nullTo(array, toStr);
+		}
 		return this;
 	}
 	
@@ -126,13 +273,18 @@ public final class StringArray {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/08/21  huangys  Create
+	 * 2026/10/19  huangys  Modify  支持延迟执行
 	 * </pre>
 	 * 
 	 * @return 对象本身
 	 */
 	@Nonnull
 	public StringArray nullToEmpty() {
-		array = nullToEmpty(array);
+		if (plan != null) {
+			plan.nullToEmpty();
+		} else {
+			array = nullToEmpty(array);
+		}
 		return this;
 	}
 	
@@ -142,13 +294,18 @@ public final class StringArray {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/08/21  huangys  Create
+	 * 2026/10/19  huangys  Modify  支持延迟执行
 	 * </pre>
 	 * 
 	 * @return 对象本身
 	 */
 	@Nonnull
 	public StringArray nullStringToNull() {
-		array = nullStringToNull(array);
+		if (plan != null) {
+			plan.nullStringToNull();
+		} else {
+			array = nullStringToNull(array);
+		}
 		return this;
 	}
 	
@@ -158,13 +315,18 @@ public final class StringArray {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/08/21  huangys  Create
+	 * 2026/10/19  huangys  Modify  支持延迟执行
 	 * </pre>
 	 * 
 	 * @return 对象本身
 	 */
 	@Nonnull
 	public StringArray emptyToNull() {
-		array = emptyToNull(array);
+		if (plan != null) {
+			plan.emptyToNull();
+		} else {
+			array = emptyToNull(array);
+		}
 		return this;
 	}
 	
@@ -174,6 +336,7 @@ public final class StringArray {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/08/21  huangys  Create
+	 * 2026/10/19  huangys  Modify  支持延迟执行
 	 * </pre>
 	 * 
 	 * @param toStr 指定字符串
@@ -181,7 +344,11 @@ public final class StringArray {
 	 */
 	@Nonnull
 	public StringArray emptyTo(@Nullable final String toStr) {
-		array = emptyTo(array, toStr);
+		if (plan != null) {
+			plan.emptyTo(toStr);
+		} else {
+			array = emptyTo(array, toStr);
+		}
 		return this;
 	}
 	
@@ -191,13 +358,18 @@ public final class StringArray {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/08/21  huangys  Create
+	 * 2026/10/19  huangys  Modify  支持延迟执行
 	 * </pre>
 	 * 
 	 * @return 对象本身
 	 */
 	@Nonnull
 	public StringArray blankToNull() {
-		array = blankToNull(array);
+		if (plan != null) {
+			plan.blankToNull();
+		} else {
+			array = blankToNull(array);
+		}
 		return this;
 	}
 	
@@ -207,13 +379,18 @@ public final class StringArray {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/08/21  huangys  Create
+	 * 2026/10/19  huangys  Modify  支持延迟执行
 	 * </pre>
 	 * 
 	 * @return 对象本身
 	 */
 	@Nonnull
 	public StringArray blankToEmpty() {
-		array = blankToEmpty(array);
+		if (plan != null) {
+			plan.blankToEmpty();
+		} else {
+			array = blankToEmpty(array);
+		}
 		return this;
 	}
 	
@@ -223,6 +400,7 @@ public final class StringArray {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/08/21  huangys  Create
+	 * 2026/10/19  huangys  Modify  支持延迟执行
 	 * </pre>
 	 * 
 	 * @param toStr 指定字符串
@@ -230,7 +408,11 @@ public final class StringArray {
 	 */
 	@Nonnull
 	public StringArray blankTo(final String toStr) {
-		array = blankTo(array, toStr);
+		if (plan != null) {
+			plan.blankTo(toStr);
+		} else {
+			array = blankTo(array, toStr);
+		}
 		return this;
 	}
 	
@@ -240,6 +422,7 @@ public final class StringArray {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/08/21  huangys  Create
+	 * 2026/10/19  huangys  Modify  支持延迟执行
 	 * </pre>
 	 * 
 	 * @param matchStr 匹配字符串
@@ -248,7 +431,11 @@ public final class StringArray {
 	 */
 	@Nonnull
 	public StringArray to(@Nullable final String matchStr, @Nullable final String toStr) {
-		array = to(array, matchStr, toStr);
+		if (plan != null) {
+			plan.to(matchStr, toStr);
+		} else {
+			array = to(array, matchStr, toStr);
+		}
 		return this;
 	}
 	
@@ -258,6 +445,7 @@ public final class StringArray {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/08/21  huangys  Create
+	 * 2026/10/19  huangys  Modify  支持延迟执行
 	 * </pre>
 	 * 
 	 * @param matchStr 匹配字符串
@@ -266,7 +454,11 @@ public final class StringArray {
 	 */
 	@Nonnull
 	public StringArray toIgnoreCase(@Nullable final String matchStr, @Nullable final String toStr) {
-		array = toIgnoreCase(array, matchStr, toStr);
+		if (plan != null) {
+			plan.toIgnoreCase(matchStr, toStr);
+		} else {
+			array = toIgnoreCase(array, matchStr, toStr);
+		}
 		return this;
 	}
 	
@@ -276,6 +468,7 @@ public final class StringArray {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/08/21  huangys  Create
+	 * 2026/10/19  huangys  Modify  支持延迟执行
 	 * </pre>
 	 * 
 	 * @param conditions 条件
@@ -284,7 +477,11 @@ public final class StringArray {
 	@SafeVarargs
 	@Nonnull
 	public final StringArray delete(@Nullable final Condition<String>... conditions) {
-		array = Arrays.delete(array, conditions);
+		if (plan != null) {
+			plan.delete(conditions);
+		} else {
+			array = Arrays.delete(array, conditions);
+		}
 		return this;
 	}
 	
@@ -294,6 +491,7 @@ public final class StringArray {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/08/21  huangys  Create
+	 * 2026/10/19  huangys  Modify  支持延迟执行
 	 * </pre>
 	 * 
 	 * @param conditions 条件
@@ -301,7 +499,11 @@ public final class StringArray {
 	 */
 	@Nonnull
 	public StringArray delete(@Nullable final Iterable<Condition<String>> conditions) {
-		array = Arrays.delete(array, conditions);
+		if (plan != null) {
+			plan.delete(conditions);
+		} else {
+			array = Arrays.delete(array, conditions);
+		}
 		return this;
 	}
 	
@@ -311,6 +513,7 @@ public final class StringArray {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/08/21  huangys  Create
+	 * 2026/10/19  huangys  Modify  支持延迟执行
 	 * </pre>
 	 * 
 	 * @param conditions 条件
@@ -319,7 +522,11 @@ public final class StringArray {
 	@SafeVarargs
 	@Nonnull
 	public final StringArray reserve(@Nullable final Condition<String>... conditions) {
-		array = Arrays.reserve(array, conditions);
+		if (plan != null) {
+			plan.reserve(conditions);
+		} else {
+			array = Arrays.reserve(array, conditions);
+		}
 		return this;
 	}
 	
@@ -329,6 +536,7 @@ public final class StringArray {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/08/21  huangys  Create
+	 * 2026/10/19  huangys  Modify  支持延迟执行
 	 * </pre>
 	 * 
 	 * @param conditions 条件
@@ -336,7 +544,11 @@ public final class StringArray {
 	 */
 	@Nonnull
 	public StringArray reserve(@Nullable final Iterable<Condition<String>> conditions) {
-		array = Arrays.reserve(array, conditions);
+		if (plan != null) {
+			plan.reserve(conditions);
+		} else {
+			array = Arrays.reserve(array, conditions);
+		}
 		return this;
 	}
 	
@@ -346,13 +558,18 @@ public final class StringArray {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/08/21  huangys  Create
+	 * 2026/10/19  huangys  Modify  支持延迟执行
 	 * </pre>
 	 * 
 	 * @return 对象本身
 	 */
 	@Nonnull
 	public StringArray deleteNull() {
-		array = deleteNull(array);
+		if (plan != null) {
+			plan.deleteNull();
+		} else {
+			array = deleteNull(array);
+		}
 		return this;
 	}
 	
@@ -362,13 +579,18 @@ public final class StringArray {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/08/21  huangys  Create
+	 * 2026/10/19  huangys  Modify  支持延迟执行
 	 * </pre>
 	 * 
 	 * @return 对象本身
 	 */
 	@Nonnull
 	public StringArray deleteEmpty() {
-		array = deleteEmpty(array);
+		if (plan != null) {
+			plan.deleteEmpty();
+		} else {
+			array = deleteEmpty(array);
+		}
 		return this;
 	}
 	
@@ -378,13 +600,18 @@ public final class StringArray {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/08/21  huangys  Create
+	 * 2026/10/19  huangys  Modify  支持延迟执行
 	 * </pre>
 	 * 
 	 * @return 对象本身
 	 */
 	@Nonnull
 	public StringArray deleteBlank() {
-		array = deleteBlank(array);
+		if (plan != null) {
+			plan.deleteBlank();
+		} else {
+			array = deleteBlank(array);
+		}
 		return this;
 	}
 	
@@ -394,6 +621,7 @@ public final class StringArray {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/08/21  huangys  Create
+	 * 2026/10/19  huangys  Modify  支持延迟执行
 	 * </pre>
 	 * 
 	 * @param matchStr 匹配字符串
@@ -401,7 +629,11 @@ public final class StringArray {
 	 */
 	@Nonnull
 	public StringArray delete(@Nullable final String matchStr) {
-		array = delete(array, matchStr);
+		if (plan != null) {
+			plan.delete(matchStr);
+		} else {
+			array = delete(array, matchStr);
+		}
 		return this;
 	}
 	
@@ -411,6 +643,7 @@ public final class StringArray {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/08/21  huangys  Create
+	 * 2026/10/19  huangys  Modify  支持延迟执行
 	 * </pre>
 	 * 
 	 * @param matchStr 匹配字符串
@@ -418,7 +651,11 @@ public final class StringArray {
 	 */
 	@Nonnull
 	public StringArray deleteIgnoreCase(@Nullable final String matchStr) {
-		array = deleteIgnoreCase(array, matchStr);
+		if (plan != null) {
+			plan.deleteIgnoreCase(matchStr);
+		} else {
+			array = deleteIgnoreCase(array, matchStr);
+		}
 		return this;
 	}
 	
@@ -429,13 +666,18 @@ public final class StringArray {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/08/21  huangys  Create
+	 * 2026/10/19  huangys  Modify  支持延迟执行
 	 * </pre>
 	 * 
 	 * @return 对象本身
 	 */
 	@Nonnull
 	public StringArray trimGroupChar() {
-		array = trimGroupChar(array);
+		if (plan != null) {
+			plan.trimGroupChar();
+		} else {
+			array = trimGroupChar(array);
+		}
 		return this;
 	}
 	
@@ -446,6 +688,7 @@ public final class StringArray {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/08/21  huangys  Create
+	 * 2026/10/19  huangys  Modify  支持延迟执行
 	 * </pre>
 	 * 
 	 * @param groupChar 组分隔符
@@ -454,7 +697,11 @@ public final class StringArray {
 	 */
 	@Nonnull
 	public StringArray trimGroupChar(@Nonnull final char groupChar, @Nonnull final char escapeChar) {
-		array = trimGroupChar(array, groupChar, escapeChar);
+		if (plan != null) {
+			plan.trimGroupChar(groupChar, escapeChar);
+		} else {
+			array = trimGroupChar(array, groupChar, escapeChar);
+		}
 		return this;
 	}
 	
@@ -465,13 +712,18 @@ public final class StringArray {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/08/21  huangys  Create
+	 * 2026/10/19  huangys  Modify  支持延迟执行
 	 * </pre>
 	 * 
 	 * @return 对象本身
 	 */
 	@Nonnull
 	public StringArray clearEscapeChar() {
-		array = clearEscapeChar(array);
+		if (plan != null) {
+			plan.clearEscapeChar();
+		} else {
+			array = clearEscapeChar(array);
+		}
 		return this;
 	}
 	
@@ -482,6 +734,7 @@ public final class StringArray {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/08/21  huangys  Create
+	 * 2026/10/19  huangys  Modify  支持延迟执行
 	 * </pre>
 	 * 
 	 * @param groupChar 组分隔符
@@ -490,7 +743,11 @@ public final class StringArray {
 	 */
 	@Nonnull
 	public StringArray clearEscapeChar(@Nonnull final char groupChar, @Nonnull final char escapeChar) {
-		array = clearEscapeChar(array, groupChar, escapeChar);
+		if (plan != null) {
+			plan.clearEscapeChar(groupChar, escapeChar);
+		} else {
+			array = clearEscapeChar(array, groupChar, escapeChar);
+		}
 		return this;
 	}
 	
@@ -500,6 +757,7 @@ public final class StringArray {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/04/02  huangys  Create
+	 * 2026/10/19  huangys  Modify  支持延迟执行
 	 * </pre>
 	 * 
 	 * @param funcs 加工器
@@ -508,7 +766,11 @@ public final class StringArray {
 	@SafeVarargs
 	@Nullable
 	public final StringArray to(@Nullable final Function<String, String>... funcs) {
-		array = to(array, funcs);
+		if (plan != null) {
+			plan.to(funcs);
+		} else {
+			array = to(array, funcs);
+		}
 		return this;
 	}
 	
@@ -518,6 +780,7 @@ public final class StringArray {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/04/02  huangys  Create
+	 * 2026/10/19  huangys  Modify  支持延迟执行
 	 * </pre>
 	 * 
 	 * @param funcs 加工器
@@ -525,7 +788,11 @@ public final class StringArray {
 	 */
 	@Nullable
 	public StringArray to(@Nullable final Iterable<Function<String, String>> funcs) {
-		array = to(array, funcs);
+		if (plan != null) {
+			plan.to(funcs);
+		} else {
+			array = to(array, funcs);
+		}
 		return this;
 	}
 	
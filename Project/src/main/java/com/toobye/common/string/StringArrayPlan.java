@@ -0,0 +1,922 @@
+/*
+ * Copyright 2026 (C) , All Rights Reserved.
+ * Company: China.
+ * 
+ * Create At 2026/10/19.
+ * 
+ */
+package com.toobye.common.string;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.google.common.collect.AbstractIterator;
+import com.toobye.common.collection.Iterables;
+import com.toobye.common.lang.Checks;
+import com.toobye.common.lang.Condition;
+import com.toobye.common.lang.Function;
+import com.toobye.common.lang.Processors;
+
+/**
+ * <pre> 字符串数组处理计划.
+ * 
+ * 记录StringArray的加工（trim、to等）和过滤（delete、reserve等）步骤，执行时每个元素依次经过全部步骤，
+ * 只遍历一次数组，不生成中间数组。
+ * 计划构建完成后可反复用于多行数据（如按文件构建一次，逐行执行），执行过程不修改计划，可多线程共用。
+ * 
+ * StringArrayPlan plan = StringArrayPlan.create().trim().nullToEmpty().deleteBlank();
+ * for (...) {
+ *     String[] row = plan.apply(StringSplit.splitChar(line, ','));
+ * }
+ * 
+ * Modification History:
+ * Date        Author   Version   Action
+ * 2026/10/19  huangys  v1.0      Create
+ * 2026/10/19  huangys  v1.1      元素全部被移除时返回null，同StringArray
+ * </pre>
+ * 
+ */
+public final class StringArrayPlan {
+
+	/**
+	 * <pre> 被移除元素的标记（按引用比较）. </pre>
+	 */
+	private static final String REMOVED = new String();
+
+	/**
+	 * <pre> 各步骤的加工器，过滤步骤为null. </pre>
+	 */
+	private Function<String, String>[] funcs = newFuncs(8);
+	/**
+	 * <pre> 各步骤的保留条件，加工步骤为null. </pre>
+	 */
+	private Condition<String>[] conditions = newConditions(8);
+	/**
+	 * <pre> 步骤数. </pre>
+	 */
+	private int size = 0;
+
+	/**
+	 * <pre> 创建空计划.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 计划
+	 */
+	@Nonnull
+	public static StringArrayPlan create() {
+		return new StringArrayPlan();
+	}
+
+	/**
+	 * <pre> 构造器. </pre>
+	 */
+	private StringArrayPlan() { }
+
+	/**
+	 * <pre> 步骤数.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 步骤数
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * <pre> 是否无任何步骤.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 是否为空
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * <pre> 增加加工步骤.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param func 加工器
+	 * @return 对象本身
+	 */
+	@Nonnull
+	private StringArrayPlan addFunc(@Nonnull final Function<String, String> func) {
+		Checks.nullThrow(func);
+		return addStep(func, null);
+	}
+
+	/**
+	 * <pre> 增加过滤步骤.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param condition 保留条件
+	 * @return 对象本身
+	 */
+	@Nonnull
+	private StringArrayPlan addCondition(@Nonnull final Condition<String> condition) {
+		return addStep(null, condition);
+	}
+
+	/**
+	 * <pre> 增加步骤.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param func 加工器
+	 * @param condition 保留条件
+	 * @return 对象本身
+	 */
+	@Nonnull
+	private StringArrayPlan addStep(@Nullable final Function<String, String> func, @Nullable final Condition<String> condition) {
+		if (size == funcs.length) {
+			Function<String, String>[] newFuncs = newFuncs(size * 2);
+			Condition<String>[] newConditions = newConditions(size * 2);
+			System.arraycopy(funcs, 0, newFuncs, 0, size);
+			System.arraycopy(conditions, 0, newConditions, 0, size);
+			funcs = newFuncs;
+			conditions = newConditions;
+		}
+		funcs[size] = func;
+		conditions[size] = condition;
+		size++;
+		return this;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	@Nonnull
+	private static Function<String, String>[] newFuncs(final int length) {
+		return new Function[length];
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	@Nonnull
+	private static Condition<String>[] newConditions(final int length) {
+		return new Condition[length];
+	}
+
+	/**
+	 * <pre> 移除元素左右侧的空白字符.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 对象本身
+	 * @see StringArray#trim()
+	 */
+	@Nonnull
+	public StringArrayPlan trim() {
+		return addFunc(StringArrayFuncs.TRIM);
+	}
+
+	/**
+	 * <pre> 移除起始和末尾的指定任意字符.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param searchChars 移除字符集合，null时使用空白字符
+	 * @return 对象本身
+	 * @see StringArray#trimAnyChar(String)
+	 */
+	@Nonnull
+	public StringArrayPlan trimAnyChar(@Nullable final String searchChars) {
+		return addFunc(StringArrayFuncs.trimAnyChar(searchChars));
+	}
+
+	/**
+	 * <pre> Null转换为指定字符串.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param toStr 指定字符串
+	 * @return 对象本身
+	 * @see StringArray#nullTo(String)
+	 */
+	@Nonnull
+	public StringArrayPlan nullTo(@Nullable final String toStr) {
+		return addFunc(StringArrayFuncs.nullTo(toStr));
+	}
+
+	/**
+	 * <pre> Null转换为空字符串.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 对象本身
+	 * @see StringArray#nullToEmpty()
+	 */
+	@Nonnull
+	public StringArrayPlan nullToEmpty() {
+		return addFunc(StringArrayFuncs.NULL_TO_EMPTY);
+	}
+
+	/**
+	 * <pre> "null"字符串转换为Null.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 对象本身
+	 * @see StringArray#nullStringToNull()
+	 */
+	@Nonnull
+	public StringArrayPlan nullStringToNull() {
+		return addFunc(StringArrayFuncs.NULL_STRING_TO_NULL);
+	}
+
+	/**
+	 * <pre> Empty转换为Null.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 对象本身
+	 * @see StringArray#emptyToNull()
+	 */
+	@Nonnull
+	public StringArrayPlan emptyToNull() {
+		return addFunc(StringArrayFuncs.EMPTY_TO_NULL);
+	}
+
+	/**
+	 * <pre> Empty转换为指定字符串.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param toStr 指定字符串
+	 * @return 对象本身
+	 * @see StringArray#emptyTo(String)
+	 */
+	@Nonnull
+	public StringArrayPlan emptyTo(@Nullable final String toStr) {
+		return addFunc(StringArrayFuncs.emptyTo(toStr));
+	}
+
+	/**
+	 * <pre> Blank转换为Null.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 对象本身
+	 * @see StringArray#blankToNull()
+	 */
+	@Nonnull
+	public StringArrayPlan blankToNull() {
+		return addFunc(StringArrayFuncs.BLANK_TO_NULL);
+	}
+
+	/**
+	 * <pre> Blank转换为空字符串.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 对象本身
+	 * @see StringArray#blankToEmpty()
+	 */
+	@Nonnull
+	public StringArrayPlan blankToEmpty() {
+		return addFunc(StringArrayFuncs.BLANK_TO_EMPTY);
+	}
+
+	/**
+	 * <pre> Blank转换为指定字符串.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param toStr 指定字符串
+	 * @return 对象本身
+	 * @see StringArray#blankTo(String)
+	 */
+	@Nonnull
+	public StringArrayPlan blankTo(@Nullable final String toStr) {
+		return addFunc(StringArrayFuncs.blankTo(toStr));
+	}
+
+	/**
+	 * <pre> 匹配字符串转换为指定字符串.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param matchStr 匹配字符串
+	 * @param toStr 指定字符串
+	 * @return 对象本身
+	 * @see StringArray#to(String, String)
+	 */
+	@Nonnull
+	public StringArrayPlan to(@Nullable final String matchStr, @Nullable final String toStr) {
+		return addFunc(StringArrayFuncs.to(matchStr, toStr));
+	}
+
+	/**
+	 * <pre> 匹配字符串（忽视大小写）转换为指定字符串.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param matchStr 匹配字符串
+	 * @param toStr 指定字符串
+	 * @return 对象本身
+	 * @see StringArray#toIgnoreCase(String, String)
+	 */
+	@Nonnull
+	public StringArrayPlan toIgnoreCase(@Nullable final String matchStr, @Nullable final String toStr) {
+		return addFunc(StringArrayFuncs.toIgnoreCase(matchStr, toStr));
+	}
+
+	/**
+	 * <pre> 移除左右侧的组分隔符.
+	 * 仅当两侧都有组分隔符时，才会进行移除操作。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 对象本身
+	 * @see StringArray#trimGroupChar()
+	 */
+	@Nonnull
+	public StringArrayPlan trimGroupChar() {
+		return addFunc(StringArrayFuncs.TRIM_GROUP_CHAR);
+	}
+
+	/**
+	 * <pre> 移除左右侧的组分隔符.
+	 * 仅当两侧都有组分隔符时，才会进行移除操作。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param groupChar 组分隔符
+	 * @param escapeChar 逃逸符
+	 * @return 对象本身
+	 * @see StringArray#trimGroupChar(char, char)
+	 */
+	@Nonnull
+	public StringArrayPlan trimGroupChar(@Nonnull final char groupChar, @Nonnull final char escapeChar) {
+		return addFunc(StringArrayFuncs.trimGroupChar(groupChar, escapeChar));
+	}
+
+	/**
+	 * <pre> 移除逃逸符.
+	 * 仅当逃逸符右侧为组分隔符时。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 对象本身
+	 * @see StringArray#clearEscapeChar()
+	 */
+	@Nonnull
+	public StringArrayPlan clearEscapeChar() {
+		return addFunc(StringArrayFuncs.CLEAR_ESCAPE_CHAR);
+	}
+
+	/**
+	 * <pre> 移除逃逸符.
+	 * 仅当逃逸符右侧为组分隔符时。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param groupChar 组分隔符
+	 * @param escapeChar 逃逸符
+	 * @return 对象本身
+	 * @see StringArray#clearEscapeChar(char, char)
+	 */
+	@Nonnull
+	public StringArrayPlan clearEscapeChar(@Nonnull final char groupChar, @Nonnull final char escapeChar) {
+		return addFunc(StringArrayFuncs.clearEscapeChar(groupChar, escapeChar));
+	}
+
+	/**
+	 * <pre> 将元素使用加工器处理.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param funcs 加工器
+	 * @return 对象本身
+	 * @see StringArray#to(Function...)
+	 */
+	@SafeVarargs
+	@Nonnull
+	public final StringArrayPlan to(@Nullable final Function<String, String>... funcs) {
+		if (funcs != null) {
+			for (Function<String, String> func : funcs) {
+				addFunc(func);
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * <pre> 将元素使用加工器处理.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param funcs 加工器
+	 * @return 对象本身
+	 * @see StringArray#to(Iterable)
+	 */
+	@Nonnull
+	public StringArrayPlan to(@Nullable final Iterable<Function<String, String>> funcs) {
+		if (funcs != null) {
+			for (Function<String, String> func : funcs) {
+				addFunc(func);
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * <pre> 满足条件的移除.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param conditions 条件
+	 * @return 对象本身
+	 * @see StringArray#delete(Condition...)
+	 */
+	@SafeVarargs
+	@SuppressWarnings("varargs")
+	@Nonnull
+	public final StringArrayPlan delete(@Nullable final Condition<String>... conditions) {
+		if (conditions == null || conditions.length == 0) {
+			return this;
+		}
+		return addCondition(Processors.not(Processors.or(conditions)));
+	}
+
+	/**
+	 * <pre> 满足条件的移除.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param conditions 条件
+	 * @return 对象本身
+	 * @see StringArray#delete(Iterable)
+	 */
+	@Nonnull
+	public StringArrayPlan delete(@Nullable final Iterable<Condition<String>> conditions) {
+		if (Iterables.isEmpty(conditions)) {
+			return this;
+		}
+		return addCondition(Processors.not(Processors.or(conditions)));
+	}
+
+	/**
+	 * <pre> 满足条件的保留.
+	 * 条件为空时，移除全部元素（同StringArray）。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param conditions 条件
+	 * @return 对象本身
+	 * @see StringArray#reserve(Condition...)
+	 */
+	@SafeVarargs
+	@SuppressWarnings("varargs")
+	@Nonnull
+	public final StringArrayPlan reserve(@Nullable final Condition<String>... conditions) {
+		if (conditions == null || conditions.length == 0) {
+			return addCondition(NONE);
+		}
+		return addCondition(Processors.or(conditions));
+	}
+
+	/**
+	 * <pre> 满足条件的保留.
+	 * 条件为空时，移除全部元素（同StringArray）。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param conditions 条件
+	 * @return 对象本身
+	 * @see StringArray#reserve(Iterable)
+	 */
+	@Nonnull
+	public StringArrayPlan reserve(@Nullable final Iterable<Condition<String>> conditions) {
+		if (Iterables.isEmpty(conditions)) {
+			return addCondition(NONE);
+		}
+		return addCondition(Processors.or(conditions));
+	}
+
+	/**
+	 * <pre> 移除Null元素.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 对象本身
+	 */
+	@Nonnull
+	public StringArrayPlan deleteNull() {
+		return addCondition(Processors.not(StringArrayFuncs.IS_NULL));
+	}
+
+	/**
+	 * <pre> 移除Empty元素.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 对象本身
+	 */
+	@Nonnull
+	public StringArrayPlan deleteEmpty() {
+		return addCondition(Processors.not(StringArrayFuncs.IS_EMPTY));
+	}
+
+	/**
+	 * <pre> 移除Blank元素.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 对象本身
+	 */
+	@Nonnull
+	public StringArrayPlan deleteBlank() {
+		return addCondition(Processors.not(StringArrayFuncs.IS_BLANK));
+	}
+
+	/**
+	 * <pre> 移除内容为匹配字符串的元素.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param matchStr 匹配字符串
+	 * @return 对象本身
+	 */
+	@Nonnull
+	public StringArrayPlan delete(@Nullable final String matchStr) {
+		Checks.nullThrow(matchStr);
+		return addCondition(Processors.not(StringArrayFuncs.is(matchStr)));
+	}
+
+	/**
+	 * <pre> 移除内容为匹配字符串的元素（忽视大小写）.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param matchStr 匹配字符串
+	 * @return 对象本身
+	 */
+	@Nonnull
+	public StringArrayPlan deleteIgnoreCase(@Nullable final String matchStr) {
+		Checks.nullThrow(matchStr);
+		return addCondition(Processors.not(StringArrayFuncs.isIgnoreCase(matchStr)));
+	}
+
+	/**
+	 * <pre> 追加另一计划的全部步骤.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param plan 计划
+	 * @return 对象本身
+	 */
+	@Nonnull
+	public StringArrayPlan then(@Nonnull final StringArrayPlan plan) {
+		Checks.nullThrow(plan);
+		// 先取步骤数，允许追加自身
+		int otherSize = plan.size;
+		for (int i = 0; i < otherSize; i++) {
+			addStep(plan.funcs[i], plan.conditions[i]);
+		}
+		return this;
+	}
+
+	/**
+	 * <pre> 单个元素依次经过全部步骤.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 元素
+	 * @param from 起始步骤
+	 * @return 处理后的元素，被移除时返回REMOVED
+	 */
+	@Nullable
+	private String process(@Nullable final String str, final int from) {
+		String s = str;
+		for (int i = from; i < size; i++) {
+			Function<String, String> func = funcs[i];
+			if (func != null) {
+				s = func.apply(s);
+			} else if (!conditions[i].match(s)) {
+				return REMOVED;
+			}
+		}
+		return s;
+	}
+
+	/**
+	 * <pre> 执行计划，结果写入指定数组.
+	 * 保留的元素按原顺序写入dest的起始位置，dest可以就是array本身。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param array 字符串数组
+	 * @param dest 结果数组，长度不小于array
+	 * @return 保留的元素数，array为null时返回0
+	 */
+	public int apply(@Nullable final String[] array, @Nonnull final String[] dest) {
+		if (array == null) {
+			return 0;
+		}
+		Checks.nullThrow(dest);
+		Checks.matchThrow(dest.length < array.length, "The dest array is shorter than the source array.");
+		int count = 0;
+		for (String str : array) {
+			String s = process(str, 0);
+			if (s != REMOVED) {
+				dest[count++] = s;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * <pre> 执行计划.
+	 * 与StringArray的加工方法相同，元素在原数组上加工；有元素被移除时，返回新的数组，原数组内容不再有意义。
+	 * 元素全部被移除时返回null（同StringArray）。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * 2026/10/19  huangys  Modify  元素全部被移除时返回null
+	 * </pre>
+	 * 
+	 * @param array 字符串数组
+	 * @return 处理后的字符串数组
+	 */
+	@Nullable
+	public String[] apply(@Nullable final String[] array) {
+		return apply(array, 0);
+	}
+
+	/**
+	 * <pre> 从指定步骤开始执行计划.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param array 字符串数组
+	 * @param from 起始步骤，之前的步骤视为已执行
+	 * @return 处理后的字符串数组
+	 */
+	@Nullable
+	String[] apply(@Nullable final String[] array, final int from) {
+		if (array == null || array.length == 0 || from >= size) {
+			return array;
+		}
+		int count = 0;
+		for (String str : array) {
+			String s = process(str, from);
+			if (s != REMOVED) {
+				array[count++] = s;
+			}
+		}
+		if (count == 0) {
+			return null;
+		}
+		return count == array.length ? array : Arrays.copyOf(array, count);
+	}
+
+	/**
+	 * <pre> 执行计划并连接结果，不修改原数组.
+	 * 元素为Null时，连接时使用空字符串。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param array 字符串数组
+	 * @param separator 分隔符，null时使用空字符串
+	 * @return 连接后字符串，array为null或元素全部被移除时返回null
+	 * @see StringArray#join(Object[], String)
+	 */
+	@Nullable
+	public String join(@Nullable final String[] array, @Nullable final String separator) {
+		return join(array, separator, 0);
+	}
+
+	/**
+	 * <pre> 从指定步骤开始执行计划并连接结果，不修改原数组.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param array 字符串数组
+	 * @param separator 分隔符，null时使用空字符串
+	 * @param from 起始步骤，之前的步骤视为已执行
+	 * @return 连接后字符串，array为null或元素全部被移除时返回null
+	 */
+	@Nullable
+	String join(@Nullable final String[] array, @Nullable final String separator, final int from) {
+		if (array == null) {
+			return null;
+		}
+		StringBuilder sb = new StringBuilder(array.length * 16);
+		boolean first = true;
+		for (String str : array) {
+			String s = process(str, from);
+			if (s != REMOVED) {
+				if (!first && separator != null) {
+					sb.append(separator);
+				}
+				first = false;
+				if (s != null) {
+					sb.append(s);
+				}
+			}
+		}
+		if (first && array.length > 0) {
+			return null;
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * <pre> 执行计划并连接结果，不修改原数组.
+	 * 元素为Null时，连接时使用空字符串。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param array 字符串数组
+	 * @param separator 分隔符
+	 * @return 连接后字符串，array为null或元素全部被移除时返回null
+	 * @see StringArray#join(Object[], char)
+	 */
+	@Nullable
+	public String join(@Nullable final String[] array, @Nonnull final char separator) {
+		return join(array, String.valueOf(separator));
+	}
+
+	/**
+	 * <pre> 逐个执行计划的迭代器，不修改原数组.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param array 字符串数组，null时无元素
+	 * @return 迭代器
+	 */
+	@Nonnull
+	public Iterator<String> iterator(@Nullable final String[] array) {
+		return iterator(array, 0);
+	}
+
+	/**
+	 * <pre> 从指定步骤开始逐个执行计划的迭代器，不修改原数组.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param array 字符串数组，null时无元素
+	 * @param from 起始步骤，之前的步骤视为已执行
+	 * @return 迭代器
+	 */
+	@Nonnull
+	Iterator<String> iterator(@Nullable final String[] array, final int from) {
+		return new AbstractIterator<String>() {
+			private int index = 0;
+			@Override
+			protected String computeNext() {
+				while (array != null && index < array.length) {
+					String s = process(array[index++], from);
+					if (s != REMOVED) {
+						return s;
+					}
+				}
+				return endOfData();
+			}
+		};
+	}
+
+	/**
+	 * <pre> 不保留任何元素. </pre>
+	 */
+	private static final Condition<String> NONE = new Condition<String>() {
+		@Override
+		public boolean match(final String t) {
+			return false;
+		}
+	};
+
+}
@@ -0,0 +1,436 @@
+/*
+ * Copyright 2026 (C) , All Rights Reserved.
+ * Company: China.
+ * 
+ * Create At 2026/10/19.
+ * 
+ */
+package com.toobye.common.string;
+
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.toobye.common.lang.Checks;
+
+/**
+ * <pre> 按字符集计算字符串的字节长度.
+ * 
+ * 逐字符累加编码后的字节数，不生成字节数组，一次遍历即可找到按字节截取的位置（不截断字符）：
+ * UTF-8、UTF-16BE/LE按编码规则直接计算；单字节字符集每个字符1个字节；
+ * GBK、GB18030、Big5等多字节字符集首次使用时建立BMP字符的字节数表；
+ * 其他字符集（如带BOM或有状态的编码）计算长度时使用String.getBytes，按字节截取时用CharsetEncoder编码到限定长度的缓冲区，溢出即停止。
+ * 不可编码的字符与String.getBytes一样按替换字符计算。
+ * 
+ * Modification History:
+ * Date        Author   Version   Action
+ * 2026/10/19  huangys  v1.0      Create
+ * 2026/10/19  huangys  v1.1      其他字符集按字节截取改为限长编码，不再反复生成前缀的字节数组
+ * </pre>
+ * 
+ */
+public final class StringBytes {
+
+	/**
+	 * <pre> Cache. </pre>
+	 */
+	private static final ConcurrentMap<String, StringBytes> BYTES_MAP = new ConcurrentHashMap<String, StringBytes>();
+	/**
+	 * <pre> 缓存的字符集数上限，超出后不再缓存. </pre>
+	 */
+	private static final int MAX_CACHE_SIZE = 256;
+
+	private static final int KIND_UTF8 = 0;
+	private static final int KIND_UTF16 = 1;
+	private static final int KIND_SINGLE = 2;
+	private static final int KIND_TABLE = 3;
+	private static final int KIND_GENERIC = 4;
+
+	/**
+	 * <pre> 逐字符编码、可建字节数表的多字节字符集. </pre>
+	 */
+	private static final Set<String> TABLE_CHARSETS = new HashSet<>(Arrays.asList(
+			"GBK", "GB2312", "GB18030", "Big5", "Big5-HKSCS", "x-EUC-TW", "Shift_JIS", "windows-31j",
+			"EUC-JP", "EUC-KR", "x-windows-949", "x-windows-950", "UTF-32BE", "UTF-32LE"));
+
+	private final Charset charset;
+	private final int kind;
+	/**
+	 * <pre> BMP字符的字节数表（含单独出现的代理字符），首次使用时建立. </pre>
+	 */
+	private volatile byte[] widths;
+
+	/**
+	 * <pre> 构造器. </pre>
+	 * 
+	 * @param charset 字符集
+	 */
+	private StringBytes(@Nonnull final Charset charset) {
+		this.charset = charset;
+		String name = charset.name();
+		if ("UTF-8".equals(name)) {
+			kind = KIND_UTF8;
+		} else if ("UTF-16BE".equals(name) || "UTF-16LE".equals(name)) {
+			kind = KIND_UTF16;
+		} else if (TABLE_CHARSETS.contains(name)) {
+			kind = KIND_TABLE;
+		} else if (charset.canEncode() && charset.newEncoder().maxBytesPerChar() == 1.0f) {
+			kind = KIND_SINGLE;
+		} else {
+			kind = KIND_GENERIC;
+		}
+	}
+
+	/**
+	 * <pre> 获取字符集对应的计算对象.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param charSet 字符集，null时用的是系统默认字符集
+	 * @return 计算对象
+	 */
+	@Nonnull
+	public static StringBytes of(@Nullable final String charSet) {
+		String key = charSet == null ? Charset.defaultCharset().name() : charSet;
+		StringBytes bytes = BYTES_MAP.get(key);
+		if (bytes == null) {
+			if (!Charset.isSupported(key)) {
+				throw new RuntimeException(new UnsupportedEncodingException(key));
+			}
+			bytes = new StringBytes(Charset.forName(key));
+			if (BYTES_MAP.size() < MAX_CACHE_SIZE) {
+				StringBytes old = BYTES_MAP.putIfAbsent(key, bytes);
+				if (old != null) {
+					bytes = old;
+				}
+			}
+		}
+		return bytes;
+	}
+
+	/**
+	 * <pre> 获取字符集对应的计算对象.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param charset 字符集，null时用的是系统默认字符集
+	 * @return 计算对象
+	 */
+	@Nonnull
+	public static StringBytes of(@Nullable final Charset charset) {
+		return of(charset == null ? null : charset.name());
+	}
+
+	/**
+	 * <pre> 字符集.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 字符集
+	 */
+	@Nonnull
+	public Charset getCharset() {
+		return charset;
+	}
+
+	/**
+	 * <pre> 编码后的字节数.
+	 * null -> 0
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 字符串
+	 * @return 字节数
+	 */
+	public int length(@Nullable final CharSequence str) {
+		if (str == null) {
+			return 0;
+		}
+		if (kind == KIND_GENERIC) {
+			return str.toString().getBytes(charset).length;
+		}
+		return (int) scan(str, Long.MAX_VALUE, false);
+	}
+
+	/**
+	 * <pre> 编码后的字节数是否不超过指定值（超过时立即结束计算）.
+	 * null -> true
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 字符串
+	 * @param byteNum 字节数
+	 * @return 是否不超过
+	 */
+	public boolean fits(@Nullable final CharSequence str, final int byteNum) {
+		if (str == null) {
+			return true;
+		}
+		if (kind == KIND_GENERIC) {
+			return length(str) <= byteNum;
+		}
+		return scan(str, byteNum, false) <= byteNum;
+	}
+
+	/**
+	 * <pre> 按字节截取的字符数.
+	 * 返回编码后不超过指定字节数的最长前缀的字符数，不截断字符（包括代理对）。
+	 * null -> 0
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 字符串
+	 * @param byteNum 字节数>=0
+	 * @return 字符数
+	 */
+	public int indexOfLimit(@Nullable final CharSequence str, final int byteNum) {
+		Checks.matchThrow(byteNum < 0, "The byte num must not be negative.");
+		if (str == null) {
+			return 0;
+		}
+		if (kind == KIND_GENERIC) {
+			return genericIndexOfLimit(str.toString(), byteNum);
+		}
+		return (int) scan(str, byteNum, true);
+	}
+
+	/**
+	 * <pre> 按字节截取字符串，不截断字符.
+	 * 不超过指定字节数时返回字符串本身。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 字符串
+	 * @param byteNum 字节数>=0
+	 * @return 截取后的字符串
+	 */
+	@Nullable
+	public String truncate(@Nullable final String str, final int byteNum) {
+		if (str == null) {
+			return null;
+		}
+		int end = indexOfLimit(str, byteNum);
+		return end == str.length() ? str : str.substring(0, end);
+	}
+
+	/**
+	 * <pre> 按字节截取一行的全部字段.
+	 * 在原数组上截取，返回原数组。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param row 字段数组
+	 * @param byteNum 字节数>=0
+	 * @return 截取后的字段数组
+	 */
+	@Nullable
+	public String[] truncate(@Nullable final String[] row, final int byteNum) {
+		if (row != null) {
+			for (int i = 0; i < row.length; i++) {
+				row[i] = truncate(row[i], byteNum);
+			}
+		}
+		return row;
+	}
+
+	/**
+	 * <pre> 按各字段的字节数截取一行的全部字段（如数据库各列的长度）.
+	 * 在原数组上截取，返回原数组；字节数为负数或超出byteNums长度的字段不截取。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param row 字段数组
+	 * @param byteNums 各字段的字节数
+	 * @return 截取后的字段数组
+	 */
+	@Nullable
+	public String[] truncate(@Nullable final String[] row, @Nonnull final int[] byteNums) {
+		Checks.nullThrow(byteNums);
+		if (row != null) {
+			for (int i = 0, size = Math.min(row.length, byteNums.length); i < size; i++) {
+				if (byteNums[i] >= 0) {
+					row[i] = truncate(row[i], byteNums[i]);
+				}
+			}
+		}
+		return row;
+	}
+
+	/**
+	 * <pre> 逐字符累加字节数.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 字符串
+	 * @param limit 字节数上限，超过时立即结束
+	 * @param returnIndex 是否返回字符数
+	 * @return returnIndex时为不超过上限的最长前缀的字符数；否则为字节数，超过上限时为已累加的字节数（大于上限）
+	 */
+	private long scan(@Nonnull final CharSequence str, final long limit, final boolean returnIndex) {
+		byte[] table = kind == KIND_TABLE ? getWidths() : null;
+		int len = str.length();
+		long bytes = 0;
+		int i = 0;
+		while (i < len) {
+			char c = str.charAt(i);
+			int chars = 1;
+			int width;
+			if (Character.isHighSurrogate(c) && i + 1 < len && Character.isLowSurrogate(str.charAt(i + 1))) {
+				chars = 2;
+				width = pairWidth(c, str.charAt(i + 1));
+			} else if (kind == KIND_UTF8) {
+				// 单独的代理字符编码为'?'
+				width = c < 0x80 ? 1 : (c < 0x800 ? 2 : (Character.isSurrogate(c) ? 1 : 3));
+			} else if (kind == KIND_UTF16) {
+				width = 2;
+			} else if (kind == KIND_SINGLE) {
+				width = 1;
+			} else {
+				width = table[c];
+			}
+			if (bytes + width > limit) {
+				bytes += width;
+				break;
+			}
+			bytes += width;
+			i += chars;
+		}
+		return returnIndex ? i : bytes;
+	}
+
+	/**
+	 * <pre> 代理对（补充字符）的字节数.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param high 高位代理
+	 * @param low 低位代理
+	 * @return 字节数
+	 */
+	private int pairWidth(final char high, final char low) {
+		switch (kind) {
+		case KIND_UTF8:
+		case KIND_UTF16:
+			return 4;
+		case KIND_SINGLE:
+			// 不可编码，替换为一个字节
+			return 1;
+		default:
+			return new String(new char[] {high, low}).getBytes(charset).length;
+		}
+	}
+
+	/**
+	 * <pre> BMP字符的字节数表.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 字节数表
+	 */
+	@Nonnull
+	private byte[] getWidths() {
+		byte[] table = widths;
+		if (table == null) {
+			table = new byte[Character.MAX_VALUE + 1];
+			char[] one = new char[1];
+			for (int c = 0; c <= Character.MAX_VALUE; c++) {
+				one[0] = (char) c;
+				table[c] = (byte) new String(one).getBytes(charset).length;
+			}
+			widths = table;
+		}
+		return table;
+	}
+
+	/**
+	 * <pre> 其他字符集按字节截取的字符数.
+	 * 编码到容量为byteNum的缓冲区，溢出时已编码的字符即可容纳的字符（编码器不会拆开代理对）；
+	 * 有状态的编码结束时还需写入复位序列（如ISO-2022-JP），写不下时逐个码点回退。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * 2026/10/19  huangys  Modify  改为限长编码
+	 * </pre>
+	 * 
+	 * @param str 字符串
+	 * @param byteNum 字节数
+	 * @return 字符数
+	 */
+	private int genericIndexOfLimit(@Nonnull final String str, final int byteNum) {
+		// 与String.getBytes一致，不可编码的字符按替换字符计算
+		CharsetEncoder encoder = charset.newEncoder()
+				.onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		// 缓冲区不超过全部编码可能需要的长度（另加BOM、复位序列的余量）
+		long maxBytes = (long) Math.ceil(encoder.maxBytesPerChar() * str.length()) + 16;
+		ByteBuffer out = ByteBuffer.allocate((int) Math.min(byteNum, maxBytes));
+		int end = str.length();
+		while (end > 0) {
+			CharBuffer in = CharBuffer.wrap(str, 0, end);
+			encoder.reset();
+			out.clear();
+			CoderResult result = encoder.encode(in, out, true);
+			if (result.isUnderflow()) {
+				result = encoder.flush(out);
+				if (result.isUnderflow()) {
+					return end;
+				}
+				// 复位序列写不下
+				end = str.offsetByCodePoints(end, -1);
+			} else {
+				end = in.position() < end ? in.position() : str.offsetByCodePoints(end, -1);
+			}
+		}
+		return 0;
+	}
+
+}
@@ -179,15 +179,17 @@ public final class StringComparator {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/04/02  huangys  Create
+	 * 2026/10/19  huangys  Modify  改为位并行计算
 	 * </pre>
 	 * 
 	 * @param cs1 字符串1
 	 * @param cs2 字符串2
 	 * @return 差异度
+	 * @see Levenshtein#distance(CharSequence, CharSequence)
 	 */
 	@Nonnull
 	public static int getLevenshteinDistance(@Nonnull final CharSequence cs1, @Nonnull final CharSequence cs2) {
-		return INSTANCE.getLevenshteinDistance(cs1, cs2);
+		return Levenshtein.distance(cs1, cs2);
 	}
 	
 	/**
@@ -209,16 +211,18 @@ public final class StringComparator {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/04/02  huangys  Create
+	 * 2026/10/19  huangys  Modify  改为位并行计算，超过阀值提前结束
 	 * </pre>
 	 * 
 	 * @param cs1 字符串1
 	 * @param cs2 字符串2
 	 * @param threshold 最大阀值>=0
 	 * @return 差异度
+	 * @see Levenshtein#distance(CharSequence, CharSequence, int)
 	 */
 	@Nonnull
 	public static int getLevenshteinDistance(@Nonnull final CharSequence cs1, @Nonnull final CharSequence cs2, final int threshold) {
-		return INSTANCE.getLevenshteinDistance(cs1, cs2, threshold);
+		return Levenshtein.distance(cs1, cs2, threshold);
 	}
 	
 }
@@ -7,9 +7,13 @@
  */
 package com.toobye.common.string;
 
+import java.io.IOException;
+
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
+import com.toobye.common.lang.Checks;
+
 /**
  * <pre> 字符串格式化.
  * 
@@ -18,6 +22,7 @@ import javax.annotation.Nullable;
  * Modification History:
  * Date        Author   Version   Action
  * 2014/04/02  huangys  v1.0      Create
+ * 2026/10/19  huangys  v1.1      填充直接写入Appendable
  * </pre>
  * 
  */
@@ -277,6 +282,114 @@ public final class StringFormat {
 		return INSTANCE.rightPad(str, size, padStr);
 	}
 	
+	/**
+	 * <pre> 左填充，直接写入Appendable（如Writer）.
+	 * 逐个写入填充字符，不生成填充后的字符串；null视为空字符串。
+	 * 
+	 * ("bat", 5, 'z') -> "zzbat"
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param <A> 输出类型
+	 * @param str 字符串
+	 * @param size 长度
+	 * @param padChar 填充字符
+	 * @param out 输出
+	 * @return 输出
+	 */
+	@Nonnull
+	public static <A extends Appendable> A leftPadTo(@Nullable final CharSequence str, final int size, final char padChar, @Nonnull final A out) {
+		Checks.nullThrow(out);
+		int len = str == null ? 0 : str.length();
+		try {
+			repeatInternal(padChar, size - len, out);
+			if (len > 0) {
+				out.append(str);
+			}
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		return out;
+	}
+	
+	/**
+	 * <pre> 右填充，直接写入Appendable（如Writer）.
+	 * 逐个写入填充字符，不生成填充后的字符串；null视为空字符串。
+	 * 
+	 * ("bat", 5, 'z') -> "batzz"
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param <A> 输出类型
+	 * @param str 字符串
+	 * @param size 长度
+	 * @param padChar 填充字符
+	 * @param out 输出
+	 * @return 输出
+	 */
+	@Nonnull
+	public static <A extends Appendable> A rightPadTo(@Nullable final CharSequence str, final int size, final char padChar, @Nonnull final A out) {
+		Checks.nullThrow(out);
+		int len = str == null ? 0 : str.length();
+		try {
+			if (len > 0) {
+				out.append(str);
+			}
+			repeatInternal(padChar, size - len, out);
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		return out;
+	}
+	
+	/**
+	 * <pre> 字符重复写入Appendable（如Writer）.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param <A> 输出类型
+	 * @param ch 字符
+	 * @param repeat 重复次数，<=0时不写入
+	 * @param out 输出
+	 * @return 输出
+	 */
+	@Nonnull
+	public static <A extends Appendable> A repeatTo(final char ch, final int repeat, @Nonnull final A out) {
+		Checks.nullThrow(out);
+		try {
+			repeatInternal(ch, repeat, out);
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		return out;
+	}
+	
+	/**
+	 * <pre> 空格，填充空格时按段写入. </pre>
+	 */
+	private static final String SPACES = "                                                                ";
+	
+	private static void repeatInternal(final char ch, final int repeat, @Nonnull final Appendable out) throws IOException {
+		if (ch == ' ') {
+			for (int left = repeat; left > 0; left -= SPACES.length()) {
+				out.append(SPACES, 0, Math.min(left, SPACES.length()));
+			}
+			return;
+		}
+		for (int i = 0; i < repeat; i++) {
+			out.append(ch);
+		}
+	}
+	
 	/**
 	 * <pre> 字符串所有字符重复叠加.
 	 * 
@@ -9,6 +9,7 @@ package com.toobye.common.string;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.regex.Matcher;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -19,9 +20,12 @@ import com.toobye.common.lang.Checks;
  * <pre> 字符串拆分.
  * 逃逸符仅对组分隔符有效
  * 
+ * 可通过compile预编译拆分器，重复拆分多条记录（非线程安全）。
+ * 
  * Modification History:
  * Date        Author   Version   Action
  * 2014/01/14  huangys  v1.0      Create
+ * 2026/10/19  huangys  v1.1      正则表达式分隔符预编译，在当前位置匹配（线性时间），拆分器可重复使用
  * </pre>
  * 
  */
@@ -37,23 +41,25 @@ public final class StringGroupSplit {
 	 */
 	public static final char DEFAULT_ESCAPE_CHAR = '\\';
 
+	private final String separator;
+	private final char groupChar;
+	private final char escapeChar;
+	private final int resultSize;
 	private String str;
-	private String separator;
-	private char groupChar;
-	private char escapeChar;
 	private String[] result;
-	private int resultSize;
 	
 	// 智能空格容错机制
 	private boolean spaceIntelligent = false;
 	// 分隔符是否为正则表达式
-	private boolean isRegexSeparator;
+	private final boolean isRegexSeparator;
+	// 正则表达式分隔符的匹配器
+	private final Matcher separatorMatcher;
 	
 	// 处理过程中的全局临时变量
 	private int index = 0;
 	private int strLength;
 	private boolean groupEnable = false;
-	private StringBuilder field = new StringBuilder();
+	private final StringBuilder field = new StringBuilder();
 	
 	/**
 	 * <pre> 返回拆分结果.
@@ -182,21 +188,57 @@ public final class StringGroupSplit {
 	 * @return 字符串数组加工类，可以对结果进行加工
 	 */
 	public static StringArray split(@Nullable final String str, @Nonnull final String separator, @Nonnull final char groupChar, @Nonnull final char escapeChar, @Nonnull final int resultSize, @Nonnull final boolean separatorIsRegex) {
-		return StringArray.of(new StringGroupSplit(str, separator, groupChar, escapeChar, resultSize, separatorIsRegex).getResult());
+		return StringArray.of(new StringGroupSplit(separator, groupChar, escapeChar, resultSize, separatorIsRegex).parse(str));
 	}
 	
 	/**
-	 * <pre> 构造器. </pre>
+	 * <pre> 预编译拆分器.
+	 * 组分隔符默认为双引号，逃逸符默认为右斜杠。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 *
+	 * @param separator 分隔符
+	 * @param separatorIsRegex 分隔符是否为正则表达式
+	 * @return 拆分器，非线程安全
+	 */
+	@Nonnull
+	public static StringGroupSplit compile(@Nonnull final String separator, @Nonnull final boolean separatorIsRegex) {
+		return compile(separator, DEFAULT_GROUP_CHAR, DEFAULT_ESCAPE_CHAR, 0, separatorIsRegex);
+	}
+	
+	/**
+	 * <pre> 预编译拆分器.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
 	 *
-	 * @param str 字符串（非正则表达式）
 	 * @param separator 分隔符
 	 * @param groupChar 组分隔符
 	 * @param escapeChar 逃逸符，仅对组分隔符有效
+	 * @param resultSize 返回结果的最大元素个数
 	 * @param separatorIsRegex 分隔符是否为正则表达式
+	 * @return 拆分器，非线程安全
+	 */
+	@Nonnull
+	public static StringGroupSplit compile(@Nonnull final String separator, @Nonnull final char groupChar, @Nonnull final char escapeChar, @Nonnull final int resultSize, @Nonnull final boolean separatorIsRegex) {
+		return new StringGroupSplit(separator, groupChar, escapeChar, resultSize, separatorIsRegex);
+	}
+	
+	/**
+	 * <pre> 构造器. </pre>
+	 *
+	 * @param separator 分隔符
+	 * @param groupChar 组分隔符
+	 * @param escapeChar 逃逸符，仅对组分隔符有效
 	 * @param resultSize 返回结果的最大元素个数
+	 * @param separatorIsRegex 分隔符是否为正则表达式
 	 */
-	private StringGroupSplit(@Nullable final String str, @Nonnull final String separator, @Nonnull final char groupChar, @Nonnull final char escapeChar, @Nonnull final int resultSize, @Nonnull final boolean separatorIsRegex) {
-		this.str = str;
+	private StringGroupSplit(@Nonnull final String separator, @Nonnull final char groupChar, @Nonnull final char escapeChar, @Nonnull final int resultSize, @Nonnull final boolean separatorIsRegex) {
 		this.separator = separator;
 		this.groupChar = groupChar;
 		this.escapeChar = escapeChar;
@@ -204,6 +246,23 @@ public final class StringGroupSplit {
 		isRegexSeparator = separatorIsRegex;
 		// 检查参数
 		checkParameters();
+		separatorMatcher = isRegexSeparator ? PatternCache.get(separator).matcher("") : null;
+	}
+	
+	/**
+	 * <pre> 拆分字符串.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 *
+	 * @param str 字符串
+	 * @return 拆分后字符串数组
+	 */
+	@Nullable
+	public String[] parse(@Nullable final String str) {
+		this.str = str;
 		// 特殊处理
 		if (str == null) {
 			result = null;
@@ -211,8 +270,14 @@ public final class StringGroupSplit {
 			result = EMPTY_RESULT;
 		} else {
 			strLength = str.length();
+			groupEnable = false;
+			field.setLength(0);
+			if (separatorMatcher != null) {
+				separatorMatcher.reset(str);
+			}
 			splitGroup();
 		}
+		return result;
 	}
 	
 	/**
@@ -226,9 +291,9 @@ public final class StringGroupSplit {
 	 */
 	private void checkParameters() {
 		Checks.matchThrow(groupChar == escapeChar, "GroupChar is the same as escapeChar.");
+		Checks.nullThrow(separator, "Separator cannot be null.");
 		if (!isRegexSeparator) {
 			// 检查参数间是否有冲突
-			Checks.nullThrow(separator, "Separator cannot be null.");
 			Checks.matchThrow(separator.contains(groupChar + ""), "Separator cannot cantain groupChar.");
 			Checks.matchThrow(separator.contains(escapeChar + ""), "Separator cannot cantain escapeChar.");
 			// 智能空格容错机制
@@ -244,6 +309,7 @@ public final class StringGroupSplit {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/01/14  huangys  Create
+	 * 2026/10/19  huangys  Modify 正则表达式预编译，在当前位置匹配
 	 * </pre>
 	 * 
 	 * @param str
@@ -255,9 +321,10 @@ public final class StringGroupSplit {
 			if (index >= strLength) {
 				return false;
 			}
-			String temp = "^(" + separator + ").*$";
-			if (str.substring(index).matches(temp)) {
-				index = index + StringRE.getOneGroupFirst(str.substring(index), temp).length() - 1;
+			// 不截取字符串，直接在当前位置匹配；忽略空匹配，避免死循环
+			separatorMatcher.region(index, strLength);
+			if (separatorMatcher.lookingAt() && separatorMatcher.end() > index) {
+				index = separatorMatcher.end() - 1;
 				return true;
 			} else {
 				return false;
@@ -408,6 +475,7 @@ public final class StringGroupSplit {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/01/15  huangys  Create
+	 * 2026/10/19  huangys  Modify 正则表达式使用共用缓存
 	 * </pre>
 	 * 
 	 * @param str 字符串
@@ -416,11 +484,11 @@ public final class StringGroupSplit {
 	public static String[] splitWhitespace(final String str) {
 		String temp = str;
 		// 移除起始的空白字符
-		if (temp.matches("^(\\s+).*$")) {
+		if (PatternCache.matches(temp, "^(\\s+).*$")) {
 			temp = temp.substring(StringRE.getOneGroupFirst(temp, "^(\\s+).*").length());
 		}
 		// 移除末尾的空白字符
-		if (temp.matches("^.*(\\s+)$")) {
+		if (PatternCache.matches(temp, "^.*(\\s+)$")) {
 			temp = temp.substring(0, temp.length() - StringRE.getOneGroupFirst(temp, "^.*(\\s+)$").length() - 1);
 		}
 		return split(temp, "\\s+", true).trimGroupChar().nullStringToNull().clearEscapeChar().getArray();
@@ -0,0 +1,525 @@
+/*
+ * Copyright 2026 (C) , All Rights Reserved.
+ * Company: China.
+ * 
+ * Create At 2026/10/19.
+ * 
+ */
+package com.toobye.common.string;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.regex.Matcher;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.apache.commons.io.Charsets;
+
+import com.toobye.common.lang.Checks;
+
+/**
+ * <pre> 流式记录拆分（非线程安全）.
+ * 
+ * 从Reader逐条读取记录，字段拆分规则同StringGroupSplit（组分隔符、逃逸符、分隔符、智能空格容错）。
+ * 记录以换行（\n或\r\n）结束，组分隔符内的换行属于字段内容，即记录可跨多行；
+ * 组分隔符之后（忽略空格）紧接行尾时，视为组结束。
+ * 字段以记录内的位置[start, end)表示，字符缓冲区重复使用，调用方按需取出字段内容，
+ * 所有位置及视图在下一次调用next前有效。
+ * 
+ * Modification History:
+ * Date        Author   Version   Action
+ * 2026/10/19  huangys  v1.0      Create
+ * </pre>
+ * 
+ */
+public final class StringGroupTokenizer implements Closeable {
+
+	private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+	private final Reader reader;
+	private final String separator;
+	private final char groupChar;
+	private final char escapeChar;
+	// 智能空格容错机制
+	private final boolean spaceIntelligent;
+	// 正则表达式分隔符的匹配器，非正则表达式时为null
+	private final Matcher separatorMatcher;
+
+	// 字符缓冲区，当前记录从recordStart开始，有效内容至filled
+	private char[] buffer = new char[DEFAULT_BUFFER_SIZE];
+	private int recordStart;
+	private int filled;
+	private boolean eof;
+	// 当前记录（含换行）的长度，及不含换行的长度
+	private int consumed;
+	private int recordLength;
+	// 字段位置，依次为各字段的start、end
+	private int[] spans = new int[32];
+	private int fieldCount;
+	private long recordNumber;
+	// findLineEnd的结果：换行之后的位置
+	private int termEnd;
+
+	private StringGroupTokenizer(@Nonnull final Reader reader, @Nonnull final String separator, @Nonnull final char groupChar, @Nonnull final char escapeChar, @Nonnull final boolean separatorIsRegex) {
+		Checks.nullThrow(reader);
+		Checks.emptyThrow(separator, "Separator cannot be empty.");
+		Checks.matchThrow(groupChar == escapeChar, "GroupChar is the same as escapeChar.");
+		this.reader = reader;
+		this.separator = separator;
+		this.groupChar = groupChar;
+		this.escapeChar = escapeChar;
+		if (separatorIsRegex) {
+			spaceIntelligent = false;
+			separatorMatcher = PatternCache.get(separator).matcher(CharBuffer.wrap(buffer));
+		} else {
+			Checks.matchThrow(separator.contains(groupChar + ""), "Separator cannot cantain groupChar.");
+			Checks.matchThrow(separator.contains(escapeChar + ""), "Separator cannot cantain escapeChar.");
+			spaceIntelligent = !(separator.contains(" ") || groupChar == ' ' || escapeChar == ' ');
+			separatorMatcher = null;
+		}
+	}
+
+	/**
+	 * <pre> 创建流式记录拆分.
+	 * 组分隔符默认为双引号，逃逸符默认为右斜杠。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param reader 输入
+	 * @param separator 分隔符
+	 * @param separatorIsRegex 分隔符是否为正则表达式
+	 * @return 流式记录拆分
+	 */
+	@Nonnull
+	public static StringGroupTokenizer of(@Nonnull final Reader reader, @Nonnull final String separator, @Nonnull final boolean separatorIsRegex) {
+		return of(reader, separator, StringGroupSplit.DEFAULT_GROUP_CHAR, StringGroupSplit.DEFAULT_ESCAPE_CHAR, separatorIsRegex);
+	}
+
+	/**
+	 * <pre> 创建流式记录拆分.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param reader 输入
+	 * @param separator 分隔符
+	 * @param groupChar 组分隔符
+	 * @param escapeChar 逃逸符，仅对组分隔符有效
+	 * @param separatorIsRegex 分隔符是否为正则表达式
+	 * @return 流式记录拆分
+	 */
+	@Nonnull
+	public static StringGroupTokenizer of(@Nonnull final Reader reader, @Nonnull final String separator, @Nonnull final char groupChar, @Nonnull final char escapeChar, @Nonnull final boolean separatorIsRegex) {
+		return new StringGroupTokenizer(reader, separator, groupChar, escapeChar, separatorIsRegex);
+	}
+
+	/**
+	 * <pre> 创建流式记录拆分.
+	 * 组分隔符默认为双引号，逃逸符默认为右斜杠。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param is 输入流
+	 * @param charset 字符集，null为系统默认字符集
+	 * @param separator 分隔符
+	 * @param separatorIsRegex 分隔符是否为正则表达式
+	 * @return 流式记录拆分
+	 */
+	@Nonnull
+	public static StringGroupTokenizer of(@Nonnull final InputStream is, @Nullable final String charset, @Nonnull final String separator, @Nonnull final boolean separatorIsRegex) {
+		Checks.nullThrow(is);
+		return of(new InputStreamReader(is, Charsets.toCharset(charset)), separator, separatorIsRegex);
+	}
+
+	/**
+	 * <pre> 读取更多内容，必要时丢弃已处理的内容或扩大缓冲区. </pre>
+	 */
+	private void fill() throws IOException {
+		if (filled == buffer.length) {
+			if (recordStart > 0) {
+				System.arraycopy(buffer, recordStart, buffer, 0, filled - recordStart);
+				filled -= recordStart;
+				recordStart = 0;
+			} else {
+				buffer = Arrays.copyOf(buffer, buffer.length * 2);
+				if (separatorMatcher != null) {
+					separatorMatcher.reset(CharBuffer.wrap(buffer));
+				}
+			}
+		}
+		int n = reader.read(buffer, filled, buffer.length - filled);
+		if (n < 0) {
+			eof = true;
+		} else {
+			filled += n;
+		}
+	}
+
+	/**
+	 * <pre> 确保记录内指定位置的字符已读入，到达末尾时返回false. </pre>
+	 */
+	private boolean ensure(final int pos) throws IOException {
+		while (recordStart + pos >= filled) {
+			if (eof) {
+				return false;
+			}
+			fill();
+		}
+		return true;
+	}
+
+	private char charAt(final int pos) {
+		return buffer[recordStart + pos];
+	}
+
+	/**
+	 * <pre> 查找从指定位置开始的行尾（不含\r\n），换行之后的位置记入termEnd. </pre>
+	 */
+	private int findLineEnd(final int from) throws IOException {
+		int i = from;
+		while (ensure(i)) {
+			if (charAt(i) == '\n') {
+				termEnd = i + 1;
+				return i > from && charAt(i - 1) == '\r' ? i - 1 : i;
+			}
+			i++;
+		}
+		termEnd = i;
+		return i;
+	}
+
+	/**
+	 * <pre> 判断指定位置是否为分隔符（不跨行），是则返回分隔符之后的位置，否则返回-1. </pre>
+	 */
+	private int matchSeparator(final int pos, final int lineEnd) {
+		if (separatorMatcher != null) {
+			separatorMatcher.region(recordStart + pos, recordStart + lineEnd);
+			// 忽略空匹配，避免死循环
+			if (separatorMatcher.lookingAt() && separatorMatcher.end() > recordStart + pos) {
+				return separatorMatcher.end() - recordStart;
+			}
+			return -1;
+		}
+		if (pos + separator.length() > lineEnd) {
+			return -1;
+		}
+		for (int i = 0; i < separator.length(); i++) {
+			if (charAt(pos + i) != separator.charAt(i)) {
+				return -1;
+			}
+		}
+		return pos + separator.length();
+	}
+
+	private void addField(final int start, final int end) {
+		if (fieldCount * 2 == spans.length) {
+			spans = Arrays.copyOf(spans, spans.length * 2);
+		}
+		spans[fieldCount * 2] = start;
+		spans[fieldCount * 2 + 1] = end;
+		fieldCount++;
+	}
+
+	/**
+	 * <pre> 读取下一条记录.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 是否读取到记录，到达末尾时返回false
+	 */
+	public boolean next() {
+		try {
+			return nextInternal();
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private boolean nextInternal() throws IOException {
+		// 丢弃上一条记录
+		recordStart += consumed;
+		consumed = 0;
+		recordLength = 0;
+		fieldCount = 0;
+		if (!ensure(0)) {
+			return false;
+		}
+		recordNumber++;
+		int index = 0;
+		int fieldStart = 0;
+		int fieldEnd = 0;
+		boolean groupEnable = false;
+		int lineEnd = findLineEnd(0);
+		while (true) {
+			if (index >= lineEnd) {
+				if (!groupEnable || termEnd == lineEnd) {
+					// 组分隔符未打开时换行即记录结束，或已到达末尾
+					addField(fieldStart, fieldEnd);
+					recordLength = lineEnd;
+					consumed = termEnd;
+					return true;
+				}
+				// 组内的换行属于字段内容
+				index = termEnd;
+				fieldEnd = termEnd;
+				lineEnd = findLineEnd(index);
+				continue;
+			}
+			char c = charAt(index);
+			int next;
+			// 组分隔符未打开、且后续内容为分隔符时，结束该字段
+			if (!groupEnable && (next = matchSeparator(index, lineEnd)) > 0) {
+				addField(fieldStart, fieldEnd);
+				index = next;
+				fieldStart = index;
+				fieldEnd = index;
+			} else if (c == groupChar) {
+				fieldEnd = index + 1;
+				if (groupEnable) {
+					// 分组符结束时，判断是否为分隔符
+					int pos = index + 1;
+					if (spaceIntelligent) {
+						while (pos < lineEnd && charAt(pos) == ' ') {
+							pos++;
+						}
+					}
+					if (pos >= lineEnd) {
+						// 紧接行尾，组结束
+						groupEnable = false;
+						index = lineEnd;
+					} else if ((next = matchSeparator(pos, lineEnd)) > 0) {
+						addField(fieldStart, fieldEnd);
+						groupEnable = false;
+						index = next;
+						fieldStart = index;
+						fieldEnd = index;
+					} else {
+						index++;
+					}
+				} else {
+					if (fieldEnd - fieldStart == 1) {
+						groupEnable = true;
+					} else if (isBlank(fieldStart, index)) {
+						// 忽略组分隔符之前的空白
+						groupEnable = true;
+						fieldStart = index;
+					}
+					index++;
+				}
+			} else if (c == escapeChar) {
+				// 转义仅对组分隔符有效
+				if (index + 1 < lineEnd && charAt(index + 1) == groupChar) {
+					index += 2;
+				} else {
+					index++;
+				}
+				fieldEnd = index;
+			} else {
+				index++;
+				fieldEnd = index;
+			}
+		}
+	}
+
+	/**
+	 * <pre> 区间内是否均为空白（同String.trim）. </pre>
+	 */
+	private boolean isBlank(final int start, final int end) {
+		if (groupChar <= ' ') {
+			return false;
+		}
+		for (int i = start; i < end; i++) {
+			if (charAt(i) > ' ') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * <pre> 当前记录序号，从1开始.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 记录序号
+	 */
+	public long getRecordNumber() {
+		return recordNumber;
+	}
+
+	/**
+	 * <pre> 当前记录内容（不含末尾换行）的视图.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 记录内容
+	 */
+	@Nonnull
+	public CharSequence getRecord() {
+		return CharBuffer.wrap(buffer, recordStart, recordLength);
+	}
+
+	/**
+	 * <pre> 当前记录的字段个数.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 字段个数
+	 */
+	public int getFieldCount() {
+		return fieldCount;
+	}
+
+	/**
+	 * <pre> 字段在记录内的起始位置.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param field 字段序号，从0开始
+	 * @return 起始位置
+	 */
+	public int getFieldStart(@Nonnull final int field) {
+		checkField(field);
+		return spans[field * 2];
+	}
+
+	/**
+	 * <pre> 字段在记录内的结束位置（不包含）.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param field 字段序号，从0开始
+	 * @return 结束位置
+	 */
+	public int getFieldEnd(@Nonnull final int field) {
+		checkField(field);
+		return spans[field * 2 + 1];
+	}
+
+	private void checkField(final int field) {
+		if (field < 0 || field >= fieldCount) {
+			throw new IndexOutOfBoundsException("Field(" + field + ") is out of range(" + fieldCount + ").");
+		}
+	}
+
+	/**
+	 * <pre> 字段内容的视图，不复制字符.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param field 字段序号，从0开始
+	 * @return 字段内容
+	 */
+	@Nonnull
+	public CharSequence getField(@Nonnull final int field) {
+		int start = getFieldStart(field);
+		return CharBuffer.wrap(buffer, recordStart + start, spans[field * 2 + 1] - start);
+	}
+
+	/**
+	 * <pre> 字段内容.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param field 字段序号，从0开始
+	 * @return 字段内容
+	 */
+	@Nonnull
+	public String getString(@Nonnull final int field) {
+		int start = getFieldStart(field);
+		return new String(buffer, recordStart + start, spans[field * 2 + 1] - start);
+	}
+
+	/**
+	 * <pre> 字段内容是否与指定字符串相同，不复制字符.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param field 字段序号，从0开始
+	 * @param str 字符串
+	 * @return 是否相同
+	 */
+	public boolean fieldEquals(@Nonnull final int field, @Nullable final CharSequence str) {
+		int start = getFieldStart(field);
+		int len = spans[field * 2 + 1] - start;
+		if (str == null || str.length() != len) {
+			return false;
+		}
+		for (int i = 0; i < len; i++) {
+			if (charAt(start + i) != str.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * <pre> 当前记录的全部字段，同StringGroupSplit.split的结果.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 字符串数组加工类，可以对结果进行加工
+	 */
+	@Nonnull
+	public StringArray getStringArray() {
+		String[] ret = new String[fieldCount];
+		for (int i = 0; i < fieldCount; i++) {
+			ret[i] = getString(i);
+		}
+		return StringArray.of(ret);
+	}
+
+	@Override
+	public void close() {
+		try {
+			reader.close();
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+}
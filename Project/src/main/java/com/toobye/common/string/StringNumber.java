@@ -0,0 +1,401 @@
+/*
+ * Copyright 2026 (C) , All Rights Reserved.
+ * Company: China.
+ * 
+ * Create At 2026/10/19.
+ * 
+ */
+package com.toobye.common.string;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import javax.annotation.Nonnull;
+
+/**
+ * <pre> 智能数值解析.
+ * 
+ * 一次扫描解析：首尾空白、正负号、千分位（1,234,567）、小数，以及单位后缀（万、亿、%，后缀之后的内容忽略）。
+ * 其余格式（科学计数法、NaN、Infinity等）按Double.parseDouble解析，格式有误时抛出NumberFormatException。
+ * long/int直接按十进制精确计算，不经过double；超出范围时取最大/最小值。
+ * 可直接解析字符串的指定区间（如StringSpans的元素），不生成中间字符串。
+ * 
+ * "1,234.5"  -> 1234.5
+ * "-1.5万"   -> -15000
+ * "3亿元"    -> 300000000
+ * "12%"      -> 0.12
+ * 
+ * Modification History:
+ * Date        Author   Version   Action
+ * 2026/10/19  huangys  v1.0      Create
+ * </pre>
+ * 
+ */
+public final class StringNumber {
+
+	private StringNumber() { }
+
+	/**
+	 * <pre> 单位后缀. </pre>
+	 */
+	private static final char[] UNITS = { '万', '亿', '%' };
+	/**
+	 * <pre> 单位对应的10的幂. </pre>
+	 */
+	private static final int[] UNIT_EXPONENTS = { 4, 8, -2 };
+	/**
+	 * <pre> 单位对应的倍数（double）. </pre>
+	 */
+	private static final double[] UNIT_FACTORS = { 10000d, 100000000d, 0.01d };
+	/**
+	 * <pre> 可精确表示的10的幂（double）. </pre>
+	 */
+	private static final double[] POW10 = {
+		1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15,
+	};
+	/**
+	 * <pre> 10的幂（long）. </pre>
+	 */
+	private static final long[] LONG_POW10 = {
+		1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L, 1000000000L,
+		10000000000L, 100000000000L, 1000000000000L, 10000000000000L, 100000000000000L,
+		1000000000000000L, 10000000000000000L, 100000000000000000L, 1000000000000000000L,
+	};
+	/**
+	 * <pre> 快速解析double的最大有效数字位数，此时尾数可精确表示. </pre>
+	 */
+	private static final int MAX_FAST_DIGITS = 15;
+	/**
+	 * <pre> long尾数的最大有效数字位数. </pre>
+	 */
+	private static final int MAX_LONG_DIGITS = 18;
+
+	/**
+	 * <pre> 扫描结果. </pre>
+	 */
+	private static final class Scanned {
+		private boolean valid;
+		private boolean negative;
+		/**
+		 * <pre> 有效数字（去掉前导0，最多MAX_LONG_DIGITS位）. </pre>
+		 */
+		private long mantissa;
+		/**
+		 * <pre> 有效数字位数，超过MAX_LONG_DIGITS时继续计数. </pre>
+		 */
+		private int digits;
+		/**
+		 * <pre> 小数位数. </pre>
+		 */
+		private int fractionDigits;
+		/**
+		 * <pre> 单位序号，无为-1. </pre>
+		 */
+		private int unit = -1;
+		/**
+		 * <pre> 数值部分的起止位置（不含单位）. </pre>
+		 */
+		private int numberStart;
+		private int numberEnd;
+	}
+
+	/**
+	 * <pre> 解析为double.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 字符串
+	 * @return 数值
+	 */
+	public static double parseDouble(@Nonnull final CharSequence str) {
+		return parseDouble(str, 0, str.length());
+	}
+
+	/**
+	 * <pre> 解析区间[start, end)为double.
+	 * 不超过15位有效数字时直接计算（与Double.parseDouble结果一致），再乘以单位倍数。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 字符串
+	 * @param start 起始位置
+	 * @param end 结束位置（不含）
+	 * @return 数值
+	 */
+	public static double parseDouble(@Nonnull final CharSequence str, final int start, final int end) {
+		Scanned scanned = scan(str, start, end);
+		if (!scanned.valid) {
+			return Double.parseDouble(str.subSequence(start, end).toString());
+		}
+		return toDouble(str, scanned);
+	}
+
+	/**
+	 * <pre> 解析为long.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 字符串
+	 * @return 数值
+	 */
+	public static long parseLong(@Nonnull final CharSequence str) {
+		return parseLong(str, 0, str.length());
+	}
+
+	/**
+	 * <pre> 解析区间[start, end)为long.
+	 * 按十进制精确计算后截去小数部分（向0取整），超出范围时取最大/最小值。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 字符串
+	 * @param start 起始位置
+	 * @param end 结束位置（不含）
+	 * @return 数值
+	 */
+	public static long parseLong(@Nonnull final CharSequence str, final int start, final int end) {
+		Scanned scanned = scan(str, start, end);
+		if (!scanned.valid) {
+			return (long) Double.parseDouble(str.subSequence(start, end).toString());
+		}
+		if (scanned.digits > MAX_LONG_DIGITS) {
+			return toLongExact(str, scanned);
+		}
+		int exponent = (scanned.unit < 0 ? 0 : UNIT_EXPONENTS[scanned.unit]) - scanned.fractionDigits;
+		long value;
+		if (scanned.mantissa == 0) {
+			value = 0;
+		} else if (exponent >= 0) {
+			if (exponent >= LONG_POW10.length || scanned.mantissa > Long.MAX_VALUE / LONG_POW10[exponent]) {
+				return toLongExact(str, scanned);
+			}
+			value = scanned.mantissa * LONG_POW10[exponent];
+		} else {
+			value = -exponent >= LONG_POW10.length ? 0 : scanned.mantissa / LONG_POW10[-exponent];
+		}
+		return scanned.negative ? -value : value;
+	}
+
+	/**
+	 * <pre> 解析为int.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 字符串
+	 * @return 数值
+	 */
+	public static int parseInt(@Nonnull final CharSequence str) {
+		return parseInt(str, 0, str.length());
+	}
+
+	/**
+	 * <pre> 解析区间[start, end)为int.
+	 * 按十进制精确计算后截去小数部分（向0取整），超出范围时取最大/最小值。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 字符串
+	 * @param start 起始位置
+	 * @param end 结束位置（不含）
+	 * @return 数值
+	 */
+	public static int parseInt(@Nonnull final CharSequence str, final int start, final int end) {
+		long value = parseLong(str, start, end);
+		if (value > Integer.MAX_VALUE) {
+			return Integer.MAX_VALUE;
+		}
+		if (value < Integer.MIN_VALUE) {
+			return Integer.MIN_VALUE;
+		}
+		return (int) value;
+	}
+
+	/**
+	 * <pre> 扫描数值.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 字符串
+	 * @param start 起始位置
+	 * @param end 结束位置（不含）
+	 * @return 扫描结果，不符合格式时valid为false
+	 */
+	@Nonnull
+	private static Scanned scan(@Nonnull final CharSequence str, final int start, final int end) {
+		Scanned scanned = new Scanned();
+		int i = start;
+		int last = end;
+		// 同Double.parseDouble，去掉首尾空白
+		while (i < last && str.charAt(i) <= ' ') {
+			i++;
+		}
+		while (last > i && str.charAt(last - 1) <= ' ') {
+			last--;
+		}
+		if (i < last && (str.charAt(i) == '-' || str.charAt(i) == '+')) {
+			scanned.negative = str.charAt(i) == '-';
+			i++;
+		}
+		scanned.numberStart = i;
+		int intDigits = 0;
+		int fractionDigits = -1;
+		// 最后一个千分位之后的位数，无千分位为-1
+		int group = -1;
+		for (; i < last; i++) {
+			char c = str.charAt(i);
+			if (c >= '0' && c <= '9') {
+				if (fractionDigits >= 0) {
+					fractionDigits++;
+				} else {
+					intDigits++;
+					if (group >= 0) {
+						group++;
+					}
+				}
+				if (scanned.digits > 0 || c != '0') {
+					if (scanned.digits < MAX_LONG_DIGITS) {
+						scanned.mantissa = scanned.mantissa * 10 + (c - '0');
+					}
+					scanned.digits++;
+				}
+			} else if (c == ',' && fractionDigits < 0 && (group < 0 ? intDigits > 0 && intDigits <= 3 : group == 3)) {
+				group = 0;
+			} else if (c == '.' && fractionDigits < 0) {
+				fractionDigits = 0;
+			} else {
+				break;
+			}
+		}
+		scanned.numberEnd = i;
+		scanned.fractionDigits = fractionDigits < 0 ? 0 : fractionDigits;
+		if (intDigits + scanned.fractionDigits == 0 || (group >= 0 && group != 3)) {
+			return scanned;
+		}
+		if (i < last) {
+			scanned.unit = unitIndex(str.charAt(i));
+			if (scanned.unit < 0) {
+				return scanned;
+			}
+		}
+		scanned.valid = true;
+		return scanned;
+	}
+
+	/**
+	 * <pre> 单位序号.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param c 字符
+	 * @return 序号，不是单位返回-1
+	 */
+	private static int unitIndex(final char c) {
+		for (int i = 0; i < UNITS.length; i++) {
+			if (UNITS[i] == c) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * <pre> 扫描结果转为double.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 字符串
+	 * @param scanned 扫描结果
+	 * @return 数值
+	 */
+	private static double toDouble(@Nonnull final CharSequence str, @Nonnull final Scanned scanned) {
+		double value;
+		if (scanned.digits <= MAX_FAST_DIGITS && scanned.fractionDigits <= MAX_FAST_DIGITS) {
+			value = scanned.fractionDigits > 0 ? scanned.mantissa / POW10[scanned.fractionDigits] : scanned.mantissa;
+		} else {
+			value = Double.parseDouble(toNumberString(str, scanned));
+		}
+		if (scanned.unit >= 0) {
+			value *= UNIT_FACTORS[scanned.unit];
+		}
+		return scanned.negative ? -value : value;
+	}
+
+	/**
+	 * <pre> 超出long尾数精度时按BigDecimal精确计算，超出范围时取最大/最小值.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 字符串
+	 * @param scanned 扫描结果
+	 * @return 数值
+	 */
+	private static long toLongExact(@Nonnull final CharSequence str, @Nonnull final Scanned scanned) {
+		BigDecimal value = new BigDecimal(toNumberString(str, scanned));
+		if (scanned.unit >= 0) {
+			value = value.scaleByPowerOfTen(UNIT_EXPONENTS[scanned.unit]);
+		}
+		BigInteger ret = value.toBigInteger();
+		if (scanned.negative) {
+			ret = ret.negate();
+		}
+		if (ret.bitLength() < Long.SIZE) {
+			return ret.longValue();
+		}
+		return ret.signum() > 0 ? Long.MAX_VALUE : Long.MIN_VALUE;
+	}
+
+	/**
+	 * <pre> 数值部分（去掉千分位，不含正负号及单位）.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 字符串
+	 * @param scanned 扫描结果
+	 * @return 数值字符串
+	 */
+	@Nonnull
+	private static String toNumberString(@Nonnull final CharSequence str, @Nonnull final Scanned scanned) {
+		StringBuilder sb = new StringBuilder(scanned.numberEnd - scanned.numberStart);
+		for (int i = scanned.numberStart; i < scanned.numberEnd; i++) {
+			char c = str.charAt(i);
+			if (c != ',') {
+				sb.append(c);
+			}
+		}
+		return sb.toString();
+	}
+
+}
@@ -0,0 +1,375 @@
+/*
+ * Copyright 2026 (C) , All Rights Reserved.
+ * Company: China.
+ * 
+ * Create At 2026/10/19.
+ * 
+ */
+package com.toobye.common.string;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.toobye.common.lang.Checks;
+
+/**
+ * <pre> 字符串去重池.
+ * 
+ * 大量读入的数据中，低基数的字段（状态码、城市名等）每行各是一个字符串对象，去重后共用同一实例可显著减少堆内存。
+ * 与String.intern不同，池的容量固定：按哈希值定位到两个槽位的组，第一槽位保留命中过的字符串，
+ * 未命中时覆盖第二槽位（旧字符串不受影响，只是不再被复用），高基数的字段（如ID）不会挤掉常用值；
+ * 内存有上限；池中的字符串在被覆盖或clear前一直被强引用，不会被回收。
+ * 无锁，可多线程共用：槽位内容并发覆盖时最多造成未命中，不影响正确性；
+ * 统计计数按线程分散到多个计数单元，读取时汇总，多线程并发去重时不争用同一计数器。
+ * 按区间去重（intern(CharSequence, int, int)）在命中时不生成新字符串，适合配合StringSplit的*ToSpans方法。
+ * 超过最大长度的字符串不入池，原样返回。
+ * 
+ * StringPool pool = StringPool.of(4096);
+ * String city = pool.intern(line, start, end);
+ * pool.getSavedBytes(); // 估算节省的内存
+ * 
+ * Modification History:
+ * Date        Author   Version   Action
+ * 2026/10/19  huangys  v1.0      Create
+ * 2026/10/19  huangys  v1.1      统计计数按线程分散，避免多线程争用
+ * </pre>
+ * 
+ */
+public final class StringPool {
+
+	/**
+	 * <pre> 默认入池的最大长度. </pre>
+	 */
+	private static final int DEFAULT_MAX_LENGTH = 64;
+	/**
+	 * <pre> 最大槽位数. </pre>
+	 */
+	private static final int MAX_CAPACITY = 1 << 24;
+	/**
+	 * <pre> 计数单元数（不小于CPU数的2的幂）. </pre>
+	 */
+	private static final int STRIPES = stripes();
+	/**
+	 * <pre> 每个计数单元占用的long个数，填充到独立的缓存行（64字节）. </pre>
+	 */
+	private static final int STRIPE_WIDTH = 8;
+	private static final int HITS = 0;
+	private static final int MISSES = 1;
+	private static final int SAVED_BYTES = 2;
+
+	private final String[] table;
+	private final int mask;
+	private final int maxLength;
+	/**
+	 * <pre> 统计计数，按计数单元分段：[单元 * STRIPE_WIDTH + HITS/MISSES/SAVED_BYTES]. </pre>
+	 */
+	private final AtomicLongArray counters = new AtomicLongArray(STRIPES * STRIPE_WIDTH);
+
+	/**
+	 * <pre> 构造器. </pre>
+	 * 
+	 * @param capacity 槽位数（2的幂，>=2）
+	 * @param maxLength 入池的最大长度
+	 */
+	private StringPool(final int capacity, final int maxLength) {
+		this.table = new String[capacity];
+		// 每组两个槽位，mask指向组的第一个槽位
+		this.mask = capacity - 2;
+		this.maxLength = maxLength;
+	}
+
+	/**
+	 * <pre> 创建去重池，入池的最大长度为64.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param capacity 槽位数，向上取2的幂
+	 * @return 去重池
+	 */
+	@Nonnull
+	public static StringPool of(final int capacity) {
+		return of(capacity, DEFAULT_MAX_LENGTH);
+	}
+
+	/**
+	 * <pre> 创建去重池.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param capacity 槽位数，向上取2的幂
+	 * @param maxLength 入池的最大长度
+	 * @return 去重池
+	 */
+	@Nonnull
+	public static StringPool of(final int capacity, final int maxLength) {
+		Checks.matchThrow(capacity <= 0 || capacity > MAX_CAPACITY, "The capacity must be in (0, " + MAX_CAPACITY + "].");
+		Checks.matchThrow(maxLength < 0, "The max length must not be negative.");
+		int size = 2;
+		while (size < capacity) {
+			size <<= 1;
+		}
+		return new StringPool(size, maxLength);
+	}
+
+	/**
+	 * <pre> 去重.
+	 * 池中有相同内容的字符串时返回池中的实例，否则将其放入池中并返回本身。
+	 * null -> null
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 字符串
+	 * @return 去重后的字符串
+	 */
+	@Nullable
+	public String intern(@Nullable final String str) {
+		if (str == null || str.length() > maxLength) {
+			return str;
+		}
+		int base = spread(str.hashCode()) & mask;
+		String first = table[base];
+		if (first == str) {
+			return str;
+		}
+		if (first != null && first.equals(str)) {
+			hit(first);
+			return first;
+		}
+		String second = table[base + 1];
+		if (second != null && second.equals(str)) {
+			promote(base, first, second);
+			return second;
+		}
+		miss(base, first, str);
+		return str;
+	}
+	
+	/**
+	 * <pre> 按区间[start, end)去重.
+	 * 池中有相同内容的字符串时直接返回，不生成新字符串；否则生成子串并放入池中。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 字符串
+	 * @param start 起始位置
+	 * @param end 结束位置（不含）
+	 * @return 去重后的字符串
+	 */
+	@Nonnull
+	public String intern(@Nonnull final CharSequence str, final int start, final int end) {
+		Checks.nullThrow(str);
+		int len = end - start;
+		if (len > maxLength) {
+			return str.subSequence(start, end).toString();
+		}
+		// 同String.hashCode
+		int h = 0;
+		for (int i = start; i < end; i++) {
+			h = 31 * h + str.charAt(i);
+		}
+		int base = spread(h) & mask;
+		String first = table[base];
+		if (first != null && first.length() == len && first.hashCode() == h && regionEquals(first, str, start)) {
+			hit(first);
+			return first;
+		}
+		String second = table[base + 1];
+		if (second != null && second.length() == len && second.hashCode() == h && regionEquals(second, str, start)) {
+			promote(base, first, second);
+			return second;
+		}
+		String ret = str.subSequence(start, end).toString();
+		miss(base, first, ret);
+		return ret;
+	}
+
+	/**
+	 * <pre> 第二槽位命中，与第一槽位交换.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param base 第一槽位
+	 * @param first 第一槽位的字符串
+	 * @param second 第二槽位的字符串
+	 */
+	private void promote(final int base, @Nullable final String first, @Nonnull final String second) {
+		table[base] = second;
+		table[base + 1] = first;
+		hit(second);
+	}
+
+	/**
+	 * <pre> 未命中，放入空的第一槽位，否则放入第二槽位（第一槽位只由命中过的字符串占用）.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param base 第一槽位
+	 * @param first 第一槽位的字符串
+	 * @param str 字符串
+	 */
+	private void miss(final int base, @Nullable final String first, @Nonnull final String str) {
+		table[base + (first == null ? 0 : 1)] = str;
+		counters.incrementAndGet(stripe() + MISSES);
+	}
+
+	private static boolean regionEquals(@Nonnull final String pooled, @Nonnull final CharSequence str, final int start) {
+		for (int i = 0; i < pooled.length(); i++) {
+			if (pooled.charAt(i) != str.charAt(start + i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static int spread(final int h) {
+		return h ^ (h >>> 16);
+	}
+
+	private void hit(@Nonnull final String pooled) {
+		int stripe = stripe();
+		counters.incrementAndGet(stripe + HITS);
+		counters.addAndGet(stripe + SAVED_BYTES, estimateSize(pooled.length()));
+	}
+
+	/**
+	 * <pre> 当前线程使用的计数单元的起始下标.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 起始下标
+	 */
+	private static int stripe() {
+		long id = Thread.currentThread().getId();
+		return (spread((int) (id ^ (id >>> 32)) * 0x9E3779B9) & (STRIPES - 1)) * STRIPE_WIDTH;
+	}
+
+	/**
+	 * <pre> 汇总各计数单元.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param offset HITS/MISSES/SAVED_BYTES
+	 * @return 合计
+	 */
+	private long sum(final int offset) {
+		long ret = 0;
+		for (int i = offset; i < counters.length(); i += STRIPE_WIDTH) {
+			ret += counters.get(i);
+		}
+		return ret;
+	}
+
+	private static int stripes() {
+		int cpus = Runtime.getRuntime().availableProcessors();
+		int ret = 1;
+		while (ret < cpus && ret < 64) {
+			ret <<= 1;
+		}
+		return ret;
+	}
+
+	/**
+	 * <pre> 估算字符串占用的内存（64位JVM，压缩指针）.
+	 * String对象24字节，char数组16字节头 + 2字节/字符，按8字节对齐。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param length 字符串长度
+	 * @return 字节数
+	 */
+	private static long estimateSize(final int length) {
+		return 24 + ((16 + 2L * length + 7) & ~7L);
+	}
+
+	/**
+	 * <pre> 清空池（统计数据保留）.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 */
+	public void clear() {
+		for (int i = 0; i < table.length; i++) {
+			table[i] = null;
+		}
+	}
+
+	/**
+	 * <pre> 命中次数.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 次数
+	 */
+	public long getHitCount() {
+		return sum(HITS);
+	}
+
+	/**
+	 * <pre> 未命中次数（不含超长未入池的）.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 次数
+	 */
+	public long getMissCount() {
+		return sum(MISSES);
+	}
+
+	/**
+	 * <pre> 命中时复用池中实例而节省的内存（估算）.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 字节数
+	 */
+	public long getSavedBytes() {
+		return sum(SAVED_BYTES);
+	}
+
+	@Override
+	public String toString() {
+		return "StringPool[capacity=" + table.length + ", hits=" + getHitCount() + ", misses=" + getMissCount()
+				+ ", savedBytes=" + getSavedBytes() + "]";
+	}
+
+}
@@ -10,10 +10,8 @@ package com.toobye.common.string;
 import com.toobye.common.base.Exceptions;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -41,6 +39,7 @@ import com.toobye.common.lang.Checks;
  * Modification History:
  * Date        Author   Version   Action
  * 2013/12/30  huangys  v1.0      Create
+ * 2026/10/19  huangys  v1.1      正则表达式统一使用有界缓存（PatternCache）
  * </pre>
  * 
  */
@@ -48,17 +47,13 @@ public final class StringRE {
 	
 	private StringRE() { }
 	
-	/**
-	 * <pre> Cache. </pre>
-	 */
-	private static final Map<String, Pattern> PATTERN_MAP = new HashMap<String, Pattern>();
-
 	/**
 	 * <pre> 获取正则表达式解析器.
 	 * 
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2013/12/31  huangys  Create
+	 * 2026/10/19  huangys  Modify 改为共用的有界缓存（PatternCache）
 	 * </pre>
 	 * 
 	 * @param regex 正则表达式
@@ -66,15 +61,7 @@ public final class StringRE {
 	 */
 	@Nonnull
 	private static Pattern getRe(@Nonnull final String regex) {
-		Checks.nullThrow(regex);
-		Pattern p = PATTERN_MAP.get(regex);
-		if (p != null) {
-			return p;
-		} else {
-			p = Pattern.compile(regex);
-			PATTERN_MAP.put(regex, p);
-			return p;
-		}
+		return PatternCache.get(regex);
 	}
 	
 	/**
@@ -393,7 +380,7 @@ public final class StringRE {
 		if (StringUtils.isBlank(str)) {
 			return false;
 		}
-		return str.matches(REGEX_IP);
+		return getRe(REGEX_IP).matcher(str).matches();
 	}
 	
 	/**
@@ -464,6 +451,7 @@ public final class StringRE {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/08/14  huangys  Create
+	 * 2026/10/19  huangys  Modify 改为RegexSet一次扫描匹配
 	 * </pre>
 	 * 
 	 * @param str 字符串
@@ -475,17 +463,8 @@ public final class StringRE {
 		if (str == null) {
 			return false;
 		}
-		// 校验正则表达式
-		Checks.emptyThrow(regexes);
-		for (String regex : regexes) {
-			Checks.emptyThrow(regex);
-		}
-		for (String regex : regexes) {
-			if (str.matches(".*" + regex + ".*")) {
-				return true;
-			}
-		}
-		return false;
+		// 校验并预编译正则表达式，一次扫描筛选候选
+		return RegexSet.of(regexes).containsAny(str);
 	}
 	
 	/**
@@ -495,6 +474,7 @@ public final class StringRE {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/08/14  huangys  Create
+	 * 2026/10/19  huangys  Modify 改为RegexSet一次扫描匹配
 	 * </pre>
 	 * 
 	 * @param str 字符串
@@ -506,17 +486,8 @@ public final class StringRE {
 		if (str == null) {
 			return false;
 		}
-		// 校验正则表达式
-		Checks.emptyThrow(regexes);
-		for (String regex : regexes) {
-			Checks.emptyThrow(regex);
-		}
-		for (String regex : regexes) {
-			if (str.matches(".*" + regex + ".*")) {
-				return true;
-			}
-		}
-		return false;
+		// 校验并预编译正则表达式，一次扫描筛选候选
+		return RegexSet.of(regexes).containsAny(str);
 	}
 	
 	/**
@@ -526,6 +497,7 @@ public final class StringRE {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/08/14  huangys  Create
+	 * 2026/10/19  huangys  Modify 改为RegexSet一次扫描匹配
 	 * </pre>
 	 * 
 	 * @param str 字符串
@@ -537,17 +509,8 @@ public final class StringRE {
 		if (str == null) {
 			return false;
 		}
-		// 校验正则表达式
-		Checks.emptyThrow(regexes);
-		for (String regex : regexes) {
-			Checks.emptyThrow(regex);
-		}
-		for (String regex : regexes) {
-			if (str.matches(".*" + regex + ".*")) {
-				return false;
-			}
-		}
-		return true;
+		// 校验并预编译正则表达式，一次扫描筛选候选
+		return !RegexSet.of(regexes).containsAny(str);
 	}
 	
 	/**
@@ -557,6 +520,7 @@ public final class StringRE {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/08/14  huangys  Create
+	 * 2026/10/19  huangys  Modify 改为RegexSet一次扫描匹配
 	 * </pre>
 	 * 
 	 * @param str 字符串
@@ -568,17 +532,8 @@ public final class StringRE {
 		if (str == null) {
 			return false;
 		}
-		// 校验正则表达式
-		Checks.emptyThrow(regexes);
-		for (String regex : regexes) {
-			Checks.emptyThrow(regex);
-		}
-		for (String regex : regexes) {
-			if (str.matches(".*" + regex + ".*")) {
-				return false;
-			}
-		}
-		return true;
+		// 校验并预编译正则表达式，一次扫描筛选候选
+		return !RegexSet.of(regexes).containsAny(str);
 	}
 	
 	/**
@@ -589,6 +544,7 @@ public final class StringRE {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/08/14  huangys  Create
+	 * 2026/10/19  huangys  Modify 改为RegexSet一次扫描匹配
 	 * </pre>
 	 * 
 	 * @param str 字符串
@@ -600,17 +556,8 @@ public final class StringRE {
 		if (str == null) {
 			return false;
 		}
-		// 校验正则表达式
-		Checks.emptyThrow(regexes);
-		for (String regex : regexes) {
-			Checks.emptyThrow(regex);
-		}
-		for (String regex : regexes) {
-			if (str.matches(regex)) {
-				return true;
-			}
-		}
-		return false;
+		// 校验并预编译正则表达式，一次扫描筛选候选
+		return RegexSet.of(regexes).matchAny(str);
 	}
 	
 	/**
@@ -621,6 +568,7 @@ public final class StringRE {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/08/14  huangys  Create
+	 * 2026/10/19  huangys  Modify 改为RegexSet一次扫描匹配
 	 * </pre>
 	 * 
 	 * @param str 字符串
@@ -632,17 +580,8 @@ public final class StringRE {
 		if (str == null) {
 			return false;
 		}
-		// 校验正则表达式
-		Checks.emptyThrow(regexes);
-		for (String regex : regexes) {
-			Checks.emptyThrow(regex);
-		}
-		for (String regex : regexes) {
-			if (str.matches(regex)) {
-				return true;
-			}
-		}
-		return false;
+		// 校验并预编译正则表达式，一次扫描筛选候选
+		return RegexSet.of(regexes).matchAny(str);
 	}
 	
 	/**
@@ -653,6 +592,7 @@ public final class StringRE {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/08/14  huangys  Create
+	 * 2026/10/19  huangys  Modify 改为RegexSet一次扫描匹配
 	 * </pre>
 	 * 
 	 * @param str 字符串
@@ -664,17 +604,8 @@ public final class StringRE {
 		if (str == null) {
 			return false;
 		}
-		// 校验正则表达式
-		Checks.emptyThrow(regexes);
-		for (String regex : regexes) {
-			Checks.emptyThrow(regex);
-		}
-		for (String regex : regexes) {
-			if (str.matches(regex)) {
-				return false;
-			}
-		}
-		return true;
+		// 校验并预编译正则表达式，一次扫描筛选候选
+		return !RegexSet.of(regexes).matchAny(str);
 	}
 	
 	/**
@@ -685,6 +616,7 @@ public final class StringRE {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/08/14  huangys  Create
+	 * 2026/10/19  huangys  Modify 改为RegexSet一次扫描匹配
 	 * </pre>
 	 * 
 	 * @param str 字符串
@@ -696,17 +628,8 @@ public final class StringRE {
 		if (str == null) {
 			return false;
 		}
-		// 校验正则表达式
-		Checks.emptyThrow(regexes);
-		for (String regex : regexes) {
-			Checks.emptyThrow(regex);
-		}
-		for (String regex : regexes) {
-			if (str.matches(regex)) {
-				return false;
-			}
-		}
-		return true;
+		// 校验并预编译正则表达式，一次扫描筛选候选
+		return !RegexSet.of(regexes).matchAny(str);
 	}
 	
 	/**
@@ -785,8 +708,7 @@ public final class StringRE {
 		if (StringUtils.isBlank(str)) {
 			return ret;
 		}
-		Pattern p = Pattern.compile(regex);
-		Matcher m = p.matcher(str);
+		Matcher m = getRe(regex).matcher(str);
 		while (m.find()) {
 			ret.add(m.group(group));
 		}
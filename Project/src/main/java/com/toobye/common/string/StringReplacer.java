@@ -0,0 +1,271 @@
+/*
+ * Copyright 2026 (C) , All Rights Reserved.
+ * Company: China.
+ * 
+ * Create At 2026/10/19.
+ * 
+ */
+package com.toobye.common.string;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.toobye.common.lang.Checks;
+
+/**
+ * <pre> 预编译的多字符串替换.
+ * 
+ * 由替换字典构建一次（基于KeywordSet自动机），之后可反复用于大量字符串：
+ * 一次扫描完成全部替换，匹配规则为最左最长（起始位置最小的优先，同一位置取最长的查找字符串），
+ * 与字典顺序无关；没有任何匹配时返回原字符串，不产生新对象。
+ * 查找字符串为null或空、替换字符串为null的替换对被忽略（同StringUtils.replaceEach），
+ * 重复的查找字符串以先出现的为准。编译后只读，可多线程共用。
+ * 
+ * StringReplacer replacer = StringReplacer.compile(dictionary);
+ * StringBuilder sb = new StringBuilder();
+ * for (...) {
+ *     sb.setLength(0);
+ *     replacer.replace(line, sb);
+ * }
+ * 
+ * Modification History:
+ * Date        Author   Version   Action
+ * 2026/10/19  huangys  v1.0      Create
+ * </pre>
+ * 
+ */
+public final class StringReplacer {
+
+	private final KeywordSet keywordSet;
+	private final String[] replacements;
+
+	/**
+	 * <pre> 构造器. </pre>
+	 * 
+	 * @param searchList 查找字符串
+	 * @param replacementList 替换字符串
+	 * @param ignoreCase 是否忽略大小写
+	 */
+	private StringReplacer(@Nonnull final List<String> searchList, @Nonnull final List<String> replacementList, final boolean ignoreCase) {
+		this.keywordSet = ignoreCase ? KeywordSet.ofIgnoreCase(searchList) : KeywordSet.of(searchList);
+		this.replacements = replacementList.toArray(new String[replacementList.size()]);
+	}
+
+	/**
+	 * <pre> 编译替换字典.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param searchList 查找字符串数组
+	 * @param replacementList 替换字符串数组，与查找字符串按顺序对应
+	 * @return 替换器
+	 */
+	@Nonnull
+	public static StringReplacer compile(@Nullable final String[] searchList, @Nullable final String[] replacementList) {
+		return compile(searchList, replacementList, false);
+	}
+
+	/**
+	 * <pre> 编译替换字典（查找时忽略大小写）.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param searchList 查找字符串数组
+	 * @param replacementList 替换字符串数组，与查找字符串按顺序对应
+	 * @return 替换器
+	 */
+	@Nonnull
+	public static StringReplacer compileIgnoreCase(@Nullable final String[] searchList, @Nullable final String[] replacementList) {
+		return compile(searchList, replacementList, true);
+	}
+
+	/**
+	 * <pre> 编译替换字典.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param map 替换对
+	 * @return 替换器
+	 */
+	@Nonnull
+	public static StringReplacer compile(@Nullable final Map<String, String> map) {
+		List<String> searches = new ArrayList<>();
+		List<String> replaces = new ArrayList<>();
+		if (map != null) {
+			for (Entry<String, String> entry : map.entrySet()) {
+				addPair(searches, replaces, entry.getKey(), entry.getValue());
+			}
+		}
+		return new StringReplacer(searches, replaces, false);
+	}
+
+	@Nonnull
+	private static StringReplacer compile(@Nullable final String[] searchList, @Nullable final String[] replacementList, final boolean ignoreCase) {
+		List<String> searches = new ArrayList<>();
+		List<String> replaces = new ArrayList<>();
+		if (searchList != null && replacementList != null) {
+			if (searchList.length != replacementList.length) {
+				throw new IllegalArgumentException("Search and Replace array lengths don't match: "
+						+ searchList.length + " vs " + replacementList.length);
+			}
+			for (int i = 0; i < searchList.length; i++) {
+				addPair(searches, replaces, searchList[i], replacementList[i]);
+			}
+		}
+		return new StringReplacer(searches, replaces, ignoreCase);
+	}
+
+	private static void addPair(@Nonnull final List<String> searches, @Nonnull final List<String> replaces,
+			@Nullable final String search, @Nullable final String replacement) {
+		if (search != null && !search.isEmpty() && replacement != null) {
+			searches.add(search);
+			replaces.add(replacement);
+		}
+	}
+
+	/**
+	 * <pre> 有效的替换对数.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 替换对数
+	 */
+	public int size() {
+		return replacements.length;
+	}
+
+	/**
+	 * <pre> 替换字符串（不迭代替换）.
+	 * 没有匹配时返回原字符串。
+	 * null -> null
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 字符串
+	 * @return 处理后的字符串
+	 */
+	@Nullable
+	public String replace(@Nullable final String str) {
+		if (str == null || replacements.length == 0) {
+			return str;
+		}
+		long hit = keywordSet.first(str, 0);
+		if (hit < 0) {
+			return str;
+		}
+		StringBuilder sb = new StringBuilder(str.length() + 16);
+		replace(str, hit, sb);
+		return sb.toString();
+	}
+
+	/**
+	 * <pre> 替换字符串（不迭代替换），结果追加到指定的StringBuilder.
+	 * StringBuilder可由调用方复用，避免每次分配。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 字符串，null时不追加
+	 * @param out 结果
+	 * @return 是否有替换
+	 */
+	public boolean replace(@Nullable final CharSequence str, @Nonnull final StringBuilder out) {
+		Checks.nullThrow(out);
+		if (str == null) {
+			return false;
+		}
+		long hit = replacements.length == 0 ? -1 : keywordSet.first(str, 0);
+		if (hit < 0) {
+			out.append(str);
+			return false;
+		}
+		replace(str, hit, out);
+		return true;
+	}
+
+	/**
+	 * <pre> 从首个匹配开始替换.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 字符串
+	 * @param firstHit 首个匹配，(起始位置 << 32 | 序号)
+	 * @param out 结果
+	 */
+	private void replace(@Nonnull final CharSequence str, final long firstHit, @Nonnull final StringBuilder out) {
+		int pos = 0;
+		long hit = firstHit;
+		while (hit >= 0) {
+			int start = (int) (hit >>> 32);
+			// 同一起始位置取最长的
+			int index = keywordSet.longestAt(str, start);
+			out.append(str, pos, start).append(replacements[index]);
+			pos = start + keywordSet.getKeyword(index).length();
+			hit = keywordSet.first(str, pos);
+		}
+		out.append(str, pos, str.length());
+	}
+
+	/**
+	 * <pre> 迭代替换字符串，直至没有可替换的内容.
+	 * 迭代次数超过替换对数时，抛出IllegalStateException（同StringUtils.replaceEachRepeatedly）。
+	 * null -> null
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 字符串
+	 * @return 处理后的字符串
+	 */
+	@Nullable
+	public String replaceRepeatedly(@Nullable final String str) {
+		String ret = str;
+		for (int timeToLive = replacements.length; ; timeToLive--) {
+			if (ret == null || ret.isEmpty()) {
+				return ret;
+			}
+			if (timeToLive < 0) {
+				throw new IllegalStateException("Aborting to protect against StackOverflowError - "
+						+ "output of one loop is the input of another");
+			}
+			String replaced = replace(ret);
+			if (replaced == ret) {
+				return ret;
+			}
+			ret = replaced;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return keywordSet.toString();
+	}
+
+}
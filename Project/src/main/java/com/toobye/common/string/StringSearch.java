@@ -38,6 +38,35 @@ public final class StringSearch {
 	 */
 	private static final class INSTANCE extends org.apache.commons.lang3.StringUtils { };
 	
+	/**
+	 * <pre> 候选字符串数达到该值时，改用关键字自动机（KeywordSet）一次扫描. </pre>
+	 */
+	static final int KEYWORD_SET_MIN_SIZE = 8;
+	
+	/**
+	 * <pre> 是否改用关键字自动机，候选字符串含null或空字符串时仍逐个查找以保持原有结果.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 字符串
+	 * @param searchStrs 候选字符串
+	 * @return 是否改用关键字自动机
+	 */
+	static boolean useKeywordSet(@Nullable final CharSequence str, @Nullable final CharSequence[] searchStrs) {
+		if (str == null || searchStrs == null || searchStrs.length < KEYWORD_SET_MIN_SIZE) {
+			return false;
+		}
+		for (CharSequence searchStr : searchStrs) {
+			if (StringUtils.isEmpty(searchStr)) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
 	/**
 	 * <pre> 是否包含任意指定字符.
 	 * 
@@ -335,6 +364,7 @@ public final class StringSearch {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/04/02  huangys  Create
+	 * 2026/10/19  huangys  Modify 候选字符串较多时改用KeywordSet
 	 * </pre>
 	 * 
 	 * @param cs 字符串
@@ -343,6 +373,9 @@ public final class StringSearch {
 	 */
 	@Nonnull
 	public static int indexOfAnyString(@Nullable final CharSequence cs, @Nullable final CharSequence... searchChars) {
+		if (useKeywordSet(cs, searchChars)) {
+			return KeywordSet.of(searchChars).indexOf(cs);
+		}
 		return INSTANCE.indexOfAny(cs, searchChars);
 	}
 	
@@ -493,6 +526,7 @@ public final class StringSearch {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/04/02  huangys  Create
+	 * 2026/10/19  huangys  Modify 候选字符串较多时改用KeywordSet
 	 * </pre>
 	 * 
 	 * @param str 字符串
@@ -501,6 +535,9 @@ public final class StringSearch {
 	 */
 	@Nonnull
 	public static int lastIndexOfAnyString(@Nullable final CharSequence str, @Nullable final CharSequence... searchStrs) {
+		if (useKeywordSet(str, searchStrs)) {
+			return KeywordSet.of(searchStrs).lastIndexOf(str);
+		}
 		return INSTANCE.lastIndexOfAny(str, searchStrs);
 	}
 	
@@ -691,6 +728,7 @@ public final class StringSearch {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/04/02  huangys  Create
+	 * 2026/10/19  huangys  Modify 候选字符串较多时改用KeywordSet
 	 * </pre>
 	 * 
 	 * @param str 字符串
@@ -699,6 +737,9 @@ public final class StringSearch {
 	 */
 	@Nonnull
 	public static boolean startsWithAnyString(@Nullable final CharSequence str, @Nullable final CharSequence... searchStrs) {
+		if (useKeywordSet(str, searchStrs)) {
+			return KeywordSet.of(searchStrs).startsWithAny(str);
+		}
 		return INSTANCE.startsWithAny(str, searchStrs);
 	}
 	
@@ -0,0 +1,337 @@
+/*
+ * Copyright 2026 (C) , All Rights Reserved.
+ * Company: China.
+ * 
+ * Create At 2026/10/19.
+ * 
+ */
+package com.toobye.common.string;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * <pre> 基于起止位置的元素处理.
+ * 
+ * 配合StringSplit的*ToSpans方法使用：元素i的位置为[spans[2 * i], spans[2 * i + 1])，
+ * 直接在原字符串上比较、计算哈希值、解析数值，不生成中间字符串。
+ * 
+ * Modification History:
+ * Date        Author   Version   Action
+ * 2026/10/19  huangys  v1.0      Create
+ * </pre>
+ * 
+ */
+public final class StringSpans {
+
+	private StringSpans() { }
+
+	/**
+	 * <pre> 可精确表示的10的幂（double）. </pre>
+	 */
+	private static final double[] POW10 = {
+		1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15,
+	};
+	/**
+	 * <pre> 快速解析double的最大有效数字位数，此时尾数可精确表示. </pre>
+	 */
+	private static final int MAX_FAST_DIGITS = 15;
+
+	/**
+	 * <pre> 元素起始位置.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param spans 起止位置
+	 * @param index 元素序号
+	 * @return 起始位置
+	 */
+	public static int getStart(@Nonnull final int[] spans, @Nonnull final int index) {
+		return spans[index * 2];
+	}
+
+	/**
+	 * <pre> 元素结束位置（不包含）.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param spans 起止位置
+	 * @param index 元素序号
+	 * @return 结束位置
+	 */
+	public static int getEnd(@Nonnull final int[] spans, @Nonnull final int index) {
+		return spans[index * 2 + 1];
+	}
+
+	/**
+	 * <pre> 元素长度.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param spans 起止位置
+	 * @param index 元素序号
+	 * @return 长度
+	 */
+	public static int length(@Nonnull final int[] spans, @Nonnull final int index) {
+		return spans[index * 2 + 1] - spans[index * 2];
+	}
+
+	/**
+	 * <pre> 生成元素字符串.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 原字符串
+	 * @param spans 起止位置
+	 * @param index 元素序号
+	 * @return 元素字符串
+	 */
+	@Nonnull
+	public static String toString(@Nonnull final CharSequence str, @Nonnull final int[] spans, @Nonnull final int index) {
+		return str.subSequence(getStart(spans, index), getEnd(spans, index)).toString();
+	}
+
+	/**
+	 * <pre> 元素是否与指定字符串相同.
+	 * null -> false
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 原字符串
+	 * @param spans 起止位置
+	 * @param index 元素序号
+	 * @param other 指定字符串
+	 * @return 是否相同
+	 */
+	public static boolean equals(@Nonnull final CharSequence str, @Nonnull final int[] spans, @Nonnull final int index, @Nullable final CharSequence other) {
+		int start = getStart(spans, index);
+		int len = length(spans, index);
+		if (other == null || other.length() != len) {
+			return false;
+		}
+		for (int i = 0; i < len; i++) {
+			if (str.charAt(start + i) != other.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * <pre> 元素是否与指定字符串相同（忽略大小写，同String.equalsIgnoreCase）.
+	 * null -> false
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 原字符串
+	 * @param spans 起止位置
+	 * @param index 元素序号
+	 * @param other 指定字符串
+	 * @return 是否相同
+	 */
+	public static boolean equalsIgnoreCase(@Nonnull final CharSequence str, @Nonnull final int[] spans, @Nonnull final int index, @Nullable final CharSequence other) {
+		int start = getStart(spans, index);
+		int len = length(spans, index);
+		if (other == null || other.length() != len) {
+			return false;
+		}
+		for (int i = 0; i < len; i++) {
+			char c1 = str.charAt(start + i);
+			char c2 = other.charAt(i);
+			if (c1 != c2) {
+				char u1 = Character.toUpperCase(c1);
+				char u2 = Character.toUpperCase(c2);
+				if (u1 != u2 && Character.toLowerCase(u1) != Character.toLowerCase(u2)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * <pre> 按字典序比较元素与指定字符串（同String.compareTo）.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 原字符串
+	 * @param spans 起止位置
+	 * @param index 元素序号
+	 * @param other 指定字符串
+	 * @return 负数、0、正数分别表示小于、等于、大于
+	 */
+	public static int compare(@Nonnull final CharSequence str, @Nonnull final int[] spans, @Nonnull final int index, @Nonnull final CharSequence other) {
+		int start = getStart(spans, index);
+		int len = length(spans, index);
+		int min = Math.min(len, other.length());
+		for (int i = 0; i < min; i++) {
+			char c1 = str.charAt(start + i);
+			char c2 = other.charAt(i);
+			if (c1 != c2) {
+				return c1 - c2;
+			}
+		}
+		return len - other.length();
+	}
+
+	/**
+	 * <pre> 元素的哈希值，与元素字符串的hashCode相同.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 原字符串
+	 * @param spans 起止位置
+	 * @param index 元素序号
+	 * @return 哈希值
+	 */
+	public static int hashCode(@Nonnull final CharSequence str, @Nonnull final int[] spans, @Nonnull final int index) {
+		int h = 0;
+		for (int i = getStart(spans, index), end = getEnd(spans, index); i < end; i++) {
+			h = 31 * h + str.charAt(i);
+		}
+		return h;
+	}
+
+	/**
+	 * <pre> 解析元素为int（同Integer.parseInt），格式有误时抛出NumberFormatException.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 原字符串
+	 * @param spans 起止位置
+	 * @param index 元素序号
+	 * @return 数值
+	 */
+	public static int parseInt(@Nonnull final CharSequence str, @Nonnull final int[] spans, @Nonnull final int index) {
+		long value = parseLong(str, spans, index);
+		if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+			throw numberFormat(str, spans, index);
+		}
+		return (int) value;
+	}
+
+	/**
+	 * <pre> 解析元素为long（同Long.parseLong），格式有误时抛出NumberFormatException.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 原字符串
+	 * @param spans 起止位置
+	 * @param index 元素序号
+	 * @return 数值
+	 */
+	public static long parseLong(@Nonnull final CharSequence str, @Nonnull final int[] spans, @Nonnull final int index) {
+		int i = getStart(spans, index);
+		int end = getEnd(spans, index);
+		if (i >= end) {
+			throw numberFormat(str, spans, index);
+		}
+		boolean negative = false;
+		char first = str.charAt(i);
+		if (first == '-' || first == '+') {
+			negative = first == '-';
+			i++;
+			if (i >= end) {
+				throw numberFormat(str, spans, index);
+			}
+		}
+		// 以负数累加，避免Long.MIN_VALUE溢出
+		long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+		long multmin = limit / 10;
+		long result = 0;
+		for (; i < end; i++) {
+			int digit = str.charAt(i) - '0';
+			if (digit < 0 || digit > 9 || result < multmin) {
+				throw numberFormat(str, spans, index);
+			}
+			result *= 10;
+			if (result < limit + digit) {
+				throw numberFormat(str, spans, index);
+			}
+			result -= digit;
+		}
+		return negative ? result : -result;
+	}
+
+	/**
+	 * <pre> 解析元素为double（同Double.parseDouble），格式有误时抛出NumberFormatException.
+	 * 不超过15位有效数字的普通小数直接计算（结果与Double.parseDouble一致），其余格式转为字符串解析。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 原字符串
+	 * @param spans 起止位置
+	 * @param index 元素序号
+	 * @return 数值
+	 */
+	public static double parseDouble(@Nonnull final CharSequence str, @Nonnull final int[] spans, @Nonnull final int index) {
+		int i = getStart(spans, index);
+		int end = getEnd(spans, index);
+		boolean negative = false;
+		if (i < end && (str.charAt(i) == '-' || str.charAt(i) == '+')) {
+			negative = str.charAt(i) == '-';
+			i++;
+		}
+		long mantissa = 0;
+		int digits = 0;
+		int fractionDigits = -1;
+		for (; i < end; i++) {
+			char c = str.charAt(i);
+			if (c >= '0' && c <= '9') {
+				mantissa = mantissa * 10 + (c - '0');
+				digits++;
+				if (fractionDigits >= 0) {
+					fractionDigits++;
+				}
+			} else if (c == '.' && fractionDigits < 0) {
+				fractionDigits = 0;
+			} else {
+				break;
+			}
+		}
+		if (i == end && digits > 0 && digits <= MAX_FAST_DIGITS) {
+			double value = fractionDigits > 0 ? mantissa / POW10[fractionDigits] : mantissa;
+			return negative ? -value : value;
+		}
+		return Double.parseDouble(toString(str, spans, index));
+	}
+
+	@Nonnull
+	private static NumberFormatException numberFormat(@Nonnull final CharSequence str, @Nonnull final int[] spans, final int index) {
+		return new NumberFormatException("For input string: \"" + toString(str, spans, index) + "\"");
+	}
+
+}
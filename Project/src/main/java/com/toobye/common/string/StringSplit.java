@@ -15,9 +15,13 @@ import com.toobye.common.lang.Checks;
 /**
  * <pre> 字符串拆分工具.
  * 
+ * *ToSpans方法只记录元素的起止位置，配合StringSpans按需比较、解析元素，避免生成字符串。
+ * 
  * Modification History:
  * Date        Author   Version   Action
  * 2014/04/02  huangys  v1.0      Create
+ * 2026/10/19  huangys  v1.1      增加基于起止位置的拆分
+ * 2026/10/19  huangys  v1.2      增加经去重池的拆分
  * </pre>
  * 
  */
@@ -535,5 +539,266 @@ public final class StringSplit {
 		ret[size - 1] = str.substring(len * size - len);
 		return ret;
 	}
+
+	
+	/**
+	 * <pre> 以空白字符分隔，将各元素的起止位置写入spans（不生成字符串）.
+	 * 元素i的位置为[spans[2 * i], spans[2 * i + 1])，结果同splitWhitespace/splitWhitespacePreserveAllTokens。
+	 * 返回元素总数，超出spans容量的元素只计数不写入，调用方可扩大数组后重新拆分。
+	 * 
+	 * (null, *, *)        = 0
+	 * ("", *, *)          = 0
+	 * ("ab  c", false, *) = 2, [0, 2, 4, 5]
+	 * ("ab  c", true, *)  = 3, [0, 2, 3, 3, 4, 5]
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 字符串
+	 * @param preserveAllTokens 是否保留空串元素
+	 * @param spans 起止位置
+	 * @return 元素总数
+	 */
+	public static int splitWhitespaceToSpans(@Nullable final CharSequence str, @Nonnull final boolean preserveAllTokens, @Nonnull final int[] spans) {
+		return splitToSpans(str, null, preserveAllTokens, spans);
+	}
+	
+	/**
+	 * <pre> 以指定字符分隔，将各元素的起止位置写入spans（不生成字符串）.
+	 * 元素i的位置为[spans[2 * i], spans[2 * i + 1])，结果同splitChar/splitCharPreserveAllTokens。
+	 * 返回元素总数，超出spans容量的元素只计数不写入，调用方可扩大数组后重新拆分。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 字符串
+	 * @param separatorChar 分隔符
+	 * @param preserveAllTokens 是否保留空串元素
+	 * @param spans 起止位置
+	 * @return 元素总数
+	 */
+	public static int splitCharToSpans(@Nullable final CharSequence str, @Nonnull final char separatorChar, @Nonnull final boolean preserveAllTokens, @Nonnull final int[] spans) {
+		return splitToSpans(str, String.valueOf(separatorChar), preserveAllTokens, spans);
+	}
+	
+	/**
+	 * <pre> 以任意指定字符分隔，将各元素的起止位置写入spans（不生成字符串）.
+	 * 元素i的位置为[spans[2 * i], spans[2 * i + 1])，结果同splitAnyChar/splitAnyCharPreserveAllTokens，
+	 * separatorChars为null时以空白字符分隔。
+	 * 返回元素总数，超出spans容量的元素只计数不写入，调用方可扩大数组后重新拆分。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 字符串
+	 * @param separatorChars 分隔符集合
+	 * @param preserveAllTokens 是否保留空串元素
+	 * @param spans 起止位置
+	 * @return 元素总数
+	 */
+	public static int splitAnyCharToSpans(@Nullable final CharSequence str, @Nullable final String separatorChars, @Nonnull final boolean preserveAllTokens, @Nonnull final int[] spans) {
+		return splitToSpans(str, separatorChars, preserveAllTokens, spans);
+	}
+	
+	/**
+	 * <pre> 以指定字符串分隔，将各元素的起止位置写入spans（不生成字符串）.
+	 * 元素i的位置为[spans[2 * i], spans[2 * i + 1])，结果同splitString/splitStringPreserveAllTokens，
+	 * separator为null或空字符串时以空白字符分隔。
+	 * 返回元素总数，超出spans容量的元素只计数不写入，调用方可扩大数组后重新拆分。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 字符串
+	 * @param separator 分隔符
+	 * @param preserveAllTokens 是否保留空串元素
+	 * @param spans 起止位置
+	 * @return 元素总数
+	 */
+	public static int splitStringToSpans(@Nullable final CharSequence str, @Nullable final String separator, @Nonnull final boolean preserveAllTokens, @Nonnull final int[] spans) {
+		Checks.nullThrow(spans);
+		if (str == null || str.length() == 0) {
+			return 0;
+		}
+		if (separator == null || separator.isEmpty()) {
+			return splitToSpans(str, null, preserveAllTokens, spans);
+		}
+		// 同commons-lang的splitByWholeSeparatorWorker
+		int len = str.length();
+		int sepLen = separator.length();
+		int count = 0;
+		int beg = 0;
+		int end = 0;
+		while (end < len) {
+			end = indexOf(str, separator, beg);
+			if (end > -1) {
+				if (end > beg) {
+					count = addSpan(spans, count, beg, end);
+				} else if (preserveAllTokens) {
+					count = addSpan(spans, count, beg, beg);
+				}
+				beg = end + sepLen;
+			} else {
+				count = addSpan(spans, count, beg, len);
+				end = len;
+			}
+		}
+		return count;
+	}
+	
+	/**
+	 * <pre> 以指定字符分隔，各元素经去重池去重.
+	 * 结果同splitChar/splitCharPreserveAllTokens；池中已有的元素直接复用，不生成新字符串。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 字符串
+	 * @param separatorChar 分隔符
+	 * @param preserveAllTokens 是否保留空串元素
+	 * @param pool 去重池
+	 * @return 字符串数组
+	 * @see StringPool
+	 */
+	@Nullable
+	public static String[] splitChar(@Nullable final CharSequence str, @Nonnull final char separatorChar, @Nonnull final boolean preserveAllTokens, @Nonnull final StringPool pool) {
+		Checks.nullThrow(pool);
+		if (str == null) {
+			return null;
+		}
+		int[] spans = new int[SPANS_SIZE];
+		int count = splitCharToSpans(str, separatorChar, preserveAllTokens, spans);
+		if (count * 2 > spans.length) {
+			spans = new int[count * 2];
+			splitCharToSpans(str, separatorChar, preserveAllTokens, spans);
+		}
+		return intern(str, spans, count, pool);
+	}
+	
+	/**
+	 * <pre> 以指定字符串分隔，各元素经去重池去重.
+	 * 结果同splitString/splitStringPreserveAllTokens；池中已有的元素直接复用，不生成新字符串。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 字符串
+	 * @param separator 分隔符
+	 * @param preserveAllTokens 是否保留空串元素
+	 * @param pool 去重池
+	 * @return 字符串数组
+	 * @see StringPool
+	 */
+	@Nullable
+	public static String[] splitString(@Nullable final CharSequence str, @Nullable final String separator, @Nonnull final boolean preserveAllTokens, @Nonnull final StringPool pool) {
+		Checks.nullThrow(pool);
+		if (str == null) {
+			return null;
+		}
+		int[] spans = new int[SPANS_SIZE];
+		int count = splitStringToSpans(str, separator, preserveAllTokens, spans);
+		if (count * 2 > spans.length) {
+			spans = new int[count * 2];
+			splitStringToSpans(str, separator, preserveAllTokens, spans);
+		}
+		return intern(str, spans, count, pool);
+	}
+	
+	/**
+	 * <pre> 去重池拆分时起止位置数组的初始大小. </pre>
+	 */
+	private static final int SPANS_SIZE = 64;
+	
+	@Nonnull
+	private static String[] intern(@Nonnull final CharSequence str, @Nonnull final int[] spans, final int count, @Nonnull final StringPool pool) {
+		String[] ret = new String[count];
+		for (int i = 0; i < count; i++) {
+			ret[i] = pool.intern(str, spans[2 * i], spans[2 * i + 1]);
+		}
+		return ret;
+	}
+	
+	/**
+	 * <pre> 同commons-lang的splitWorker，separatorChars为null时以空白字符分隔. </pre>
+	 */
+	private static int splitToSpans(@Nullable final CharSequence str, @Nullable final String separatorChars, final boolean preserveAllTokens, @Nonnull final int[] spans) {
+		Checks.nullThrow(spans);
+		if (str == null) {
+			return 0;
+		}
+		int len = str.length();
+		int count = 0;
+		int start = 0;
+		boolean match = false;
+		boolean lastMatch = false;
+		char single = separatorChars != null && separatorChars.length() == 1 ? separatorChars.charAt(0) : 0;
+		for (int i = 0; i < len; i++) {
+			char c = str.charAt(i);
+			boolean isSeparator;
+			if (separatorChars == null) {
+				isSeparator = Character.isWhitespace(c);
+			} else if (separatorChars.length() == 1) {
+				isSeparator = c == single;
+			} else {
+				isSeparator = separatorChars.indexOf(c) >= 0;
+			}
+			if (isSeparator) {
+				if (match || preserveAllTokens) {
+					count = addSpan(spans, count, start, i);
+					match = false;
+					lastMatch = true;
+				}
+				start = i + 1;
+			} else {
+				lastMatch = false;
+				match = true;
+			}
+		}
+		if (match || preserveAllTokens && lastMatch) {
+			count = addSpan(spans, count, start, len);
+		}
+		return count;
+	}
+	
+	private static int addSpan(@Nonnull final int[] spans, final int count, final int start, final int end) {
+		if (count * 2 + 1 < spans.length) {
+			spans[count * 2] = start;
+			spans[count * 2 + 1] = end;
+		}
+		return count + 1;
+	}
+	
+	private static int indexOf(@Nonnull final CharSequence str, @Nonnull final String search, final int from) {
+		if (str instanceof String) {
+			return ((String) str).indexOf(search, from);
+		}
+		int max = str.length() - search.length();
+		char first = search.charAt(0);
+		for (int i = from; i <= max; i++) {
+			if (str.charAt(i) != first) {
+				continue;
+			}
+			int k = 1;
+			while (k < search.length() && str.charAt(i + k) == search.charAt(k)) {
+				k++;
+			}
+			if (k == search.length()) {
+				return i;
+			}
+		}
+		return -1;
+	}
 	
 }
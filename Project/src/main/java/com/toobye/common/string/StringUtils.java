@@ -7,15 +7,12 @@
  */
 package com.toobye.common.string;
 
-import java.io.UnsupportedEncodingException;
 import java.util.Map;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import com.toobye.common.collection.Maps;
 import com.toobye.common.lang.Objects;
-import com.toobye.common.lang.Pair;
 
 /**
  * <pre> 字符串基本工具类.
@@ -1848,6 +1845,8 @@ public final class StringUtils {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/04/02  huangys  Create
+	 * 2026/10/19  huangys  Modify 查找字符串较多时改用KeywordSet一次扫描
+	 * 2026/10/19  huangys  Modify  替换字符串含null时同样使用KeywordSet
 	 * </pre>
 	 * 
 	 * @param str 字符串
@@ -1857,29 +1856,34 @@ public final class StringUtils {
 	 */
 	@Nullable
 	public static String replaceEach(@Nullable final String str, @Nullable final String[] searchList, @Nullable final String[] replacementList) {
+		if (StringSearch.useKeywordSet(str, searchList) && replacementList != null
+				&& replacementList.length == searchList.length) {
+			return KeywordSet.of(searchList).replace(str, replacementList);
+		}
 		return INSTANCE.replaceEach(str, searchList, replacementList);
 	}
 	
 	/**
 	 * <pre> 替换字符串.
-	 * 如需考虑替换顺序，请使用传入字符串数组的方法。
+	 * 按最左最长规则匹配，与替换对的顺序无关；大量字符串使用同一替换对时，请使用StringReplacer预编译。
 	 * 
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2016/05/03  huangys  Create
+	 * 2026/10/19  huangys  Modify  改为StringReplacer最左最长匹配
 	 * </pre>
 	 * 
 	 * @param str 字符串
 	 * @param map 替换对
 	 * @return 处理后的字符串
+	 * @see StringReplacer#replace(String)
 	 */
 	@Nullable
 	public static String replaceEach(@Nullable final String str, @Nullable final Map<String, String> map) {
-		if (Objects.isEmpty(map)) {
+		if (isEmpty(str) || Objects.isEmpty(map)) {
 			return str;
 		}
-		Pair<String[], String[]> pair = Maps.toArrays(map);
-		return replaceEach(str, pair.getLeft(), pair.getRight());
+		return StringReplacer.compile(map).replace(str);
 	}
 	
 	/**
@@ -1901,6 +1905,8 @@ public final class StringUtils {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/04/02  huangys  Create
+	 * 2026/10/19  huangys  Modify  查找字符串较多时改用KeywordSet，每轮一次扫描
+	 * 2026/10/19  huangys  Modify  替换字符串含null时同样使用KeywordSet
 	 * </pre>
 	 * 
 	 * @param str 字符串
@@ -1910,29 +1916,48 @@ public final class StringUtils {
 	 */
 	@Nullable
 	public static String replaceEachRepeatedly(@Nullable final String str, @Nullable final String[] searchList, @Nullable final String[] replacementList) {
+		if (StringSearch.useKeywordSet(str, searchList) && replacementList != null
+				&& replacementList.length == searchList.length) {
+			KeywordSet keywordSet = KeywordSet.of(searchList);
+			String ret = str;
+			// 与commons-lang一致：最多迭代查找字符串个数 + 1轮
+			for (int timeToLive = searchList.length; !ret.isEmpty(); timeToLive--) {
+				if (timeToLive < 0) {
+					throw new IllegalStateException("Aborting to protect against StackOverflowError - "
+							+ "output of one loop is the input of another");
+				}
+				String replaced = keywordSet.replace(ret, replacementList);
+				if (replaced == ret) {
+					break;
+				}
+				ret = replaced;
+			}
+			return ret;
+		}
 		return INSTANCE.replaceEachRepeatedly(str, searchList, replacementList);
 	}
 	
 	/**
 	 * <pre> 迭代替换字符串.
-	 * 如需考虑替换顺序，请使用传入字符串数组的方法。
+	 * 按最左最长规则匹配，与替换对的顺序无关；大量字符串使用同一替换对时，请使用StringReplacer预编译。
 	 * 
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2016/05/03  huangys  Create
+	 * 2026/10/19  huangys  Modify  改为StringReplacer最左最长匹配
 	 * </pre>
 	 * 
 	 * @param str 字符串
 	 * @param map 替换对
 	 * @return 处理后的字符串
+	 * @see StringReplacer#replaceRepeatedly(String)
 	 */
 	@Nullable
 	public static String replaceEachRepeatedly(@Nullable final String str, @Nullable final Map<String, String> map) {
-		if (Objects.isEmpty(map)) {
+		if (isEmpty(str) || Objects.isEmpty(map)) {
 			return str;
 		}
-		Pair<String[], String[]> pair = Maps.toArrays(map);
-		return replaceEachRepeatedly(str, pair.getLeft(), pair.getRight());
+		return StringReplacer.compile(map).replaceRepeatedly(str);
 	}
 	
 	/**
@@ -2001,12 +2026,14 @@ public final class StringUtils {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2012/11/08  huangys  Create
+	 * 2026/10/19  huangys  Modify  逐字符累加字节数，不再整体编码
 	 * </pre>
 	 * 
 	 * @param str 字符串
 	 * @param byteNum 字节数
 	 * @param charSet 字符集
 	 * @return 处理后的字符串
+	 * @see StringBytes#truncate(String, int)
 	 */
 	@Nullable
 	public static String substrb(@Nullable final String str, @Nonnull final int byteNum, @Nullable final String charSet) {
@@ -2014,31 +2041,7 @@ public final class StringUtils {
 		if (isEmpty(str)) {
 			return str;
 		}
-		
-		try {
-			// 转为字节数组
-			byte[] bytes = charSet == null ? str.getBytes() : str.getBytes(charSet);
-			int length = bytes.length;
-			if (length <= byteNum) {
-				return str;
-			} else {
-				// 获得新字符串
-				String newStr = charSet == null ? new String(bytes, 0, byteNum) : new String(bytes, 0, byteNum, charSet);
-				// 新字符串的字符长度
-				int newStrLength = newStr.length();
-				// 判断字符串长度对应的字节数是否与想截取的字节数一致
-				// 不一致时，表明结尾有不完整字符存在
-				String origStr = str.substring(0, newStrLength);
-				if ((charSet == null ? origStr.getBytes() : origStr.getBytes(charSet)).length == byteNum) {
-					return newStr;
-				} else {
-					return str.substring(0, newStrLength - 1);
-				}
-			}
-		} catch (Exception e) {
-			throw new RuntimeException(e);
-		}
-
+		return StringBytes.of(charSet).truncate(str, byteNum);
 	}
 	
 	/**
@@ -2164,54 +2167,44 @@ public final class StringUtils {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2012/12/04  huangys  Create
+	 * 2026/10/19  huangys  Modify  逐字符累加字节数，超过即结束
 	 * </pre>
 	 * 
 	 * @param str 字符串
 	 * @param byteNum 字节数
 	 * @param charSet 字符集，null时用的是系统默认字符集
 	 * @return 处理后字符串
+	 * @see StringBytes#fits(CharSequence, int)
 	 */
 	@Nullable
 	public static String filterTooLong(@Nullable final String str, @Nonnull final int byteNum, @Nullable final String charSet) {
 		if (isEmpty(str)) {
 			return str;
 		}
-		try {
-			int len = charSet == null ? str.getBytes().length : str.getBytes(charSet).length;
-			return  len <= byteNum ? str : null;
-		} catch (UnsupportedEncodingException e) {
-			throw new RuntimeException(e);
-		}
+		return StringBytes.of(charSet).fits(str, byteNum) ? str : null;
 	}
 	
-	private static final String SN_REGX_4 = "([0-9.]+)万.*";
-	private static final String SN_REGX_8 = "([0-9.]+)亿.*";
-	private static final String SN_REGX_B2 = "([0-9.]+)%.*";
-	private static final Object[] SN_REGX_ALL = { SN_REGX_4, 10000d, SN_REGX_8, 100000000d, SN_REGX_B2, 0.01d};
 	/**
 	 * <pre> 智能转为数值.
+	 * 支持正负号、千分位及单位后缀（万、亿、%），如"-1,234.5万"。
 	 * 
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2015/08/13  huangys  Create
+	 * 2026/10/19  huangys  Modify 正则表达式使用共用缓存
+	 * 2026/10/19  huangys  Modify 改为StringNumber一次扫描解析，不再使用正则表达式
 	 * </pre>
 	 * 
 	 * @param str 数值字符串
 	 * @return 数值
+	 * @see StringNumber#parseDouble(CharSequence, int, int)
 	 */
 	@Nullable
 	public static Double parseDoubleSmart(@Nullable final String str) {
 		if (isBlank(str)) {
 			return null;
 		}
-		for (int i = 0; i < SN_REGX_ALL.length; i += 2) {
-			String regx = (String) SN_REGX_ALL[i];
-			double change = (Double) SN_REGX_ALL[i + 1];
-			if (str.matches(regx)) {
-				return Double.parseDouble(StringRE.getOneGroupFirst(str, regx)) * change;
-			}
-		}
-		return Double.parseDouble(str);
+		return StringNumber.parseDouble(str);
 	}
 	
 	/**
@@ -2220,19 +2213,19 @@ public final class StringUtils {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2015/08/13  huangys  Create
+	 * 2026/10/19  huangys  Modify 改为StringNumber精确计算，不经过double
 	 * </pre>
 	 * 
 	 * @param str 数值字符串
 	 * @return 数值
+	 * @see StringNumber#parseLong(CharSequence, int, int)
 	 */
 	@Nullable
 	public static Long parseLongSmart(@Nullable final String str) {
-		Double ret = parseDoubleSmart(str);
-		if (ret == null) {
+		if (isBlank(str)) {
 			return null;
-		} else {
-			return ret.longValue();
 		}
+		return StringNumber.parseLong(str);
 	}
 	
 	/**
@@ -2241,19 +2234,19 @@ public final class StringUtils {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2015/08/13  huangys  Create
+	 * 2026/10/19  huangys  Modify 改为StringNumber精确计算，不经过double
 	 * </pre>
 	 * 
 	 * @param str 数值字符串
 	 * @return 数值
+	 * @see StringNumber#parseInt(CharSequence, int, int)
 	 */
 	@Nullable
 	public static Integer parseIntSmart(@Nullable final String str) {
-		Double ret = parseDoubleSmart(str);
-		if (ret == null) {
+		if (isBlank(str)) {
 			return null;
-		} else {
-			return ret.intValue();
 		}
+		return StringNumber.parseInt(str);
 	}
 	
 }
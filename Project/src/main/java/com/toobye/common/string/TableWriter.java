@@ -0,0 +1,382 @@
+/*
+ * Copyright 2026 (C) , All Rights Reserved.
+ * Company: China.
+ * 
+ * Create At 2026/10/19.
+ * 
+ */
+package com.toobye.common.string;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.toobye.common.base.Systems;
+import com.toobye.common.lang.Checks;
+import com.toobye.common.reflect.Properties;
+
+/**
+ * <pre> 流式表格输出.
+ * 
+ * 逐行写入Appendable（如Writer），按列宽左对齐，填充时直接写入空格，不生成整行或整表字符串，
+ * 适合输出大量行的报表。列宽在创建时确定：直接指定，或由样本行（取前若干行或全部预扫描）计算；
+ * 之后超出列宽的内容原样写出。最后一列不填充，避免行尾空格。
+ * 行可以是String[]（按位置）、Map（按列名取值）或Bean（按属性名取值，get/set[优先] & public），null值写为"null"。
+ * 
+ * TableWriter table = TableWriter.of(writer, null, rows.subList(0, 100), -1, null);
+ * table.writeHeader().writeAll(rows);
+ * 
+ * Modification History:
+ * Date        Author   Version   Action
+ * 2026/10/19  huangys  v1.0      Create
+ * </pre>
+ * 
+ */
+public final class TableWriter {
+
+	private static final String DELIMITER = " | ";
+
+	private final Appendable out;
+	/**
+	 * <pre> 列名，为null时不输出表头，Map及Bean按顺序取值. </pre>
+	 */
+	private final String[] columns;
+	private final int[] widths;
+	private final String delimiter;
+	private long rowCount = 0;
+
+	/**
+	 * <pre> 构造器. </pre>
+	 * 
+	 * @param out 输出
+	 * @param columns 列名
+	 * @param widths 列宽
+	 * @param delimiter 分隔符
+	 */
+	private TableWriter(@Nonnull final Appendable out, @Nullable final String[] columns, @Nonnull final int[] widths, @Nullable final String delimiter) {
+		this.out = out;
+		this.columns = columns;
+		this.widths = widths;
+		this.delimiter = delimiter == null ? DELIMITER : delimiter;
+	}
+
+	/**
+	 * <pre> 按指定列宽创建.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param out 输出
+	 * @param columns 列名，为null时不输出表头
+	 * @param widths 列宽
+	 * @param delimiter 分隔符，默认" | "
+	 * @return 表格输出
+	 */
+	@Nonnull
+	public static TableWriter of(@Nonnull final Appendable out, @Nullable final String[] columns, @Nonnull final int[] widths, @Nullable final String delimiter) {
+		Checks.nullThrow(out);
+		Checks.nullThrow(widths);
+		Checks.matchThrow(columns != null && columns.length != widths.length,
+				"Columns length(" + (columns == null ? 0 : columns.length) + ") doesn't match widths length(" + widths.length + ").");
+		return new TableWriter(out, columns == null ? null : columns.clone(), widths.clone(), delimiter);
+	}
+
+	/**
+	 * <pre> 按样本行计算列宽后创建.
+	 * 列宽取列名及样本行各列内容的最大长度。
+	 * 未指定列名时：首行为Map取其key、为Bean取其属性名作为列名，为数组时不输出表头。
+	 * 样本只用于计算列宽，不会被写出。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param out 输出
+	 * @param columns 列名
+	 * @param sample 样本行
+	 * @param sampleSize 最多计算的样本行数，<0时计算全部（预扫描）
+	 * @param delimiter 分隔符，默认" | "
+	 * @return 表格输出
+	 */
+	@Nonnull
+	public static TableWriter of(@Nonnull final Appendable out, @Nullable final String[] columns, @Nonnull final Iterable<?> sample,
+			final int sampleSize, @Nullable final String delimiter) {
+		Checks.nullThrow(out);
+		Checks.nullThrow(sample);
+		String[] names = columns == null ? null : columns.clone();
+		if (names == null) {
+			for (Object row : sample) {
+				names = columnsOf(row);
+				break;
+			}
+		}
+		int[] widths = new int[names == null ? 0 : names.length];
+		for (int i = 0; i < widths.length; i++) {
+			widths[i] = String.valueOf(names[i]).length();
+		}
+		int count = 0;
+		for (Object row : sample) {
+			if (sampleSize >= 0 && count++ >= sampleSize) {
+				break;
+			}
+			Object[] cells = cellsOf(row, names);
+			if (cells.length > widths.length && names == null) {
+				widths = Arrays.copyOf(widths, cells.length);
+			}
+			for (int i = 0; i < cells.length && i < widths.length; i++) {
+				widths[i] = Math.max(widths[i], String.valueOf(cells[i]).length());
+			}
+		}
+		return new TableWriter(out, names, widths, delimiter);
+	}
+
+	/**
+	 * <pre> 由首行推断列名.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param row 行
+	 * @return 列名，数组行返回null
+	 */
+	@Nullable
+	private static String[] columnsOf(@Nullable final Object row) {
+		if (row == null || row instanceof Object[]) {
+			return null;
+		}
+		Map<?, ?> map = row instanceof Map ? (Map<?, ?>) row : Properties.describeSmart(row);
+		String[] ret = new String[map.size()];
+		int i = 0;
+		for (Object key : map.keySet()) {
+			ret[i++] = String.valueOf(key);
+		}
+		return ret;
+	}
+
+	/**
+	 * <pre> 行的各列值（用于计算列宽）.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param row 行
+	 * @param columns 列名
+	 * @return 各列值
+	 */
+	@Nonnull
+	private static Object[] cellsOf(@Nullable final Object row, @Nullable final String[] columns) {
+		if (row == null) {
+			return new Object[0];
+		}
+		if (row instanceof Object[]) {
+			return (Object[]) row;
+		}
+		Map<?, ?> map = row instanceof Map ? (Map<?, ?>) row : Properties.describeSmart(row);
+		if (columns == null) {
+			return map.values().toArray();
+		}
+		Object[] ret = new Object[columns.length];
+		for (int i = 0; i < columns.length; i++) {
+			ret[i] = map.get(columns[i]);
+		}
+		return ret;
+	}
+
+	/**
+	 * <pre> 写入表头，未指定列名时不写入.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 表格输出
+	 */
+	@Nonnull
+	public TableWriter writeHeader() {
+		if (columns == null) {
+			return this;
+		}
+		try {
+			for (int i = 0; i < columns.length; i++) {
+				writeCell(i, columns[i], columns.length);
+			}
+			out.append(Systems.LINE_SEPARATOR);
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		return this;
+	}
+
+	/**
+	 * <pre> 写入一行（按位置）.
+	 * 列数少于列宽个数时只写已有列，多出的列不填充。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param row 行，null时写入空行
+	 * @return 表格输出
+	 */
+	@Nonnull
+	public TableWriter writeRow(@Nullable final Object[] row) {
+		try {
+			if (row != null) {
+				for (int i = 0; i < row.length; i++) {
+					writeCell(i, row[i], row.length);
+				}
+			}
+			endRow();
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		return this;
+	}
+
+	/**
+	 * <pre> 写入一行（按列名取值，未指定列名时按顺序）.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param row 行，null时写入空行
+	 * @return 表格输出
+	 */
+	@Nonnull
+	public TableWriter writeRow(@Nullable final Map<?, ?> row) {
+		try {
+			if (row != null && columns != null) {
+				for (int i = 0; i < columns.length; i++) {
+					writeCell(i, row.get(columns[i]), columns.length);
+				}
+			} else if (row != null) {
+				int i = 0;
+				for (Object value : row.values()) {
+					writeCell(i++, value, row.size());
+				}
+			}
+			endRow();
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		return this;
+	}
+
+	/**
+	 * <pre> 写入一行（Bean，按属性名取值）.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param bean Bean，null时写入空行
+	 * @return 表格输出
+	 */
+	@Nonnull
+	public TableWriter writeBean(@Nullable final Object bean) {
+		return writeRow(bean == null ? null : Properties.describeSmart(bean));
+	}
+
+	/**
+	 * <pre> 写入一行，按类型选择数组、Map或Bean.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param row 行
+	 * @return 表格输出
+	 */
+	@Nonnull
+	public TableWriter write(@Nullable final Object row) {
+		if (row == null || row instanceof Object[]) {
+			return writeRow((Object[]) row);
+		}
+		if (row instanceof Map) {
+			return writeRow((Map<?, ?>) row);
+		}
+		return writeBean(row);
+	}
+
+	/**
+	 * <pre> 逐行写入.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param rows 行
+	 * @return 表格输出
+	 */
+	@Nonnull
+	public TableWriter writeAll(@Nonnull final Iterable<?> rows) {
+		Checks.nullThrow(rows);
+		for (Object row : rows) {
+			write(row);
+		}
+		return this;
+	}
+
+	/**
+	 * <pre> 已写入的行数（不含表头）.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 行数
+	 */
+	public long getRowCount() {
+		return rowCount;
+	}
+
+	/**
+	 * <pre> 列宽.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 列宽
+	 */
+	@Nonnull
+	public int[] getWidths() {
+		return widths.clone();
+	}
+
+	private void writeCell(final int index, @Nullable final Object value, final int count) throws IOException {
+		if (index > 0) {
+			out.append(delimiter);
+		}
+		String str = String.valueOf(value);
+		out.append(str);
+		if (index < count - 1 && index < widths.length) {
+			StringFormat.repeatTo(' ', widths[index] - str.length(), out);
+		}
+	}
+
+	private void endRow() throws IOException {
+		out.append(Systems.LINE_SEPARATOR);
+		rowCount++;
+	}
+
+}
@@ -245,7 +245,7 @@ public final class ThreadExectorSetting<P> extends ToString {
 			evaluateLeftSeconds = processElapseTime.toSeconds() * (total - completeCount) / (completeCount - lastCompleteCount);
 		}
 		// 日志组装
-		String msg = DateFormat.getPreciseness(now)
+		String msg = DateFormat.getCurrPreciseness()
 				+ " - " + completeCount + (total == 0 ? "" : "/" + total)
 				+ " - TET/" + totalElapseTime.toSeconds() + "s"
 				+ " - PET/" + processElapseTime.toSeconds() + "s"
@@ -0,0 +1,338 @@
+/*
+ * Copyright 2026 (C) , All Rights Reserved.
+ * Company: China.
+ * 
+ * Create At 2026/10/19.
+ * 
+ */
+package com.toobye.common.time;
+
+import java.util.Date;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+
+/**
+ * <pre> 当前时间字符串缓存.
+ * 
+ * 每次读取都取System.currentTimeMillis()，时间不会滞后；同一毫秒（按秒、按日变化的格式为同一秒、同一日）内
+ * 的各标准格式（SIMPLE、DETAIL、PRECISENESS及对应NS格式）字符串只格式化一次，由各线程共用。
+ * 字符串在首次读取时才格式化，没有读取时不做任何工作（无后台线程）；默认时区变化后按新时区格式化。
+ * 适合日志、进度输出等频繁取当前时间字符串的场景。
+ * 
+ * Modification History:
+ * Date        Author   Version   Action
+ * 2026/10/19  huangys  v1.0      Create
+ * 2026/10/19  huangys  v1.1      去除后台刷新线程，读取时取当前时间，字符串按需格式化
+ * </pre>
+ * 
+ */
+public final class CachedClock {
+
+	private CachedClock() { }
+
+	/**
+	 * <pre> 某一毫秒的各标准格式字符串，首次读取时格式化.
+	 * 并发读取时最多重复格式化，结果相同。
+	 * </pre>
+	 */
+	private static final class Snapshot {
+		private final Formatters formatters;
+		private final long ms;
+		private final long second;
+		private final long day;
+		private volatile String simple;
+		private volatile String detail;
+		private volatile String preciseness;
+		private volatile String simpleNS;
+		private volatile String detailNS;
+		private volatile String precisenessNS;
+
+		private Snapshot(final long ms, @Nonnull final Formatters formatters, @Nonnull final Snapshot last) {
+			this.formatters = formatters;
+			this.ms = ms;
+			this.second = EpochCalendar.floorDiv(ms, EpochCalendar.MS_PER_SECOND);
+			this.day = EpochCalendar.floorDiv(formatters.calendar.toLocal(ms), EpochCalendar.MS_PER_DAY);
+			// 同一时区下，沿用上一时刻已格式化的按日、按秒变化的字符串
+			if (last.formatters != formatters) {
+				return;
+			}
+			if (last.day == day) {
+				this.simple = last.simple;
+				this.simpleNS = last.simpleNS;
+			}
+			if (last.second == second) {
+				this.detail = last.detail;
+				this.detailNS = last.detailNS;
+			}
+		}
+
+		private Snapshot() {
+			this.formatters = null;
+			this.ms = Long.MIN_VALUE;
+			this.second = Long.MIN_VALUE;
+			this.day = Long.MIN_VALUE;
+		}
+
+		@Nonnull
+		private String getSimple() {
+			String ret = simple;
+			if (ret == null) {
+				ret = formatters.simple.format(ms);
+				simple = ret;
+			}
+			return ret;
+		}
+
+		@Nonnull
+		private String getDetail() {
+			String ret = detail;
+			if (ret == null) {
+				ret = formatters.detail.format(ms);
+				detail = ret;
+			}
+			return ret;
+		}
+
+		@Nonnull
+		private String getPreciseness() {
+			String ret = preciseness;
+			if (ret == null) {
+				ret = formatters.preciseness.format(ms);
+				preciseness = ret;
+			}
+			return ret;
+		}
+
+		@Nonnull
+		private String getSimpleNS() {
+			String ret = simpleNS;
+			if (ret == null) {
+				ret = formatters.simpleNS.format(ms);
+				simpleNS = ret;
+			}
+			return ret;
+		}
+
+		@Nonnull
+		private String getDetailNS() {
+			String ret = detailNS;
+			if (ret == null) {
+				ret = formatters.detailNS.format(ms);
+				detailNS = ret;
+			}
+			return ret;
+		}
+
+		@Nonnull
+		private String getPrecisenessNS() {
+			String ret = precisenessNS;
+			if (ret == null) {
+				ret = formatters.precisenessNS.format(ms);
+				precisenessNS = ret;
+			}
+			return ret;
+		}
+	}
+
+	/**
+	 * <pre> 某一时区的各标准格式格式化器. </pre>
+	 */
+	private static final class Formatters {
+		private final EpochCalendar calendar;
+		private final DateFormatter simple = DateFormatter.of(DateFormat.SIMPLE);
+		private final DateFormatter detail = DateFormatter.of(DateFormat.DETAIL);
+		private final DateFormatter preciseness = DateFormatter.of(DateFormat.PRECISENESS);
+		private final DateFormatter simpleNS = DateFormatter.of(DateFormat.SIMPLE_NS);
+		private final DateFormatter detailNS = DateFormatter.of(DateFormat.DETAIL_NS);
+		private final DateFormatter precisenessNS = DateFormatter.of(DateFormat.PRECISENESS_NS);
+
+		private Formatters(@Nonnull final EpochCalendar calendar) {
+			this.calendar = calendar;
+		}
+	}
+
+	private static volatile Formatters lastFormatters;
+	private static volatile Snapshot current = new Snapshot();
+
+	/**
+	 * <pre> 默认时区的格式化器，默认时区变化时替换. </pre>
+	 */
+	@Nonnull
+	private static Formatters formatters() {
+		EpochCalendar calendar = EpochCalendar.getDefault();
+		Formatters ret = lastFormatters;
+		if (ret == null || ret.calendar != calendar) {
+			ret = new Formatters(calendar);
+			lastFormatters = ret;
+		}
+		return ret;
+	}
+
+	/**
+	 * <pre> 当前毫秒的快照，毫秒变化时替换（并发替换时最多重复创建），默认时区在毫秒变化时检查. </pre>
+	 */
+	@Nonnull
+	private static Snapshot snapshot() {
+		long now = System.currentTimeMillis();
+		Snapshot last = current;
+		if (last.ms == now) {
+			return last;
+		}
+		Snapshot ret = new Snapshot(now, formatters(), last);
+		current = ret;
+		return ret;
+	}
+
+	/**
+	 * <pre> 当前毫秒数.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 毫秒数
+	 */
+	public static long currentTimeMillis() {
+		return System.currentTimeMillis();
+	}
+
+	/**
+	 * <pre> 当前时间.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 时间
+	 */
+	@Nonnull
+	public static Date now() {
+		return new Date();
+	}
+
+	/**
+	 * <pre> 当前时间yyyy-MM-dd.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 格式化字符串
+	 */
+	@Nonnull
+	public static String getSimple() {
+		return snapshot().getSimple();
+	}
+
+	/**
+	 * <pre> 当前时间yyyy-MM-dd HH:mm:ss.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 格式化字符串
+	 */
+	@Nonnull
+	public static String getDetail() {
+		return snapshot().getDetail();
+	}
+
+	/**
+	 * <pre> 当前时间yyyy-MM-dd HH:mm:ss.SSS.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 格式化字符串
+	 */
+	@Nonnull
+	public static String getPreciseness() {
+		return snapshot().getPreciseness();
+	}
+
+	/**
+	 * <pre> 当前时间yyyyMMdd.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 格式化字符串
+	 */
+	@Nonnull
+	public static String getSimpleNS() {
+		return snapshot().getSimpleNS();
+	}
+
+	/**
+	 * <pre> 当前时间yyyyMMddHHmmss.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 格式化字符串
+	 */
+	@Nonnull
+	public static String getDetailNS() {
+		return snapshot().getDetailNS();
+	}
+
+	/**
+	 * <pre> 当前时间yyyyMMddHHmmssSSS.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 格式化字符串
+	 */
+	@Nonnull
+	public static String getPrecisenessNS() {
+		return snapshot().getPrecisenessNS();
+	}
+
+	/**
+	 * <pre> 当前时间按指定格式格式化.
+	 * 标准格式返回缓存字符串，其余格式按当前毫秒数格式化。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param format 时间格式，为空时取yyyy-MM-dd HH:mm:ss.SSS
+	 * @return 格式化字符串
+	 */
+	@Nonnull
+	public static String get(@Nullable final String format) {
+		Snapshot snapshot = snapshot();
+		if (format == null || DateFormat.PRECISENESS.equals(format)) {
+			return snapshot.getPreciseness();
+		} else if (DateFormat.DETAIL.equals(format)) {
+			return snapshot.getDetail();
+		} else if (DateFormat.SIMPLE.equals(format)) {
+			return snapshot.getSimple();
+		} else if (DateFormat.PRECISENESS_NS.equals(format)) {
+			return snapshot.getPrecisenessNS();
+		} else if (DateFormat.DETAIL_NS.equals(format)) {
+			return snapshot.getDetailNS();
+		} else if (DateFormat.SIMPLE_NS.equals(format)) {
+			return snapshot.getSimpleNS();
+		}
+		return DateFormatter.of(format).format(snapshot.ms);
+	}
+
+}
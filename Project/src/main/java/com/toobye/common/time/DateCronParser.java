@@ -166,11 +166,29 @@ public final class DateCronParser {
 		Checks.nullThrow(date);
 		Checks.nullThrow(cronExp);
 		
-		CronExpression exp = getCronExp(cronExp);
+		return get(date, getCronExp(cronExp), addPeriods);
+	}
+	
+	/**
+	 * <pre> 获得CRON粒度的期初时间（已解析的cron表达式）.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param date 时间
+	 * @param exp cron表达式
+	 * @param addPeriods 偏移周期
+	 * @return 时间
+	 */
+	@Nonnull
+	static Date get(@Nonnull final Date date, @Nonnull final CronExpression exp, @Nonnull final int addPeriods) {
 		Date ret = Dates.truncSecond(date);
 		if (addPeriods > 0) {
 			for (int i = 0; i < addPeriods; i++) {
 				ret = exp.getNextValidTimeAfter(ret);
+				Checks.nullThrow(ret, "CRON expression(" + exp.getCronExpression() + ") has no valid time for period " + (i + 1) + ".");
 			}
 			return ret;
 		} else {
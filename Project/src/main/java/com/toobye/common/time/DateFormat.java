@@ -7,8 +7,6 @@
  */
 package com.toobye.common.time;
 
-import java.text.ParsePosition;
-import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.Locale;
 
@@ -45,6 +43,8 @@ import com.toobye.common.lang.Checks;
  * Modification History:
  * Date        Author   Version   Action
  * 2013/08/09  huangys  v1.0      Create
+ * 2026/10/19  huangys  v1.1      格式化及解析改用缓存的DateFormatter/DateMultiParser
+ * 2026/10/19  huangys  v1.2      getCurr*系列改用缓存时钟CachedClock
  * </pre>
  * 
  */
@@ -80,92 +80,104 @@ public final class DateFormat {
 
 	/**
 	 * <pre> 格式化当前时间yyyy-MM-dd.
+	 * 取自CachedClock，同一毫秒内的结果由各线程共用。
 	 * 
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/01/01  huangys  Create
+	 * 2026/10/19  huangys  Modify
 	 * </pre>
 	 * 
 	 * @return 格式化字符串
 	 */
 	@Nonnull
 	public static String getCurrSimple() {
-		return getCurr(SIMPLE);
+		return CachedClock.getSimple();
 	}
 	
 	/**
 	 * <pre> 格式化当前时间yyyy-MM-dd HH:mm:ss.
+	 * 取自CachedClock，同一毫秒内的结果由各线程共用。
 	 * 
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/01/01  huangys  Create
+	 * 2026/10/19  huangys  Modify
 	 * </pre>
 	 * 
 	 * @return 格式化字符串
 	 */
 	@Nonnull
 	public static String getCurrDetail() {
-		return getCurr(DETAIL);
+		return CachedClock.getDetail();
 	}
 	
 	/**
 	 * <pre> 格式化当前时间yyyy-MM-dd HH:mm:ss.SSS.
+	 * 取自CachedClock，同一毫秒内的结果由各线程共用。
 	 * 
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/01/01  huangys  Create
+	 * 2026/10/19  huangys  Modify
 	 * </pre>
 	 * 
 	 * @return 格式化字符串
 	 */
 	@Nonnull
 	public static String getCurrPreciseness() {
-		return getCurr(PRECISENESS);
+		return CachedClock.getPreciseness();
 	}
 	
 	/**
 	 * <pre> 格式化当前时间yyyyMMdd.
+	 * 取自CachedClock，同一毫秒内的结果由各线程共用。
 	 * 
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/01/01  huangys  Create
+	 * 2026/10/19  huangys  Modify
 	 * </pre>
 	 * 
 	 * @return 格式化字符串
 	 */
 	@Nonnull
 	public static String getCurrSimpleNS() {
-		return getCurr(SIMPLE_NS);
+		return CachedClock.getSimpleNS();
 	}
 	
 	/**
 	 * <pre> 格式化当前时间yyyyMMddHHmmss.
+	 * 取自CachedClock，同一毫秒内的结果由各线程共用。
 	 * 
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/01/01  huangys  Create
+	 * 2026/10/19  huangys  Modify
 	 * </pre>
 	 * 
 	 * @return 格式化字符串
 	 */
 	@Nonnull
 	public static String getCurrDetailNS() {
-		return getCurr(DETAIL_NS);
+		return CachedClock.getDetailNS();
 	}
 	
 	/**
 	 * <pre> 格式化当前时间yyyyMMddHHmmssSSS.
+	 * 取自CachedClock，同一毫秒内的结果由各线程共用。
 	 * 
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2014/01/01  huangys  Create
+	 * 2026/10/19  huangys  Modify
 	 * </pre>
 	 * 
 	 * @return 格式化字符串
 	 */
 	@Nonnull
 	public static String getCurrPrecisenessNS() {
-		return getCurr(PRECISENESS_NS);
+		return CachedClock.getPrecisenessNS();
 	}
 	
 	/**
@@ -301,8 +313,7 @@ public final class DateFormat {
 	@Nonnull
 	public static String get(@Nonnull final Date date, @Nullable final String format) {
 		Checks.nullThrow(date);
-		SimpleDateFormat sdf = new SimpleDateFormat(format == null ? PRECISENESS : format);
-		return sdf.format(date);
+		return DateFormatter.of(format).format(date);
 	}
 	
 	/**
@@ -422,7 +433,7 @@ public final class DateFormat {
 	 */
 	@Nonnull
 	public static Date parse(@Nonnull final String dateStr, @Nonnull final String... formats) {
-		return parseDateWithLeniency(dateStr, null, formats, false);
+		return parseDateWithLeniency(dateStr, null, formats);
 	}
 	
 	/**
@@ -441,7 +452,7 @@ public final class DateFormat {
 	 */
 	@Nonnull
 	public static Date parse(@Nonnull final String dateStr, @Nullable final Locale locale, @Nonnull final String... formats) {
-		return parseDateWithLeniency(dateStr, locale, formats, false);
+		return parseDateWithLeniency(dateStr, locale, formats);
 	}
 	
 	/**
@@ -460,7 +471,7 @@ public final class DateFormat {
 	 */
 	@Nonnull
 	public static Date parseUs(@Nonnull final String dateStr, @Nonnull final String... formats) {
-		return parseDateWithLeniency(dateStr, Locale.US, formats, false);
+		return parseDateWithLeniency(dateStr, Locale.US, formats);
 	}
 
 	/**
@@ -468,56 +479,27 @@ public final class DateFormat {
      * 
      * <p>The parse will try each parse pattern in turn.
      * A parse is only deemed successful if it parses the whole of the input string.
-     * If no parse patterns match, a ParseException is thrown.</p>
+     * If no parse patterns match, a RuntimeException is thrown.</p>
+     * 
+     * <p>Parsing is not lenient. A single pattern uses its cached {@link DateFormatter},
+     * several patterns use the cached {@link DateMultiParser}, which locates the pattern
+     * by the layout of the input instead of trying each one in turn.</p>
      * 
      * @param str  the date to parse, not null
      * @param locale the locale to use when interpretting the pattern, can be null in which
      * case the default system locale is used
      * @param parsePatterns  the date format patterns to use, see SimpleDateFormat, not null
-     * @param lenient Specify whether or not date/time parsing is to be lenient.
      * @return the parsed date
-     * @see java.util.Calendar#isLenient()
      */
 	@Nonnull
-    private static Date parseDateWithLeniency(@Nonnull final String str, @Nullable final Locale locale, @Nonnull final String[] parsePatterns, @Nonnull final boolean lenient) {
+    private static Date parseDateWithLeniency(@Nonnull final String str, @Nullable final Locale locale, @Nonnull final String[] parsePatterns) {
     	Checks.emptyThrow(str);
     	Checks.emptyThrow(parsePatterns);
 
-		SimpleDateFormat parser;
-		if (locale == null) {
-			parser = new SimpleDateFormat();
-		} else {
-			parser = new SimpleDateFormat("", locale);
-		}
-
-		parser.setLenient(lenient);
-		final ParsePosition pos = new ParsePosition(0);
-		for (final String parsePattern : parsePatterns) {
-
-			String pattern = parsePattern;
-
-			// LANG-530 - need to make sure 'ZZ' output doesn't get passed to
-			// SimpleDateFormat
-			if (parsePattern.endsWith("ZZ")) {
-				pattern = pattern.substring(0, pattern.length() - 1);
-			}
-
-			parser.applyPattern(pattern);
-			pos.setIndex(0);
-
-			String str2 = str;
-			// LANG-530 - need to make sure 'ZZ' output doesn't hit
-			// SimpleDateFormat as it will ParseException
-			if (parsePattern.endsWith("ZZ")) {
-				str2 = str.replaceAll("([-+][0-9][0-9]):([0-9][0-9])$", "$1$2");
-			}
-
-			final Date date = parser.parse(str2, pos);
-			if (date != null && pos.getIndex() == str2.length()) {
-				return date;
-			}
+		if (parsePatterns.length == 1 && !parsePatterns[0].endsWith("ZZ")) {
+			return DateFormatter.of(parsePatterns[0], locale).parse(str);
 		}
-		throw new RuntimeException("Unable to parse the date: " + str);
+		return DateMultiParser.of(locale, parsePatterns).parse(str);
     }
 	
 	/**
@@ -0,0 +1,612 @@
+/*
+ * Copyright 2026 (C) , All Rights Reserved.
+ * Company: China.
+ *
+ * Create At 2026/10/19.
+ *
+ */
+package com.toobye.common.time;
+
+import java.io.IOException;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.google.common.cache.CacheBuilder;
+import com.toobye.common.lang.Checks;
+
+/**
+ * <pre> 线程安全的时间格式化器.
+ *
+ * 按格式、地域及默认时区缓存，格式在首次使用时编译为字段序列，之后格式化直接写入StringBuilder/Appendable，
+ * 不再创建SimpleDateFormat。
+ * 支持的数值字段：y M(MM) d H k K h m s S D，其余字段（如EEE、MMM、a、z）退化为线程内缓存的SimpleDateFormat。
+ * 地域使用非格里高利历（如th_TH的佛历、ja_JP_JP的和历）时，全部退化为SimpleDateFormat，年份等按该历法。
+ * 固定布局格式（仅由yyyy、MM、dd、HH、mm、ss、SSS及分隔符组成，如yyyyMMdd、yyyy-MM-dd HH:mm:ss.SSS）
+ * 使用逐字符解析，解析失败时仍退化为非宽松的SimpleDateFormat，保持与原有行为一致。
+ * 时区取获得格式化器时的默认时区（与SimpleDateFormat一致），默认时区变化后of返回新时区的格式化器，日期计算见EpochCalendar。
+ * 缓存的格式化器数有上限，超出后按最近最少使用淘汰（同PatternCache）。
+ *
+ * Modification History:
+ * Date        Author   Version   Action
+ * 2026/10/19  huangys  v1.0      Create
+ * 2026/10/19  huangys  v1.1      缓存按默认时区区分，并限制缓存数
+ * 2026/10/19  huangys  v1.2      非格里高利历地域退化为SimpleDateFormat，缓存按实际地域区分
+ * </pre>
+ *
+ */
+public final class DateFormatter {
+
+	/**
+	 * <pre> 缓存的格式化器数上限. </pre>
+	 */
+	private static final int MAX_SIZE = 1024;
+
+	/**
+	 * <pre> Cache. </pre>
+	 */
+	private static final ConcurrentMap<String, DateFormatter> FORMATTER_MAP = CacheBuilder.newBuilder()
+			.maximumSize(MAX_SIZE)
+			.<String, DateFormatter>build()
+			.asMap();
+
+	private static final char LITERAL = 0;
+	/**
+	 * <pre> 固定布局形态中的数字占位符. </pre>
+	 */
+	static final char DIGIT = '\uFFFF';
+
+	private final String pattern;
+	private final Locale locale;
+	private final EpochCalendar calendar;
+	/**
+	 * <pre> 字段序列，LITERAL表示字面量. </pre>
+	 */
+	private final char[] fields;
+	private final int[] widths;
+	private final String[] literals;
+	/**
+	 * <pre> 是否可由本类直接格式化. </pre>
+	 */
+	private final boolean compiled;
+	/**
+	 * <pre> 固定布局的总长度，-1表示非固定布局. </pre>
+	 */
+	private final int fixedLength;
+	private final ThreadLocal<SimpleDateFormat> fallback;
+
+	private DateFormatter(@Nonnull final String pattern, @Nonnull final Locale locale, @Nonnull final EpochCalendar calendar) {
+		this.pattern = pattern;
+		this.locale = locale;
+		this.calendar = calendar;
+
+		List<Character> fieldList = new ArrayList<>();
+		List<Integer> widthList = new ArrayList<>();
+		List<String> literalList = new ArrayList<>();
+		boolean supported = true;
+		int length = pattern.length();
+		int i = 0;
+		while (i < length) {
+			char c = pattern.charAt(i);
+			if (c == '\'') {
+				// 引号内为字面量，两个单引号表示单引号本身
+				StringBuilder sb = new StringBuilder();
+				if (i + 1 < length && pattern.charAt(i + 1) == '\'') {
+					sb.append('\'');
+					i += 2;
+				} else {
+					i++;
+					while (i < length) {
+						char q = pattern.charAt(i);
+						if (q == '\'') {
+							if (i + 1 < length && pattern.charAt(i + 1) == '\'') {
+								sb.append('\'');
+								i += 2;
+								continue;
+							}
+							break;
+						}
+						sb.append(q);
+						i++;
+					}
+					if (i >= length) {
+						throw new IllegalArgumentException("Unterminated quote in pattern: " + pattern);
+					}
+					i++;
+				}
+				addLiteral(fieldList, widthList, literalList, sb.toString());
+			} else if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+				int j = i + 1;
+				while (j < length && pattern.charAt(j) == c) {
+					j++;
+				}
+				int count = j - i;
+				if ("yMdHkKhmsSD".indexOf(c) < 0 || (c == 'M' && count > 2)) {
+					supported = false;
+				}
+				fieldList.add(c);
+				widthList.add(count);
+				literalList.add(null);
+				i = j;
+			} else {
+				addLiteral(fieldList, widthList, literalList, String.valueOf(c));
+				i++;
+			}
+		}
+
+		int size = fieldList.size();
+		this.fields = new char[size];
+		this.widths = new int[size];
+		this.literals = literalList.toArray(new String[size]);
+		int fixed = 0;
+		for (int k = 0; k < size; k++) {
+			fields[k] = fieldList.get(k);
+			widths[k] = widthList.get(k);
+			if (fixed >= 0) {
+				if (fields[k] == LITERAL) {
+					fixed += literals[k].length();
+				} else if (isFixedField(fields[k], widths[k])) {
+					fixed += widths[k];
+				} else {
+					fixed = -1;
+				}
+			}
+		}
+		// 非格里高利历（佛历、和历等）的年份等由SimpleDateFormat按该历法处理
+		supported = supported && isGregorian(calendar, locale);
+		this.compiled = supported;
+		this.fixedLength = supported && size > 0 ? fixed : -1;
+		this.fallback = new ThreadLocal<SimpleDateFormat>() {
+			@Override
+			protected SimpleDateFormat initialValue() {
+				SimpleDateFormat sdf = new SimpleDateFormat(pattern, locale);
+				sdf.setLenient(false);
+				sdf.setTimeZone(calendar.getZone());
+				return sdf;
+			}
+		};
+	}
+
+	private static void addLiteral(@Nonnull final List<Character> fieldList, @Nonnull final List<Integer> widthList, @Nonnull final List<String> literalList, @Nonnull final String literal) {
+		int last = fieldList.size() - 1;
+		if (last >= 0 && fieldList.get(last) == LITERAL) {
+			literalList.set(last, literalList.get(last) + literal);
+		} else {
+			fieldList.add(LITERAL);
+			widthList.add(0);
+			literalList.add(literal);
+		}
+	}
+
+	private static boolean isGregorian(@Nonnull final EpochCalendar calendar, @Nonnull final Locale locale) {
+		// th_TH的BuddhistCalendar是GregorianCalendar的子类，须按类型精确判断
+		return Calendar.getInstance(calendar.getZone(), locale).getClass() == GregorianCalendar.class;
+	}
+
+	private static boolean isFixedField(final char field, final int width) {
+		switch (field) {
+		case 'y':
+			return width == 4;
+		case 'M':
+		case 'd':
+		case 'H':
+		case 'm':
+		case 's':
+			return width == 2;
+		case 'S':
+			return width == 3;
+		default:
+			return false;
+		}
+	}
+
+	/**
+	 * <pre> 获得格式化器（默认地域）.
+	 *
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 *
+	 * @param pattern 时间格式，为空时取yyyy-MM-dd HH:mm:ss.SSS
+	 * @return 格式化器
+	 */
+	@Nonnull
+	public static DateFormatter of(@Nullable final String pattern) {
+		return of(pattern, null);
+	}
+
+	/**
+	 * <pre> 获得格式化器.
+	 * 按当前默认时区返回，默认时区变化后返回新时区的格式化器。
+	 *
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * 2026/10/19  huangys  Modify  按默认时区区分缓存
+	 * 2026/10/19  huangys  Modify  地域为空时按当前系统默认地域区分缓存
+	 * </pre>
+	 *
+	 * @param pattern 时间格式，为空时取yyyy-MM-dd HH:mm:ss.SSS
+	 * @param locale 地域，为空时取系统默认地域
+	 * @return 格式化器
+	 */
+	@Nonnull
+	public static DateFormatter of(@Nullable final String pattern, @Nullable final Locale locale) {
+		String p = pattern == null ? DateFormat.PRECISENESS : pattern;
+		Locale l = locale == null ? Locale.getDefault(Locale.Category.FORMAT) : locale;
+		EpochCalendar calendar = EpochCalendar.getDefault();
+		String key = p + '\u0000' + calendar.getId() + '\u0000' + l;
+		DateFormatter formatter = FORMATTER_MAP.get(key);
+		if (formatter == null) {
+			formatter = new DateFormatter(p, l, calendar);
+			DateFormatter exists = FORMATTER_MAP.putIfAbsent(key, formatter);
+			if (exists != null) {
+				formatter = exists;
+			}
+		}
+		return formatter;
+	}
+
+	/**
+	 * <pre> 获得时间格式.
+	 *
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 *
+	 * @return 时间格式
+	 */
+	@Nonnull
+	public String getPattern() {
+		return pattern;
+	}
+
+	/**
+	 * <pre> 是否为固定布局格式（可逐字符解析）.
+	 *
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 *
+	 * @return 是否
+	 */
+	public boolean isFixedLayout() {
+		return fixedLength >= 0;
+	}
+
+	/**
+	 * <pre> 固定布局格式的字符串长度，非固定布局返回-1.
+	 *
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 *
+	 * @return 长度
+	 */
+	public int getFixedLength() {
+		return fixedLength;
+	}
+
+	/**
+	 * <pre> 格式化.
+	 *
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 *
+	 * @param date 时间
+	 * @return 格式化字符串
+	 */
+	@Nonnull
+	public String format(@Nonnull final Date date) {
+		Checks.nullThrow(date);
+		return format(date.getTime());
+	}
+
+	/**
+	 * <pre> 格式化.
+	 *
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 *
+	 * @param ms 毫秒数
+	 * @return 格式化字符串
+	 */
+	@Nonnull
+	public String format(final long ms) {
+		if (!compiled || ms < EpochCalendar.GREGORIAN_CUTOVER) {
+			return fallback.get().format(new Date(ms));
+		}
+		return formatTo(ms, new StringBuilder(pattern.length() + 8)).toString();
+	}
+
+	/**
+	 * <pre> 格式化并追加至StringBuilder.
+	 *
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 *
+	 * @param ms 毫秒数
+	 * @param sb 输出
+	 * @return 输出
+	 */
+	@Nonnull
+	public StringBuilder formatTo(final long ms, @Nonnull final StringBuilder sb) {
+		Checks.nullThrow(sb);
+		try {
+			formatInternal(ms, sb);
+		} catch (IOException e) {
+			// StringBuilder不会抛出IOException
+			throw new RuntimeException(e);
+		}
+		return sb;
+	}
+
+	/**
+	 * <pre> 格式化并追加至Appendable（如Writer）.
+	 *
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 *
+	 * @param <A> 输出类型
+	 * @param ms 毫秒数
+	 * @param out 输出
+	 * @return 输出
+	 */
+	@Nonnull
+	public <A extends Appendable> A formatTo(final long ms, @Nonnull final A out) {
+		Checks.nullThrow(out);
+		try {
+			formatInternal(ms, out);
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		return out;
+	}
+
+	private void formatInternal(final long ms, @Nonnull final Appendable out) throws IOException {
+		if (!compiled || ms < EpochCalendar.GREGORIAN_CUTOVER) {
+			out.append(fallback.get().format(new Date(ms)));
+			return;
+		}
+		long local = calendar.toLocal(ms);
+		long days = EpochCalendar.floorDiv(local, EpochCalendar.MS_PER_DAY);
+		int msOfDay = (int) (local - days * EpochCalendar.MS_PER_DAY);
+		int civil = EpochCalendar.civilFromDays(days);
+		int year = EpochCalendar.yearOf(civil);
+		int month = EpochCalendar.monthOf(civil);
+		int day = EpochCalendar.dayOf(civil);
+		int hour = msOfDay / 3600000;
+		int minute = msOfDay / 60000 % 60;
+		int second = msOfDay / 1000 % 60;
+		int milli = msOfDay % 1000;
+		for (int i = 0; i < fields.length; i++) {
+			int width = widths[i];
+			switch (fields[i]) {
+			case LITERAL:
+				out.append(literals[i]);
+				break;
+			case 'y':
+				appendPadded(out, width == 2 ? year % 100 : year, width);
+				break;
+			case 'M':
+				appendPadded(out, month, width);
+				break;
+			case 'd':
+				appendPadded(out, day, width);
+				break;
+			case 'D':
+				appendPadded(out, (int) (days - EpochCalendar.daysFromCivil(year, 1, 1)) + 1, width);
+				break;
+			case 'H':
+				appendPadded(out, hour, width);
+				break;
+			case 'k':
+				appendPadded(out, hour == 0 ? 24 : hour, width);
+				break;
+			case 'K':
+				appendPadded(out, hour % 12, width);
+				break;
+			case 'h':
+				appendPadded(out, hour % 12 == 0 ? 12 : hour % 12, width);
+				break;
+			case 'm':
+				appendPadded(out, minute, width);
+				break;
+			case 's':
+				appendPadded(out, second, width);
+				break;
+			case 'S':
+				appendPadded(out, milli, width);
+				break;
+			default:
+				throw new IllegalStateException("Unsupported field: " + fields[i]);
+			}
+		}
+	}
+
+	private static void appendPadded(@Nonnull final Appendable out, final int value, final int width) throws IOException {
+		int digits = 1;
+		for (int v = value / 10; v > 0; v /= 10) {
+			digits++;
+		}
+		for (int i = digits; i < width; i++) {
+			out.append('0');
+		}
+		int divisor = 1;
+		for (int i = 1; i < digits; i++) {
+			divisor *= 10;
+		}
+		for (; divisor > 0; divisor /= 10) {
+			out.append((char) ('0' + value / divisor % 10));
+		}
+	}
+
+	/**
+	 * <pre> 解析时间字符串，失败时抛出异常.
+	 *
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 *
+	 * @param str 时间字符串
+	 * @return 时间
+	 */
+	@Nonnull
+	public Date parse(@Nonnull final String str) {
+		Checks.emptyThrow(str);
+		Date date = tryParse(str);
+		if (date == null) {
+			throw new RuntimeException("Unable to parse the date: " + str);
+		}
+		return date;
+	}
+
+	/**
+	 * <pre> 解析时间字符串，失败时返回null（不抛出异常）.
+	 * 必须完整匹配整个字符串，非宽松解析。
+	 *
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 *
+	 * @param str 时间字符串
+	 * @return 时间
+	 */
+	@Nullable
+	public Date tryParse(@Nullable final String str) {
+		if (str == null) {
+			return null;
+		}
+		if (fixedLength >= 0 && str.length() == fixedLength) {
+			long ms = parseFixed(str);
+			if (ms != Long.MIN_VALUE) {
+				return new Date(ms);
+			}
+		}
+		ParsePosition pos = new ParsePosition(0);
+		Date date = fallback.get().parse(str, pos);
+		if (date != null && pos.getIndex() == str.length()) {
+			return date;
+		}
+		return null;
+	}
+
+	/**
+	 * <pre> 固定布局的字符形态，数字位置为DIGIT，其余为分隔符本身；非固定布局返回null. </pre>
+	 */
+	@Nullable
+	String getLayout() {
+		if (fixedLength < 0) {
+			return null;
+		}
+		StringBuilder sb = new StringBuilder(fixedLength);
+		for (int i = 0; i < fields.length; i++) {
+			if (fields[i] == LITERAL) {
+				sb.append(literals[i]);
+			} else {
+				for (int k = 0; k < widths[i]; k++) {
+					sb.append(DIGIT);
+				}
+			}
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * <pre> 逐字符解析固定布局时间字符串，无法确定时返回Long.MIN_VALUE.
+	 * 调用方需保证str长度与固定布局长度一致。
+	 * </pre>
+	 */
+	long parseFixed(@Nonnull final CharSequence str) {
+		int year = 1970;
+		int month = 1;
+		int day = 1;
+		int hour = 0;
+		int minute = 0;
+		int second = 0;
+		int milli = 0;
+		int pos = 0;
+		for (int i = 0; i < fields.length; i++) {
+			if (fields[i] == LITERAL) {
+				String literal = literals[i];
+				for (int k = 0; k < literal.length(); k++) {
+					if (str.charAt(pos++) != literal.charAt(k)) {
+						return Long.MIN_VALUE;
+					}
+				}
+				continue;
+			}
+			int value = 0;
+			for (int k = 0; k < widths[i]; k++) {
+				int d = str.charAt(pos++) - '0';
+				if (d < 0 || d > 9) {
+					return Long.MIN_VALUE;
+				}
+				value = value * 10 + d;
+			}
+			switch (fields[i]) {
+			case 'y':
+				year = value;
+				break;
+			case 'M':
+				month = value;
+				break;
+			case 'd':
+				day = value;
+				break;
+			case 'H':
+				hour = value;
+				break;
+			case 'm':
+				minute = value;
+				break;
+			case 's':
+				second = value;
+				break;
+			default:
+				milli = value;
+				break;
+			}
+		}
+		if (year < 1583 || month < 1 || month > 12 || day < 1 || day > EpochCalendar.lengthOfMonth(year, month)
+				|| hour > 23 || minute > 59 || second > 59) {
+			return Long.MIN_VALUE;
+		}
+		long local = EpochCalendar.daysFromCivil(year, month, day) * EpochCalendar.MS_PER_DAY
+				+ hour * EpochCalendar.MS_PER_HOUR + minute * EpochCalendar.MS_PER_MINUTE + second * EpochCalendar.MS_PER_SECOND + milli;
+		// 夏令时切换造成的不存在时间交由SimpleDateFormat判断
+		if (!calendar.isValidLocal(local)) {
+			return Long.MIN_VALUE;
+		}
+		return calendar.toUtc(local);
+	}
+
+	@Override
+	public String toString() {
+		return pattern + " (" + locale + ")";
+	}
+
+}
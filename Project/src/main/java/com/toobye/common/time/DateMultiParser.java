@@ -0,0 +1,305 @@
+/*
+ * Copyright 2026 (C) , All Rights Reserved.
+ * Company: China.
+ * 
+ * Create At 2026/10/19.
+ * 
+ */
+package com.toobye.common.time;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.google.common.cache.CacheBuilder;
+import com.toobye.common.lang.Checks;
+
+/**
+ * <pre> 多格式时间解析器.
+ * 
+ * 创建时将各候选格式预编译为按字符形态（长度、分隔符位置、数字位置）索引的查找表，
+ * 解析时对输入扫描一遍得出形态，直接定位候选格式，无需逐个尝试，也不依赖异常。
+ * 结果与按顺序逐个尝试一致：只有靠前的格式都不可能匹配时（均为固定布局，且分隔符序列与该格式不同，
+ * SimpleDateFormat放宽数字位数也无法匹配），形态命中的格式才直接返回；
+ * 否则（形态未命中、非补零的2024-1-5、含英文月份、靠前格式可能宽松匹配等）
+ * 按顺序逐个尝试（DateFormatter.tryParse，不抛出异常）。
+ * 上次直接返回的格式会记录为提示，下次优先尝试，适合同一列数据格式大体一致的场景；
+ * 提示只影响尝试顺序，不影响结果，缓存的解析器被多处共用时也不会互相干扰。
+ * 解析器按创建时的默认时区解析；of按地域、候选格式及当前默认时区缓存（数量有上限，同DateFormatter），
+ * 默认时区变化后返回新时区的解析器。
+ * 
+ * Modification History:
+ * Date        Author   Version   Action
+ * 2026/10/19  huangys  v1.0      Create
+ * 2026/10/19  huangys  v1.1      形态命中仅在靠前格式均不可能匹配时直接返回，保持按顺序尝试的结果
+ * 2026/10/19  huangys  v1.2      缓存按默认时区区分，并限制缓存数
+ * </pre>
+ * 
+ */
+public final class DateMultiParser {
+
+	/**
+	 * <pre> 缓存的解析器数上限. </pre>
+	 */
+	private static final int MAX_SIZE = 1024;
+
+	/**
+	 * <pre> Cache. </pre>
+	 */
+	private static final ConcurrentMap<String, DateMultiParser> PARSER_MAP = CacheBuilder.newBuilder()
+			.maximumSize(MAX_SIZE)
+			.<String, DateMultiParser>build()
+			.asMap();
+
+	private final String[] patterns;
+	private final DateFormatter[] formatters;
+	/**
+	 * <pre> 形态 => 形态一致的候选格式下标（按原有顺序）. </pre>
+	 */
+	private final Map<String, int[]> layoutIndex;
+	/**
+	 * <pre> 各长度是否存在固定布局候选，避免无谓的形态计算. </pre>
+	 */
+	private final boolean[] lengths;
+	/**
+	 * <pre> 各候选格式形态命中时能否直接返回（靠前的格式均不可能匹配）. </pre>
+	 */
+	private final boolean[] direct;
+	private volatile int hint = -1;
+
+	private DateMultiParser(@Nullable final Locale locale, @Nonnull final String[] patterns) {
+		this.patterns = patterns.clone();
+		this.formatters = new DateFormatter[patterns.length];
+		this.direct = new boolean[patterns.length];
+		Map<String, List<Integer>> index = new HashMap<>();
+		String[] skeletons = new String[patterns.length];
+		int maxLength = 0;
+		// 靠前的格式是否都是固定布局
+		boolean allFixed = true;
+		for (int i = 0; i < patterns.length; i++) {
+			Checks.emptyThrow(patterns[i]);
+			formatters[i] = DateFormatter.of(adjustPattern(patterns[i]), locale);
+			String layout = formatters[i].getLayout();
+			if (layout != null) {
+				List<Integer> list = index.get(layout);
+				if (list == null) {
+					list = new ArrayList<>();
+					index.put(layout, list);
+				}
+				list.add(i);
+				maxLength = Math.max(maxLength, layout.length());
+				skeletons[i] = skeletonOf(layout);
+				direct[i] = allFixed;
+				for (int j = 0; j < i && direct[i]; j++) {
+					direct[i] = !skeletons[j].equals(skeletons[i]);
+				}
+			} else {
+				allFixed = false;
+			}
+		}
+		this.layoutIndex = new HashMap<>();
+		this.lengths = new boolean[maxLength + 1];
+		for (Map.Entry<String, List<Integer>> entry : index.entrySet()) {
+			int[] arr = new int[entry.getValue().size()];
+			for (int i = 0; i < arr.length; i++) {
+				arr[i] = entry.getValue().get(i);
+			}
+			layoutIndex.put(entry.getKey(), arr);
+			lengths[entry.getKey().length()] = true;
+		}
+	}
+
+	/**
+	 * <pre> 获得多格式时间解析器（默认地域）.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param patterns 候选时间格式，按优先顺序
+	 * @return 解析器
+	 */
+	@Nonnull
+	public static DateMultiParser of(@Nonnull final String... patterns) {
+		return of(null, patterns);
+	}
+
+	/**
+	 * <pre> 获得多格式时间解析器.
+	 * 相同地域、相同候选格式、相同默认时区的解析器会被缓存复用。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * 2026/10/19  huangys  Modify  按默认时区区分缓存
+	 * </pre>
+	 * 
+	 * @param locale 地域，为空时取系统默认地域
+	 * @param patterns 候选时间格式，按优先顺序
+	 * @return 解析器
+	 */
+	@Nonnull
+	public static DateMultiParser of(@Nullable final Locale locale, @Nonnull final String... patterns) {
+		Checks.emptyThrow(patterns);
+		StringBuilder sb = new StringBuilder();
+		sb.append(EpochCalendar.getDefault().getId());
+		sb.append('\u0001').append(locale == null ? Locale.getDefault(Locale.Category.FORMAT) : locale);
+		for (String pattern : patterns) {
+			sb.append('\u0000').append(pattern);
+		}
+		String key = sb.toString();
+		DateMultiParser parser = PARSER_MAP.get(key);
+		if (parser == null) {
+			parser = new DateMultiParser(locale, patterns);
+			DateMultiParser exists = PARSER_MAP.putIfAbsent(key, parser);
+			if (exists != null) {
+				parser = exists;
+			}
+		}
+		return parser;
+	}
+
+	/**
+	 * <pre> 新建多格式时间解析器（不缓存），命中提示仅对本实例有效.
+	 * 按当前默认时区解析，之后默认时区变化时不随之变化。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param locale 地域，为空时取系统默认地域
+	 * @param patterns 候选时间格式，按优先顺序
+	 * @return 解析器
+	 */
+	@Nonnull
+	public static DateMultiParser create(@Nullable final Locale locale, @Nonnull final String... patterns) {
+		Checks.emptyThrow(patterns);
+		return new DateMultiParser(locale, patterns);
+	}
+
+	/**
+	 * <pre> 分隔符序列：连续的数字位置合并为一个，SimpleDateFormat放宽数字位数时仍能匹配的格式分隔符序列相同. </pre>
+	 */
+	@Nonnull
+	private static String skeletonOf(@Nonnull final String layout) {
+		StringBuilder sb = new StringBuilder(layout.length());
+		for (int i = 0; i < layout.length(); i++) {
+			char c = layout.charAt(i);
+			if (c != DateFormatter.DIGIT || i == 0 || layout.charAt(i - 1) != DateFormatter.DIGIT) {
+				sb.append(c);
+			}
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * <pre> LANG-530 - 'ZZ'不能交给SimpleDateFormat. </pre>
+	 */
+	@Nonnull
+	private static String adjustPattern(@Nonnull final String pattern) {
+		return pattern.endsWith("ZZ") ? pattern.substring(0, pattern.length() - 1) : pattern;
+	}
+
+	/**
+	 * <pre> 获得候选时间格式.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 候选时间格式
+	 */
+	@Nonnull
+	public String[] getPatterns() {
+		return patterns.clone();
+	}
+
+	/**
+	 * <pre> 解析时间字符串，失败时抛出异常.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 时间字符串
+	 * @return 时间
+	 */
+	@Nonnull
+	public Date parse(@Nonnull final String str) {
+		Checks.emptyThrow(str);
+		Date date = tryParse(str);
+		if (date == null) {
+			throw new RuntimeException("Unable to parse the date: " + str);
+		}
+		return date;
+	}
+
+	/**
+	 * <pre> 解析时间字符串，失败时返回null（不抛出异常）.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param str 时间字符串
+	 * @return 时间
+	 */
+	@Nullable
+	public Date tryParse(@Nullable final String str) {
+		if (str == null) {
+			return null;
+		}
+		int length = str.length();
+		// 命中提示（只记录可直接返回的格式）
+		int h = hint;
+		if (h >= 0 && formatters[h].getFixedLength() == length) {
+			long ms = formatters[h].parseFixed(str);
+			if (ms != Long.MIN_VALUE) {
+				return new Date(ms);
+			}
+		}
+		// 按形态定位
+		if (length < lengths.length && lengths[length]) {
+			char[] layout = new char[length];
+			for (int i = 0; i < length; i++) {
+				char c = str.charAt(i);
+				layout[i] = c >= '0' && c <= '9' ? DateFormatter.DIGIT : c;
+			}
+			int[] candidates = layoutIndex.get(new String(layout));
+			// 同一形态的候选格式中只有首个可能直接返回
+			if (candidates != null && direct[candidates[0]]) {
+				int i = candidates[0];
+				long ms = formatters[i].parseFixed(str);
+				if (ms != Long.MIN_VALUE) {
+					hint = i;
+					return new Date(ms);
+				}
+			}
+		}
+		// 按顺序逐个尝试
+		for (int i = 0; i < formatters.length; i++) {
+			String str2 = str;
+			if (patterns[i].endsWith("ZZ")) {
+				str2 = str.replaceAll("([-+][0-9][0-9]):([0-9][0-9])$", "$1$2");
+			}
+			Date date = formatters[i].tryParse(str2);
+			if (date != null) {
+				return date;
+			}
+		}
+		return null;
+	}
+
+}
@@ -12,13 +12,12 @@ import com.toobye.common.dbenums.Freq;
 import com.toobye.common.lang.Checks;
 import com.toobye.common.string.StringUtils;
 
-import java.util.Calendar;
 import java.util.Date;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.time.DateUtils;
+import org.quartz.CronExpression;
 
 /**
  * <pre> 周期起始时间计算.
@@ -26,6 +25,7 @@ import org.apache.commons.lang3.time.DateUtils;
  * Modification History:
  * Date        Author   Version   Action
  * 2013/08/09  huangys  v1.0      Create
+ * 2026/10/19  huangys  v1.1      改为毫秒数计算，增加批量生成周期
  * </pre>
  * 
  */
@@ -50,37 +50,252 @@ public final class DatePeriod {
 	@Nonnull
 	public static Date get(@Nonnull final Date date, @Nonnull final Freq freq, @Nullable final String freqDetail, @Nonnull final int addPeriods) {
 		Checks.nullThrow(date);
+		if (freq == Freq.CRON) {
+			return getCron(date, freqDetail, addPeriods);
+		}
+		return new Date(get(date.getTime(), freq, freqDetail, addPeriods));
+	}
+	
+	/**
+	 * <pre> 获得指定周期的期初时间.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param ms 毫秒数
+	 * @param freq 时间频率
+	 * @param freqDetail 时间频率扩展信息
+	 * @param addPeriods 偏移周期
+	 * @return 毫秒数
+	 */
+	@Nonnull
+	public static long get(@Nonnull final long ms, @Nonnull final Freq freq, @Nullable final String freqDetail, @Nonnull final int addPeriods) {
 		Checks.nullThrow(freq);
 		switch (freq) {
 		case CRON:
-			return getCron(date, freqDetail, addPeriods);
+			return getCron(new Date(ms), freqDetail, addPeriods).getTime();
 		case SECONDS:
-			return getSeconds(date, freqDetail, addPeriods);
+			Checks.nullThrow(freqDetail);
+			return getSeconds(ms, Integer.parseInt(freqDetail), addPeriods);
 		case DAY:
 			Checks.notNullThrow(freqDetail);
-			return getDay(date, addPeriods);
+			return Dates.addDays(Dates.truncDate(ms), addPeriods);
 		case WEEK:
-			return getWeek(date, freqDetail, addPeriods);
+			return Dates.addDays(Dates.truncDate(ms), getWeekShift(ms, freqDetail) + 7 * addPeriods);
 		case TENDAYS:
 			Checks.notNullThrow(freqDetail);
-			return getTendays(date, addPeriods);
+			return getTendays(Dates.truncMonth(ms), getTendaysIndex(ms) + addPeriods);
 		case MONTH:
 			Checks.notNullThrow(freqDetail);
-			return getMonth(date, addPeriods);
+			return Dates.addMonths(Dates.truncMonth(ms), addPeriods);
 		case QUARTER:
 			Checks.notNullThrow(freqDetail);
-			return getQuarter(date, addPeriods);
+			return getMonths(Dates.truncMonth(ms), 3, addPeriods);
 		case HALFYEAR:
 			Checks.notNullThrow(freqDetail);
-			return getHalfyear(date, addPeriods);
+			return getMonths(Dates.truncMonth(ms), 6, addPeriods);
 		case YEAR:
 			Checks.notNullThrow(freqDetail);
-			return getYear(date, addPeriods);
+			return Dates.addYears(Dates.truncYear(ms), addPeriods);
 		default:
 			throw new RuntimeException("Unknown Frequency.");
 		}
 	}
-
+	
+	/**
+	 * <pre> 批量获得连续周期的期初时间（及期末时间）.
+	 * 第i个周期为相对date偏移fromPeriod + i个周期，结果与逐个调用get一致；
+	 * 期末时间为下一周期的期初时间（不含）。
+	 * 固定频率按周期序号直接计算，CRON频率只解析一次表达式并逐个步进；
+	 * 有限的CRON表达式（如指定年份）在所需周期（含最后一个周期的期末时间）之前结束时抛出异常，输出数组不被修改。
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param ms 毫秒数
+	 * @param freq 时间频率
+	 * @param freqDetail 时间频率扩展信息
+	 * @param fromPeriod 首个周期的偏移周期
+	 * @param starts 期初时间（毫秒数）输出
+	 * @param ends 期末时间（毫秒数）输出，为空时不输出
+	 * @param offset 输出数组的起始下标
+	 * @param count 周期数
+	 */
+	public static void fillSeries(@Nonnull final long ms, @Nonnull final Freq freq, @Nullable final String freqDetail, @Nonnull final int fromPeriod,
+			@Nonnull final long[] starts, @Nullable final long[] ends, @Nonnull final int offset, @Nonnull final int count) {
+		Checks.nullThrow(freq);
+		Checks.nullThrow(starts);
+		Checks.negativeThrow(count);
+		Checks.matchThrow(offset < 0 || offset + count > starts.length, "Index out of range.");
+		Checks.matchThrow(ends != null && offset + count > ends.length, "Index out of range.");
+		if (count == 0) {
+			return;
+		}
+		long next;
+		switch (freq) {
+		case CRON: {
+			Checks.nullThrow(freqDetail);
+			CronExpression exp = DateCronParser.getCronExp(freqDetail);
+			// 有限的CRON表达式（如指定年份）可能提前结束，先全部算出再写入，避免输出只写入一部分
+			long[] times = new long[count + 1];
+			Date cur = DateCronParser.get(new Date(ms), exp, fromPeriod);
+			for (int i = 0; i <= count; i++) {
+				Checks.nullThrow(cur, "CRON expression(" + freqDetail + ") has no valid time for period " + (fromPeriod + i) + ".");
+				times[i] = cur.getTime();
+				if (i < count) {
+					cur = exp.getNextValidTimeAfter(cur);
+				}
+			}
+			System.arraycopy(times, 0, starts, offset, count);
+			next = times[count];
+			break;
+		}
+		case SECONDS: {
+			Checks.nullThrow(freqDetail);
+			int interval = Integer.parseInt(freqDetail);
+			long base = getSeconds(ms, interval, fromPeriod);
+			long step = interval * 1000L;
+			for (int i = 0; i < count; i++) {
+				starts[offset + i] = base + step * i;
+			}
+			next = base + step * count;
+			break;
+		}
+		case DAY:
+		case WEEK: {
+			long base = Dates.truncDate(ms);
+			int days;
+			int step;
+			if (freq == Freq.DAY) {
+				Checks.notNullThrow(freqDetail);
+				days = fromPeriod;
+				step = 1;
+			} else {
+				days = getWeekShift(ms, freqDetail) + 7 * fromPeriod;
+				step = 7;
+			}
+			for (int i = 0; i < count; i++) {
+				starts[offset + i] = Dates.addDays(base, days + step * i);
+			}
+			next = Dates.addDays(base, days + step * count);
+			break;
+		}
+		case TENDAYS: {
+			Checks.notNullThrow(freqDetail);
+			long base = Dates.truncMonth(ms);
+			int total = getTendaysIndex(ms) + fromPeriod;
+			for (int i = 0; i < count; i++) {
+				starts[offset + i] = getTendays(base, total + i);
+			}
+			next = getTendays(base, total + count);
+			break;
+		}
+		case MONTH:
+		case QUARTER:
+		case HALFYEAR:
+		case YEAR: {
+			Checks.notNullThrow(freqDetail);
+			int months = freq == Freq.MONTH ? 1 : (freq == Freq.QUARTER ? 3 : (freq == Freq.HALFYEAR ? 6 : 12));
+			long base = freq == Freq.YEAR ? Dates.truncYear(ms) : Dates.truncMonth(ms);
+			for (int i = 0; i < count; i++) {
+				starts[offset + i] = getMonths(base, months, fromPeriod + i);
+			}
+			next = getMonths(base, months, fromPeriod + count);
+			break;
+		}
+		default:
+			throw new RuntimeException("Unknown Frequency.");
+		}
+		if (ends != null) {
+			for (int i = 0; i < count - 1; i++) {
+				ends[offset + i] = starts[offset + i + 1];
+			}
+			ends[offset + count - 1] = next;
+		}
+	}
+	
+	/**
+	 * <pre> 批量获得连续周期的期初时间.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param date 时间
+	 * @param freq 时间频率
+	 * @param freqDetail 时间频率扩展信息
+	 * @param fromPeriod 首个周期的偏移周期
+	 * @param count 周期数
+	 * @return 期初时间（毫秒数）
+	 */
+	@Nonnull
+	public static long[] getSeries(@Nonnull final Date date, @Nonnull final Freq freq, @Nullable final String freqDetail, @Nonnull final int fromPeriod, @Nonnull final int count) {
+		Checks.nullThrow(date);
+		long[] starts = new long[count];
+		fillSeries(date.getTime(), freq, freqDetail, fromPeriod, starts, null, 0, count);
+		return starts;
+	}
+	
+	/**
+	 * <pre> 秒粒度期初时间. </pre>
+	 */
+	private static long getSeconds(final long ms, final int interval, final int addPeriods) {
+		long local = EpochCalendar.getDefault().toLocal(ms);
+		int seconds = (int) (EpochCalendar.floorMod(local, EpochCalendar.MS_PER_DAY) / 1000);
+		int num = seconds / interval;
+		return Dates.truncDate(ms) + interval * (num + addPeriods) * 1000L;
+	}
+	
+	/**
+	 * <pre> 周粒度相对当日的天数偏移. </pre>
+	 */
+	private static int getWeekShift(final long ms, @Nullable final String freqDetail) {
+		// 检查freqDetail是否合法
+		if (StringUtils.isEmpty(freqDetail) || freqDetail.matches("[1-6]{1}")) {
+			// 星期一到星期日为1～7。
+			int shift = StringUtils.isEmpty(freqDetail) ? 7 : Integer.parseInt(freqDetail);
+			int weekDay = Dates.getDayOfWeekNature(ms);
+			return (weekDay > shift ? 1 : -6) - weekDay + shift;
+		} else {
+			throw new RuntimeException("Illegal freqDetail, freqDetail must be in 1-6 or NULL.");
+		}
+	}
+	
+	/**
+	 * <pre> 当月旬序号（0～2）. </pre>
+	 */
+	private static int getTendaysIndex(final long ms) {
+		int dayOfMonth = Dates.getDate(ms);
+		if (dayOfMonth <= 10) {
+			return 0;
+		} else if (dayOfMonth <= 20) {
+			return 1;
+		} else {
+			return 2;
+		}
+	}
+	
+	/**
+	 * <pre> 旬粒度期初时间，total为相对月初的旬数. </pre>
+	 */
+	private static long getTendays(final long monthStart, final int total) {
+		int monthNum = (int) EpochCalendar.floorDiv(total, 3);
+		int tenDaysNum = (int) EpochCalendar.floorMod(total, 3);
+		return Dates.addDays(Dates.addMonths(monthStart, monthNum), tenDaysNum * 10);
+	}
+	
+	/**
+	 * <pre> 以months个月为周期的期初时间（对齐至年内的周期边界），base为月初或年初. </pre>
+	 */
+	private static long getMonths(final long base, final int months, final int addPeriods) {
+		return Dates.addMonths(base, months * addPeriods - Dates.getMonth(base) % months);
+	}
+	
 	/**
 	 * <pre> 获得当前周期的期初时间.
 	 * 
@@ -155,10 +370,7 @@ public final class DatePeriod {
 	public static Date getSeconds(@Nonnull final Date date, @Nonnull final String freqDetail, @Nonnull final int addPeriods) {
 		Checks.nullThrow(date);
 		Checks.nullThrow(freqDetail);
-		int interval = Integer.parseInt(freqDetail);
-		int seconds = (int) DateUtils.getFragmentInSeconds(date, Calendar.DATE);
-		int num = seconds / interval;
-		return Dates.addSeconds(Dates.truncDate(date), interval * (num + addPeriods));
+		return new Date(getSeconds(date.getTime(), Integer.parseInt(freqDetail), addPeriods));
 	}
 	
 	/**
@@ -199,15 +411,8 @@ public final class DatePeriod {
 	@Nonnull
 	public static Date getWeek(@Nonnull final Date date, @Nullable final String freqDetail, @Nonnull final int addPeriods) {
 		Checks.nullThrow(date);
-		// 检查freqDetail是否合法
-		if (StringUtils.isEmpty(freqDetail) || freqDetail.matches("[1-6]{1}")) {
-			// 星期一到星期日为1～7。
-			int shift = StringUtils.isEmpty(freqDetail) ? 7 : Integer.parseInt(freqDetail);
-			int weekDay = Dates.getDayOfWeekNature(date);
-			return Dates.addDays(Dates.truncDate(date), (weekDay > shift ? 1 : -6) - weekDay + shift  +  7 * addPeriods);
-		} else {
-			throw new RuntimeException("Illegal freqDetail, freqDetail must be in 1-6 or NULL.");
-		}
+		long ms = date.getTime();
+		return new Date(Dates.addDays(Dates.truncDate(ms), getWeekShift(ms, freqDetail) + 7 * addPeriods));
 	}
 
 	/**
@@ -225,29 +430,9 @@ public final class DatePeriod {
 	@Nonnull
 	public static Date getTendays(@Nonnull final Date date, @Nonnull final int addPeriods) {
 		Checks.nullThrow(date);
-		// 计算总旬数，包含的当月旬数（每月的旬数记为0～2）
-		int dayOfMonth = Dates.getDate(date);
-		int total = addPeriods;
-		if (dayOfMonth <= 10) {
-			total += 0;
-		} else if (dayOfMonth <= 20) {
-			total += 1;
-		} else {
-			total += 2;
-		}
-
-		// 计算可以折合多少个月份
-		int tenDaysNum = total % 3;
-		int monthNum = total / 3;
-		// 负数特殊处理
-		if (tenDaysNum < 0) {
-			monthNum--;
-			tenDaysNum = tenDaysNum + 3;
-		}
-		
-		// 得出旬初日期
-		Date ret = Dates.addMonths(Dates.truncMonth(date), monthNum);
-		return Dates.addDays(ret, tenDaysNum * 10);
+		// 计算总旬数，包含的当月旬数（每月的旬数记为0～2），再折合为月份及旬
+		long ms = date.getTime();
+		return new Date(getTendays(Dates.truncMonth(ms), getTendaysIndex(ms) + addPeriods));
 	}
 
 	/**
@@ -283,8 +468,7 @@ public final class DatePeriod {
 	@Nonnull
 	public static Date getQuarter(@Nonnull final Date date, @Nonnull final int addPeriods) {
 		Checks.nullThrow(date);
-		Date ret = Dates.addMonths(Dates.truncMonth(date), addPeriods * 3);
-		return Dates.setMonths(ret, (Dates.getMonth(ret) / 3) * 3);
+		return new Date(getMonths(Dates.truncMonth(date.getTime()), 3, addPeriods));
 	}
 
 	/**
@@ -302,8 +486,7 @@ public final class DatePeriod {
 	@Nonnull
 	public static Date getHalfyear(@Nonnull final Date date, @Nonnull final int addPeriods) {
 		Checks.nullThrow(date);
-		Date ret = Dates.addMonths(Dates.truncMonth(date), addPeriods * 6);
-		return Dates.setMonths(ret, (Dates.getMonth(ret) / 6) * 6);
+		return new Date(getMonths(Dates.truncMonth(date.getTime()), 6, addPeriods));
 	}
 
 	/**
@@ -17,9 +17,13 @@ import com.toobye.common.lang.Checks;
 /**
  * <pre> 时间修改工具类.
  * 
+ * 年月日等字段的获取、截断、偏移基于毫秒数直接计算（见EpochCalendar），不再创建Calendar，
+ * 并提供对应的long（毫秒数）重载。
+ * 
  * Modification History:
  * Date        Author   Version   Action
  * 2013/08/09  huangys  v1.0      Create
+ * 2026/10/19  huangys  v1.1      字段获取、截断、偏移改为毫秒数计算
  * </pre>
  * 
  */
@@ -38,6 +42,96 @@ public final class Dates {
 	 */
 	public static final class INSTANCE extends org.apache.commons.lang3.time.DateUtils { };
 	
+	/**
+	 * <pre> 默认时区的日期计算核心. </pre>
+	 */
+	@Nonnull
+	private static EpochCalendar getCalendar() {
+		return EpochCalendar.getDefault();
+	}
+	
+	/**
+	 * <pre> 本地时间自1970-01-01起的天数. </pre>
+	 */
+	private static long daysOf(final long ms) {
+		return EpochCalendar.floorDiv(getCalendar().toLocal(ms), EpochCalendar.MS_PER_DAY);
+	}
+	
+	/**
+	 * <pre> 本地时间的年月日，见EpochCalendar.civilFromDays. </pre>
+	 */
+	private static int civilOf(final long ms) {
+		return EpochCalendar.civilFromDays(daysOf(ms));
+	}
+	
+	/**
+	 * <pre> 本地时间的日内毫秒数. </pre>
+	 */
+	private static long msOfDay(final long ms) {
+		return EpochCalendar.floorMod(getCalendar().toLocal(ms), EpochCalendar.MS_PER_DAY);
+	}
+	
+	/**
+	 * <pre> 按本地时间截断到unit的整数倍.
+	 * 截断跨过偏移切换（如半小时的夏令时、带秒的地方时）时，按新偏移继续截断，
+	 * 使结果的本地时间仍是整数倍（同DateUtils.truncate）。
+	 * </pre>
+	 */
+	private static long truncLocal(final long ms, final long unit) {
+		EpochCalendar calendar = getCalendar();
+		long ret = ms;
+		long rem = EpochCalendar.floorMod(calendar.toLocal(ret), unit);
+		while (rem != 0) {
+			ret -= rem;
+			rem = EpochCalendar.floorMod(calendar.toLocal(ret), unit);
+		}
+		return ret;
+	}
+	
+	/**
+	 * <pre> 按本地时间偏移天数，保持日内时间不变（同Calendar.add(DAY_OF_MONTH)）. </pre>
+	 */
+	private static long addLocalDays(final long ms, final long days) {
+		if (days == 0) {
+			return ms;
+		}
+		EpochCalendar calendar = getCalendar();
+		int offset = calendar.getOffset(ms);
+		long local = ms + offset + days * EpochCalendar.MS_PER_DAY;
+		return adjustOffset(calendar, local, offset);
+	}
+	
+	/**
+	 * <pre> 按本地时间偏移月数，日超出目标月天数时取月末（同Calendar.add(MONTH)）. </pre>
+	 */
+	private static long addLocalMonths(final long ms, final int months) {
+		if (months == 0) {
+			return ms;
+		}
+		EpochCalendar calendar = getCalendar();
+		int offset = calendar.getOffset(ms);
+		long local = ms + offset;
+		long days = EpochCalendar.floorDiv(local, EpochCalendar.MS_PER_DAY);
+		long timeOfDay = local - days * EpochCalendar.MS_PER_DAY;
+		return calendar.toUtc(EpochCalendar.addMonthsToDays(days, months) * EpochCalendar.MS_PER_DAY + timeOfDay);
+	}
+	
+	/**
+	 * <pre> 以原偏移换算本地时间，偏移变化且不跨日时按新偏移修正（同GregorianCalendar.add）. </pre>
+	 */
+	private static long adjustOffset(@Nonnull final EpochCalendar calendar, final long local, final int offset) {
+		long ms = local - offset;
+		int actual = calendar.getOffset(ms);
+		if (actual != offset) {
+			long adjusted = ms + offset - actual;
+			long day = EpochCalendar.floorDiv(local, EpochCalendar.MS_PER_DAY);
+			if (EpochCalendar.floorDiv(calendar.toLocal(adjusted), EpochCalendar.MS_PER_DAY) == day) {
+				return adjusted;
+			}
+		}
+		return ms;
+	}
+	
 	/**
 	 * <pre> 获得年.
 	 * 
@@ -51,7 +145,27 @@ public final class Dates {
 	 */
 	@Nonnull
 	public static int getYear(@Nonnull final Date date) {
-		return get(date, Calendar.YEAR);
+		Checks.nullThrow(date);
+		return getYear(date.getTime());
+	}
+	
+	/**
+	 * <pre> 获得年.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param ms 毫秒数
+	 * @return 年份
+	 */
+	@Nonnull
+	public static int getYear(@Nonnull final long ms) {
+		if (ms < EpochCalendar.GREGORIAN_CUTOVER) {
+			return get(new Date(ms), Calendar.YEAR);
+		}
+		return EpochCalendar.yearOf(civilOf(ms));
 	}
 	
 	/**
@@ -67,7 +181,27 @@ public final class Dates {
 	 */
 	@Nonnull
 	public static int getMonth(@Nonnull final Date date) {
-		return get(date, Calendar.MONTH);
+		Checks.nullThrow(date);
+		return getMonth(date.getTime());
+	}
+	
+	/**
+	 * <pre> 获得月，首月为0.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param ms 毫秒数
+	 * @return 月份
+	 */
+	@Nonnull
+	public static int getMonth(@Nonnull final long ms) {
+		if (ms < EpochCalendar.GREGORIAN_CUTOVER) {
+			return get(new Date(ms), Calendar.MONTH);
+		}
+		return EpochCalendar.monthOf(civilOf(ms)) - 1;
 	}
 	
 	/**
@@ -86,6 +220,22 @@ public final class Dates {
 		return getMonth(date) + 1;
 	}
 	
+	/**
+	 * <pre> 获得月，首月为1.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param ms 毫秒数
+	 * @return 月份
+	 */
+	@Nonnull
+	public static int getMonthNature(@Nonnull final long ms) {
+		return getMonth(ms) + 1;
+	}
+	
 	/**
 	 * <pre> 获得年内第几星期.
 	 * 
@@ -131,7 +281,29 @@ public final class Dates {
 	 */
 	@Nonnull
 	public static int getDayOfYear(@Nonnull final Date date) {
-		return get(date, Calendar.DAY_OF_YEAR);
+		Checks.nullThrow(date);
+		return getDayOfYear(date.getTime());
+	}
+	
+	/**
+	 * <pre> 获得年内第几天.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param ms 毫秒数
+	 * @return 年内第几天
+	 */
+	@Nonnull
+	public static int getDayOfYear(@Nonnull final long ms) {
+		if (ms < EpochCalendar.GREGORIAN_CUTOVER) {
+			return get(new Date(ms), Calendar.DAY_OF_YEAR);
+		}
+		long days = daysOf(ms);
+		int year = EpochCalendar.yearOf(EpochCalendar.civilFromDays(days));
+		return (int) (days - EpochCalendar.daysFromCivil(year, 1, 1)) + 1;
 	}
 	
 	/**
@@ -148,7 +320,28 @@ public final class Dates {
 	 */
 	@Nonnull
 	public static int getDayOfWeek(@Nonnull final Date date) {
-		return get(date, Calendar.DAY_OF_WEEK);
+		Checks.nullThrow(date);
+		return getDayOfWeek(date.getTime());
+	}
+	
+	/**
+	 * <pre> 获得星期几.
+	 * 日一二三四五六：1234567
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param ms 毫秒数
+	 * @return 星期几
+	 */
+	@Nonnull
+	public static int getDayOfWeek(@Nonnull final long ms) {
+		if (ms < EpochCalendar.GREGORIAN_CUTOVER) {
+			return get(new Date(ms), Calendar.DAY_OF_WEEK);
+		}
+		return EpochCalendar.dayOfWeek(daysOf(ms));
 	}
 	
 	/**
@@ -169,6 +362,24 @@ public final class Dates {
 		return ret - 1 == 0 ? 7 : ret - 1;
 	}
 	
+	/**
+	 * <pre> 获得星期几(自然).
+	 * 一二三四五六日：1234567
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param ms 毫秒数
+	 * @return 星期几
+	 */
+	@Nonnull
+	public static int getDayOfWeekNature(@Nonnull final long ms) {
+		int ret = getDayOfWeek(ms);
+		return ret - 1 == 0 ? 7 : ret - 1;
+	}
+	
 	/**
 	 * <pre> 获得日期（月内第几日）.
 	 * 
@@ -182,7 +393,27 @@ public final class Dates {
 	 */
 	@Nonnull
 	public static int getDate(@Nonnull final Date date) {
-		return get(date, Calendar.DATE);
+		Checks.nullThrow(date);
+		return getDate(date.getTime());
+	}
+	
+	/**
+	 * <pre> 获得日期（月内第几日）.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param ms 毫秒数
+	 * @return 日期
+	 */
+	@Nonnull
+	public static int getDate(@Nonnull final long ms) {
+		if (ms < EpochCalendar.GREGORIAN_CUTOVER) {
+			return get(new Date(ms), Calendar.DATE);
+		}
+		return EpochCalendar.dayOf(civilOf(ms));
 	}
 	
 	/**
@@ -198,7 +429,27 @@ public final class Dates {
 	 */
 	@Nonnull
 	public static int getHour(@Nonnull final Date date) {
-		return get(date, Calendar.HOUR);
+		Checks.nullThrow(date);
+		return getHour(date.getTime());
+	}
+	
+	/**
+	 * <pre> 获得小时（同Calendar.HOUR，12小时制）.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param ms 毫秒数
+	 * @return 小时
+	 */
+	@Nonnull
+	public static int getHour(@Nonnull final long ms) {
+		if (ms < EpochCalendar.GREGORIAN_CUTOVER) {
+			return get(new Date(ms), Calendar.HOUR);
+		}
+		return (int) (msOfDay(ms) / EpochCalendar.MS_PER_HOUR % 12);
 	}
 	
 	/**
@@ -214,7 +465,27 @@ public final class Dates {
 	 */
 	@Nonnull
 	public static int getMinute(@Nonnull final Date date) {
-		return get(date, Calendar.MINUTE);
+		Checks.nullThrow(date);
+		return getMinute(date.getTime());
+	}
+	
+	/**
+	 * <pre> 获得分钟.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param ms 毫秒数
+	 * @return 分钟
+	 */
+	@Nonnull
+	public static int getMinute(@Nonnull final long ms) {
+		if (ms < EpochCalendar.GREGORIAN_CUTOVER) {
+			return get(new Date(ms), Calendar.MINUTE);
+		}
+		return (int) (msOfDay(ms) / EpochCalendar.MS_PER_MINUTE % 60);
 	}
 	
 	/**
@@ -230,7 +501,27 @@ public final class Dates {
 	 */
 	@Nonnull
 	public static int getSecond(@Nonnull final Date date) {
-		return get(date, Calendar.SECOND);
+		Checks.nullThrow(date);
+		return getSecond(date.getTime());
+	}
+	
+	/**
+	 * <pre> 获得秒.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param ms 毫秒数
+	 * @return 秒
+	 */
+	@Nonnull
+	public static int getSecond(@Nonnull final long ms) {
+		if (ms < EpochCalendar.GREGORIAN_CUTOVER) {
+			return get(new Date(ms), Calendar.SECOND);
+		}
+		return (int) (msOfDay(ms) / EpochCalendar.MS_PER_SECOND % 60);
 	}
 	
 	/**
@@ -246,7 +537,27 @@ public final class Dates {
 	 */
 	@Nonnull
 	public static int getMillisecond(@Nonnull final Date date) {
-		return get(date, Calendar.MILLISECOND);
+		Checks.nullThrow(date);
+		return getMillisecond(date.getTime());
+	}
+	
+	/**
+	 * <pre> 获得毫秒.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param ms 毫秒数
+	 * @return 毫秒
+	 */
+	@Nonnull
+	public static int getMillisecond(@Nonnull final long ms) {
+		if (ms < EpochCalendar.GREGORIAN_CUTOVER) {
+			return get(new Date(ms), Calendar.MILLISECOND);
+		}
+		return (int) (msOfDay(ms) % EpochCalendar.MS_PER_SECOND);
 	}
 	
 	/**
@@ -280,7 +591,28 @@ public final class Dates {
 	 */
 	@Nonnull
 	public static Date truncYear(@Nonnull final Date date) {
-		return trunc(date, Calendar.YEAR);
+		Checks.nullThrow(date);
+		return new Date(truncYear(date.getTime()));
+	}
+	
+	/**
+	 * <pre> 截断年（不含）以下信息.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param ms 毫秒数
+	 * @return 截取后毫秒数
+	 */
+	@Nonnull
+	public static long truncYear(@Nonnull final long ms) {
+		if (ms < EpochCalendar.GREGORIAN_CUTOVER) {
+			return trunc(new Date(ms), Calendar.YEAR).getTime();
+		}
+		int civil = civilOf(ms);
+		return getCalendar().toUtc(EpochCalendar.daysFromCivil(EpochCalendar.yearOf(civil), 1, 1) * EpochCalendar.MS_PER_DAY);
 	}
 	
 	/**
@@ -296,7 +628,28 @@ public final class Dates {
 	 */
 	@Nonnull
 	public static Date truncMonth(@Nonnull final Date date) {
-		return trunc(date, Calendar.MONTH);
+		Checks.nullThrow(date);
+		return new Date(truncMonth(date.getTime()));
+	}
+	
+	/**
+	 * <pre> 截断月（不含）以下信息.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param ms 毫秒数
+	 * @return 截取后毫秒数
+	 */
+	@Nonnull
+	public static long truncMonth(@Nonnull final long ms) {
+		if (ms < EpochCalendar.GREGORIAN_CUTOVER) {
+			return trunc(new Date(ms), Calendar.MONTH).getTime();
+		}
+		int civil = civilOf(ms);
+		return getCalendar().toUtc(EpochCalendar.daysFromCivil(EpochCalendar.yearOf(civil), EpochCalendar.monthOf(civil), 1) * EpochCalendar.MS_PER_DAY);
 	}
 	
 	/**
@@ -312,7 +665,27 @@ public final class Dates {
 	 */
 	@Nonnull
 	public static Date truncDate(@Nonnull final Date date) {
-		return trunc(date, Calendar.DATE);
+		Checks.nullThrow(date);
+		return new Date(truncDate(date.getTime()));
+	}
+	
+	/**
+	 * <pre> 截断日（不含）以下信息.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param ms 毫秒数
+	 * @return 截取后毫秒数
+	 */
+	@Nonnull
+	public static long truncDate(@Nonnull final long ms) {
+		if (ms < EpochCalendar.GREGORIAN_CUTOVER) {
+			return trunc(new Date(ms), Calendar.DATE).getTime();
+		}
+		return getCalendar().toUtc(daysOf(ms) * EpochCalendar.MS_PER_DAY);
 	}
 	
 	/**
@@ -328,7 +701,27 @@ public final class Dates {
 	 */
 	@Nonnull
 	public static Date truncHour(@Nonnull final Date date) {
-		return trunc(date, Calendar.HOUR);
+		Checks.nullThrow(date);
+		return new Date(truncHour(date.getTime()));
+	}
+	
+	/**
+	 * <pre> 截断小时（不含）以下信息.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param ms 毫秒数
+	 * @return 截取后毫秒数
+	 */
+	@Nonnull
+	public static long truncHour(@Nonnull final long ms) {
+		if (ms < EpochCalendar.GREGORIAN_CUTOVER) {
+			return trunc(new Date(ms), Calendar.HOUR).getTime();
+		}
+		return truncLocal(ms, EpochCalendar.MS_PER_HOUR);
 	}
 	
 	/**
@@ -344,7 +737,27 @@ public final class Dates {
 	 */
 	@Nonnull
 	public static Date truncMinute(@Nonnull final Date date) {
-		return trunc(date, Calendar.MINUTE);
+		Checks.nullThrow(date);
+		return new Date(truncMinute(date.getTime()));
+	}
+	
+	/**
+	 * <pre> 截断分（不含）以下信息.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param ms 毫秒数
+	 * @return 截取后毫秒数
+	 */
+	@Nonnull
+	public static long truncMinute(@Nonnull final long ms) {
+		if (ms < EpochCalendar.GREGORIAN_CUTOVER) {
+			return trunc(new Date(ms), Calendar.MINUTE).getTime();
+		}
+		return truncLocal(ms, EpochCalendar.MS_PER_MINUTE);
 	}
 	
 	/**
@@ -360,7 +773,27 @@ public final class Dates {
 	 */
 	@Nonnull
 	public static Date truncSecond(@Nonnull final Date date) {
-		return trunc(date, Calendar.SECOND);
+		Checks.nullThrow(date);
+		return new Date(truncSecond(date.getTime()));
+	}
+	
+	/**
+	 * <pre> 截断秒（不含）以下信息.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param ms 毫秒数
+	 * @return 截取后毫秒数
+	 */
+	@Nonnull
+	public static long truncSecond(@Nonnull final long ms) {
+		if (ms < EpochCalendar.GREGORIAN_CUTOVER) {
+			return trunc(new Date(ms), Calendar.SECOND).getTime();
+		}
+		return truncLocal(ms, EpochCalendar.MS_PER_SECOND);
 	}
 	
 	/**
@@ -395,7 +828,25 @@ public final class Dates {
 	 */
 	@Nonnull
 	public static Date addMilliseconds(@Nonnull final Date date, @Nonnull final int amount) {
-		return add(date, Calendar.MILLISECOND, amount);
+		Checks.nullThrow(date);
+		return new Date(addMilliseconds(date.getTime(), amount));
+	}
+	
+	/**
+	 * <pre> 毫秒偏移.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param ms 毫秒数
+	 * @param amount 偏移量
+	 * @return 偏移后毫秒数
+	 */
+	@Nonnull
+	public static long addMilliseconds(@Nonnull final long ms, @Nonnull final int amount) {
+		return ms + amount;
 	}
 	
 	/**
@@ -412,7 +863,25 @@ public final class Dates {
 	 */
 	@Nonnull
 	public static Date addSeconds(@Nonnull final Date date, @Nonnull final int amount) {
-		return add(date, Calendar.SECOND, amount);
+		Checks.nullThrow(date);
+		return new Date(addSeconds(date.getTime(), amount));
+	}
+	
+	/**
+	 * <pre> 秒偏移.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param ms 毫秒数
+	 * @param amount 偏移量
+	 * @return 偏移后毫秒数
+	 */
+	@Nonnull
+	public static long addSeconds(@Nonnull final long ms, @Nonnull final int amount) {
+		return ms + amount * EpochCalendar.MS_PER_SECOND;
 	}
 	
 	/**
@@ -429,7 +898,25 @@ public final class Dates {
 	 */
 	@Nonnull
 	public static Date addMinutes(@Nonnull final Date date, @Nonnull final int amount) {
-		return add(date, Calendar.MINUTE, amount);
+		Checks.nullThrow(date);
+		return new Date(addMinutes(date.getTime(), amount));
+	}
+	
+	/**
+	 * <pre> 分偏移.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param ms 毫秒数
+	 * @param amount 偏移量
+	 * @return 偏移后毫秒数
+	 */
+	@Nonnull
+	public static long addMinutes(@Nonnull final long ms, @Nonnull final int amount) {
+		return ms + amount * EpochCalendar.MS_PER_MINUTE;
 	}
 	
 	/**
@@ -446,7 +933,25 @@ public final class Dates {
 	 */
 	@Nonnull
 	public static Date addHours(@Nonnull final Date date, @Nonnull final int amount) {
-		return add(date, Calendar.HOUR_OF_DAY, amount);
+		Checks.nullThrow(date);
+		return new Date(addHours(date.getTime(), amount));
+	}
+	
+	/**
+	 * <pre> 小时偏移.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param ms 毫秒数
+	 * @param amount 偏移量
+	 * @return 偏移后毫秒数
+	 */
+	@Nonnull
+	public static long addHours(@Nonnull final long ms, @Nonnull final int amount) {
+		return ms + amount * EpochCalendar.MS_PER_HOUR;
 	}
 	
 	/**
@@ -463,7 +968,28 @@ public final class Dates {
 	 */
 	@Nonnull
 	public static Date addDays(@Nonnull final Date date, @Nonnull final int amount) {
-		return add(date, Calendar.DAY_OF_MONTH, amount);
+		Checks.nullThrow(date);
+		return new Date(addDays(date.getTime(), amount));
+	}
+	
+	/**
+	 * <pre> 天偏移.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param ms 毫秒数
+	 * @param amount 偏移量
+	 * @return 偏移后毫秒数
+	 */
+	@Nonnull
+	public static long addDays(@Nonnull final long ms, @Nonnull final int amount) {
+		if (ms < EpochCalendar.GREGORIAN_CUTOVER) {
+			return add(new Date(ms), Calendar.DAY_OF_MONTH, amount).getTime();
+		}
+		return addLocalDays(ms, amount);
 	}
 	
 	/**
@@ -480,7 +1006,28 @@ public final class Dates {
 	 */
 	@Nonnull
 	public static Date addWeeks(@Nonnull final Date date, @Nonnull final int amount) {
-		return add(date, Calendar.WEEK_OF_YEAR, amount);
+		Checks.nullThrow(date);
+		return new Date(addWeeks(date.getTime(), amount));
+	}
+	
+	/**
+	 * <pre> 周偏移.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param ms 毫秒数
+	 * @param amount 偏移量
+	 * @return 偏移后毫秒数
+	 */
+	@Nonnull
+	public static long addWeeks(@Nonnull final long ms, @Nonnull final int amount) {
+		if (ms < EpochCalendar.GREGORIAN_CUTOVER) {
+			return add(new Date(ms), Calendar.WEEK_OF_YEAR, amount).getTime();
+		}
+		return addLocalDays(ms, amount * 7L);
 	}
 	
 	/**
@@ -497,7 +1044,28 @@ public final class Dates {
 	 */
 	@Nonnull
 	public static Date addMonths(@Nonnull final Date date, @Nonnull final int amount) {
-		return add(date, Calendar.MONTH, amount);
+		Checks.nullThrow(date);
+		return new Date(addMonths(date.getTime(), amount));
+	}
+	
+	/**
+	 * <pre> 月偏移.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param ms 毫秒数
+	 * @param amount 偏移量
+	 * @return 偏移后毫秒数
+	 */
+	@Nonnull
+	public static long addMonths(@Nonnull final long ms, @Nonnull final int amount) {
+		if (ms < EpochCalendar.GREGORIAN_CUTOVER) {
+			return add(new Date(ms), Calendar.MONTH, amount).getTime();
+		}
+		return addLocalMonths(ms, amount);
 	}
 	
 	/**
@@ -514,7 +1082,28 @@ public final class Dates {
 	 */
 	@Nonnull
 	public static Date addYears(@Nonnull final Date date, @Nonnull final int amount) {
-		return add(date, Calendar.YEAR, amount);
+		Checks.nullThrow(date);
+		return new Date(addYears(date.getTime(), amount));
+	}
+	
+	/**
+	 * <pre> 年偏移.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param ms 毫秒数
+	 * @param amount 偏移量
+	 * @return 偏移后毫秒数
+	 */
+	@Nonnull
+	public static long addYears(@Nonnull final long ms, @Nonnull final int amount) {
+		if (ms < EpochCalendar.GREGORIAN_CUTOVER) {
+			return add(new Date(ms), Calendar.YEAR, amount).getTime();
+		}
+		return addLocalMonths(ms, amount * 12);
 	}
 	
     /**
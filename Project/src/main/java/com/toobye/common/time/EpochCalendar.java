@@ -0,0 +1,244 @@
+/*
+ * Copyright 2026 (C) , All Rights Reserved.
+ * Company: China.
+ * 
+ * Create At 2026/10/19.
+ * 
+ */
+package com.toobye.common.time;
+
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.Nonnull;
+
+/**
+ * <pre> 基于毫秒数的日期计算核心.
+ * 
+ * 年月日与1970-01-01起天数的互转使用纯整数运算（civil-from-days算法），不创建Calendar。
+ * 时区偏移直接取自TimeZone.getOffset(long)，不做额外缓存（历史上的标准偏移变化、一日内多次切换均按时区数据处理）。
+ * 仅处理格里高利历启用（1582-10-15）之后的时间，之前的时间由调用方退化为Calendar处理。
+ * 
+ * Modification History:
+ * Date        Author   Version   Action
+ * 2026/10/19  huangys  v1.0      Create
+ * 2026/10/19  huangys  v1.1      本地时间按切换前后两个偏移换算，去除偏移缓存
+ * </pre>
+ * 
+ */
+final class EpochCalendar {
+
+	/**
+	 * <pre> Cache. </pre>
+	 */
+	private static final ConcurrentMap<String, EpochCalendar> CALENDAR_MAP = new ConcurrentHashMap<String, EpochCalendar>();
+
+	/**
+	 * <pre> 格里高利历启用时间，之前的时间需由Calendar处理（儒略历）. </pre>
+	 */
+	static final long GREGORIAN_CUTOVER = -12219292800000L;
+	static final long MS_PER_DAY = 86400000L;
+	static final long MS_PER_HOUR = 3600000L;
+	static final long MS_PER_MINUTE = 60000L;
+	static final long MS_PER_SECOND = 1000L;
+
+	/**
+	 * <pre> 上次使用的默认时区，避免每次查找缓存. </pre>
+	 */
+	private static volatile EpochCalendar lastDefault;
+
+	private final String id;
+	private final TimeZone zone;
+
+	private EpochCalendar(@Nonnull final TimeZone zone) {
+		this.id = zone.getID();
+		this.zone = zone;
+	}
+
+	/**
+	 * <pre> 获得指定时区的日期计算核心. </pre>
+	 */
+	@Nonnull
+	static EpochCalendar of(@Nonnull final TimeZone zone) {
+		String id = zone.getID();
+		EpochCalendar calendar = CALENDAR_MAP.get(id);
+		if (calendar == null) {
+			calendar = new EpochCalendar((TimeZone) zone.clone());
+			EpochCalendar exists = CALENDAR_MAP.putIfAbsent(id, calendar);
+			if (exists != null) {
+				calendar = exists;
+			}
+		}
+		return calendar;
+	}
+
+	/**
+	 * <pre> 获得默认时区的日期计算核心（与Calendar.getInstance()一致，随默认时区变化）. </pre>
+	 */
+	@Nonnull
+	static EpochCalendar getDefault() {
+		TimeZone zone = TimeZone.getDefault();
+		EpochCalendar calendar = lastDefault;
+		if (calendar == null || !calendar.id.equals(zone.getID())) {
+			calendar = of(zone);
+			lastDefault = calendar;
+		}
+		return calendar;
+	}
+
+	/**
+	 * <pre> 时区ID. </pre>
+	 */
+	@Nonnull
+	String getId() {
+		return id;
+	}
+
+	/**
+	 * <pre> 时区（副本，供SimpleDateFormat等使用）. </pre>
+	 */
+	@Nonnull
+	TimeZone getZone() {
+		return (TimeZone) zone.clone();
+	}
+
+	/**
+	 * <pre> UTC毫秒数对应的时区偏移. </pre>
+	 */
+	int getOffset(final long ms) {
+		return zone.getOffset(ms);
+	}
+
+	/**
+	 * <pre> UTC毫秒数转本地毫秒数（本地时间按UTC计的毫秒数）. </pre>
+	 */
+	long toLocal(final long ms) {
+		return ms + getOffset(ms);
+	}
+
+	/**
+	 * <pre> 本地毫秒数转UTC毫秒数.
+	 * 本地时间对应的时刻在前后一日内，取该范围两端的偏移（切换前、切换后）分别换算，
+	 * 换算回本地时间相等的即为结果；与宽松的Calendar一致：重叠的时间取切换后的偏移（标准时间），
+	 * 跳过的时间（两者都不相等）按切换前的偏移换算，即顺延。
+	 * </pre>
+	 */
+	long toUtc(final long local) {
+		int after = getOffset(local + MS_PER_DAY);
+		long ms = local - after;
+		if (getOffset(ms) == after) {
+			return ms;
+		}
+		int before = getOffset(local - MS_PER_DAY);
+		ms = local - before;
+		if (getOffset(ms) == before) {
+			return ms;
+		}
+		// 前后一日内有多次切换时，以换算结果处的偏移再换算一次
+		int actual = getOffset(ms);
+		if (getOffset(local - actual) == actual) {
+			return local - actual;
+		}
+		return ms;
+	}
+
+	/**
+	 * <pre> 本地时间是否存在（不处于夏令时跳过的区间）. </pre>
+	 */
+	boolean isValidLocal(final long local) {
+		long ms = toUtc(local);
+		return ms + getOffset(ms) == local;
+	}
+
+	static long floorDiv(final long x, final long y) {
+		long q = x / y;
+		if ((x % y != 0) && ((x ^ y) < 0)) {
+			q--;
+		}
+		return q;
+	}
+
+	static long floorMod(final long x, final long y) {
+		return x - floorDiv(x, y) * y;
+	}
+
+	static boolean isLeapYear(final int year) {
+		return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+	}
+
+	static int lengthOfMonth(final int year, final int month) {
+		switch (month) {
+		case 2:
+			return isLeapYear(year) ? 29 : 28;
+		case 4:
+		case 6:
+		case 9:
+		case 11:
+			return 30;
+		default:
+			return 31;
+		}
+	}
+
+	/**
+	 * <pre> 公历日期（月份1～12）转1970-01-01起的天数. </pre>
+	 */
+	static long daysFromCivil(final int year, final int month, final int day) {
+		int y = month <= 2 ? year - 1 : year;
+		int era = (y >= 0 ? y : y - 399) / 400;
+		int yoe = y - era * 400;
+		int doy = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+		int doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+		return era * 146097L + doe - 719468;
+	}
+
+	/**
+	 * <pre> 1970-01-01起的天数转公历日期，返回值为(year &lt;&lt; 9) | (month &lt;&lt; 5) | day，月份1～12. </pre>
+	 */
+	static int civilFromDays(final long days) {
+		long z = days + 719468;
+		long era = (z >= 0 ? z : z - 146096) / 146097;
+		int doe = (int) (z - era * 146097);
+		int yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+		int doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+		int mp = (5 * doy + 2) / 153;
+		int day = doy - (153 * mp + 2) / 5 + 1;
+		int month = mp < 10 ? mp + 3 : mp - 9;
+		int year = (int) (yoe + era * 400) + (month <= 2 ? 1 : 0);
+		return (year << 9) | (month << 5) | day;
+	}
+
+	static int yearOf(final int civil) {
+		return civil >> 9;
+	}
+
+	static int monthOf(final int civil) {
+		return (civil >> 5) & 0xF;
+	}
+
+	static int dayOf(final int civil) {
+		return civil & 0x1F;
+	}
+
+	/**
+	 * <pre> 1970-01-01起的天数对应星期几，日一二三四五六：1234567（同Calendar.DAY_OF_WEEK）. </pre>
+	 */
+	static int dayOfWeek(final long days) {
+		// 1970-01-01为星期四
+		return (int) floorMod(days + 4, 7) + 1;
+	}
+
+	/**
+	 * <pre> 本地天数按月偏移，日超出目标月天数时取月末（同Calendar.add(MONTH)）. </pre>
+	 */
+	static long addMonthsToDays(final long days, final int months) {
+		int civil = civilFromDays(days);
+		long total = yearOf(civil) * 12L + monthOf(civil) - 1 + months;
+		int year = (int) floorDiv(total, 12);
+		int month = (int) floorMod(total, 12) + 1;
+		int day = Math.min(dayOf(civil), lengthOfMonth(year, month));
+		return daysFromCivil(year, month, day);
+	}
+
+}
@@ -19,6 +19,7 @@ import com.toobye.common.lang.Checks;
  * Modification History:
  * Date        Author   Version   Action
  * 2015/12/15  huangys  v1.0      Create
+ * 2026/10/19  huangys  v1.1      isAllow改为预编译的时间段集合（TimeWindows）
  * </pre>
  * 
  */
@@ -67,6 +68,7 @@ public final class Time implements Comparable<Time> {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2015/12/15  huangys  Create
+	 * 2026/10/19  huangys  Modify 直接由毫秒数计算
 	 * </pre>
 	 * 
 	 * @param date 时间
@@ -75,7 +77,9 @@ public final class Time implements Comparable<Time> {
 	@Nonnull
 	public static Time of(@Nonnull final Date date) {
 		Checks.nullThrow(date);
-		return new Time(Integer.parseInt(DateFormat.get(date, "HHmmss")));
+		long local = EpochCalendar.getDefault().toLocal(date.getTime());
+		int seconds = (int) (EpochCalendar.floorMod(local, EpochCalendar.MS_PER_DAY) / EpochCalendar.MS_PER_SECOND);
+		return new Time(seconds / 3600 * 10000 + seconds / 60 % 60 * 100 + seconds % 60);
 	}
 	
 	/**
@@ -229,21 +233,31 @@ public final class Time implements Comparable<Time> {
 	 * Modification History:
 	 * Date        Author   Action
 	 * 2016/05/05  huangys  Create
+	 * 2026/10/19  huangys  Modify 改为预编译的时间段集合
 	 * </pre>
 	 * 
 	 * @param allowTime 允许时间，格式HH:mm-HH:mm，支持多项以空格间隔
 	 * @return 是否允许
 	 */
 	public static boolean isAllow(@Nonnull final String allowTime) {
-		String[] arr = allowTime.split(" ");
-		boolean ret = false;
-		for (String one : arr) {
-			String[] tmp = one.split("-");
-			if (Time.now().between(Time.of(tmp[0] + ":00"), Time.of(tmp[1] + ":00"))) {
-				return true;
-			}
-		}
-		return ret;
+		return isAllow(allowTime, System.currentTimeMillis());
+	}
+	
+	/**
+	 * <pre> 指定时间是否允许接收SMS.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param allowTime 允许时间，格式HH:mm-HH:mm，支持多项以空格间隔
+	 * @param ms 时间（毫秒数）
+	 * @return 是否允许
+	 */
+	public static boolean isAllow(@Nonnull final String allowTime, @Nonnull final long ms) {
+		Checks.nullThrow(allowTime);
+		return TimeWindows.of(allowTime).contains(ms);
 	}
 	
 }
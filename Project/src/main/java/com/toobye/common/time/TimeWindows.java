@@ -0,0 +1,237 @@
+/*
+ * Copyright 2026 (C) , All Rights Reserved.
+ * Company: China.
+ * 
+ * Create At 2026/10/19.
+ * 
+ */
+package com.toobye.common.time;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.Nonnull;
+
+import com.toobye.common.lang.Checks;
+
+/**
+ * <pre> 预编译的时间段集合.
+ * 
+ * 时间段格式HH:mm-HH:mm（首尾均包含，精确到秒即HH:mm:00），多项以空格间隔，开始时间大于结束时间时为跨天时间段。
+ * 解析一次后按字符串缓存，时间段转为当日秒数区间（跨天的拆为两段），排序合并后存为基本类型数组，
+ * 判断时按当日秒数二分查找。
+ * 
+ * Modification History:
+ * Date        Author   Version   Action
+ * 2026/10/19  huangys  v1.0      Create
+ * </pre>
+ * 
+ */
+public final class TimeWindows {
+
+	/**
+	 * <pre> Cache. </pre>
+	 */
+	private static final ConcurrentMap<String, TimeWindows> WINDOWS_MAP = new ConcurrentHashMap<String, TimeWindows>();
+	/**
+	 * <pre> 缓存的时间段集合数上限，超出后不再缓存. </pre>
+	 */
+	private static final int MAX_CACHE_SIZE = 1024;
+	private static final int SECONDS_PER_DAY = 86400;
+
+	private final String spec;
+	/**
+	 * <pre> 各区间的开始、结束秒数（包含），按开始秒数排序且互不重叠. </pre>
+	 */
+	private final int[] begins;
+	private final int[] ends;
+
+	private TimeWindows(@Nonnull final String spec) {
+		this.spec = spec;
+		List<int[]> list = new ArrayList<>();
+		for (String one : spec.trim().split(" ")) {
+			if (one.isEmpty()) {
+				continue;
+			}
+			String[] tmp = one.split("-");
+			Checks.matchThrow(tmp.length != 2, "Illegal time window(" + one + "), format must be HH:mm-HH:mm.");
+			int begin = toSecondOfDay(Time.of(tmp[0] + ":00"));
+			int end = toSecondOfDay(Time.of(tmp[1] + ":00"));
+			if (begin <= end) {
+				list.add(new int[] {begin, end});
+			} else {
+				// 跨天
+				list.add(new int[] {begin, SECONDS_PER_DAY - 1});
+				list.add(new int[] {0, end});
+			}
+		}
+		Collections.sort(list, new Comparator<int[]>() {
+			@Override
+			public int compare(final int[] o1, final int[] o2) {
+				return Integer.compare(o1[0], o2[0]);
+			}
+		});
+		// 合并重叠或相邻的区间
+		List<int[]> merged = new ArrayList<>();
+		for (int[] one : list) {
+			int[] last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+			if (last != null && one[0] <= last[1] + 1) {
+				last[1] = Math.max(last[1], one[1]);
+			} else {
+				merged.add(one);
+			}
+		}
+		this.begins = new int[merged.size()];
+		this.ends = new int[merged.size()];
+		for (int i = 0; i < merged.size(); i++) {
+			begins[i] = merged.get(i)[0];
+			ends[i] = merged.get(i)[1];
+		}
+	}
+
+	/**
+	 * <pre> 获得预编译的时间段集合.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param spec 时间段，格式HH:mm-HH:mm，支持多项以空格间隔
+	 * @return 时间段集合
+	 */
+	@Nonnull
+	public static TimeWindows of(@Nonnull final String spec) {
+		Checks.nullThrow(spec);
+		TimeWindows windows = WINDOWS_MAP.get(spec);
+		if (windows == null) {
+			windows = new TimeWindows(spec);
+			if (WINDOWS_MAP.size() < MAX_CACHE_SIZE) {
+				TimeWindows exists = WINDOWS_MAP.putIfAbsent(spec, windows);
+				if (exists != null) {
+					windows = exists;
+				}
+			}
+		}
+		return windows;
+	}
+
+	private static int toSecondOfDay(@Nonnull final Time time) {
+		int value = time.getValue();
+		return value / 10000 * 3600 + value / 100 % 100 * 60 + value % 100;
+	}
+
+	/**
+	 * <pre> 获得时间段字符串.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 时间段字符串
+	 */
+	@Nonnull
+	public String getSpec() {
+		return spec;
+	}
+
+	/**
+	 * <pre> 当日秒数（0～86399）是否在时间段内.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param secondOfDay 当日秒数
+	 * @return 是否在时间段内
+	 */
+	public boolean containsSecondOfDay(@Nonnull final int secondOfDay) {
+		// 查找开始秒数不大于secondOfDay的最后一个区间
+		int lo = 0;
+		int hi = begins.length - 1;
+		while (lo <= hi) {
+			int mid = (lo + hi) >>> 1;
+			if (begins[mid] <= secondOfDay) {
+				lo = mid + 1;
+			} else {
+				hi = mid - 1;
+			}
+		}
+		return hi >= 0 && secondOfDay <= ends[hi];
+	}
+
+	/**
+	 * <pre> 时间（毫秒数，按默认时区）是否在时间段内.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param ms 毫秒数
+	 * @return 是否在时间段内
+	 */
+	public boolean contains(@Nonnull final long ms) {
+		long local = EpochCalendar.getDefault().toLocal(ms);
+		return containsSecondOfDay((int) (EpochCalendar.floorMod(local, EpochCalendar.MS_PER_DAY) / EpochCalendar.MS_PER_SECOND));
+	}
+
+	/**
+	 * <pre> 时间是否在时间段内.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param date 时间
+	 * @return 是否在时间段内
+	 */
+	public boolean contains(@Nonnull final Date date) {
+		Checks.nullThrow(date);
+		return contains(date.getTime());
+	}
+
+	/**
+	 * <pre> 时间是否在时间段内.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @param time 时间
+	 * @return 是否在时间段内
+	 */
+	public boolean contains(@Nonnull final Time time) {
+		Checks.nullThrow(time);
+		return containsSecondOfDay(toSecondOfDay(time));
+	}
+
+	/**
+	 * <pre> 系统当前时间是否在时间段内.
+	 * 
+	 * Modification History:
+	 * Date        Author   Action
+	 * 2026/10/19  huangys  Create
+	 * </pre>
+	 * 
+	 * @return 是否在时间段内
+	 */
+	public boolean containsNow() {
+		return contains(System.currentTimeMillis());
+	}
+
+	@Override
+	public String toString() {
+		return spec;
+	}
+
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 (C) , All Rights Reserved.
+ * Company: China.
+ * 
+ * Create At 2026/10/19.
+ * 
+ */
+package com.toobye.common.time;
+
+import static org.junit.Assert.assertEquals;
+
+import java.text.SimpleDateFormat;
+import java.util.TimeZone;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * <pre> 多格式解析在默认时区变化后与SimpleDateFormat一致.
+ * 
+ * Modification History:
+ * Date        Author   Version   Action
+ * 2026/10/19  huangys  v1.0      Create
+ * </pre>
+ * 
+ */
+public class DateMultiParserTest {
+
+	private static final String[] PATTERNS = { DateFormat.DETAIL, DateFormat.SIMPLE };
+
+	private TimeZone defaultZone;
+
+	@Before
+	public void setUp() {
+		defaultZone = TimeZone.getDefault();
+	}
+
+	@After
+	public void tearDown() {
+		TimeZone.setDefault(defaultZone);
+	}
+
+	private static long expected(final String str) throws Exception {
+		return new SimpleDateFormat(DateFormat.DETAIL).parse(str).getTime();
+	}
+
+	@Test
+	public void testZoneSwitch() throws Exception {
+		String str = "2020-01-01 00:00:00";
+		TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+		assertEquals(1577836800000L, DateFormat.parse(str, PATTERNS).getTime());
+		assertEquals(expected(str), DateFormat.parse(str, PATTERNS).getTime());
+		TimeZone.setDefault(TimeZone.getTimeZone("Asia/Shanghai"));
+		assertEquals(1577808000000L, DateFormat.parse(str, PATTERNS).getTime());
+		assertEquals(expected(str), DateFormat.parse(str, PATTERNS).getTime());
+		assertEquals(DateFormat.parse(str, DateFormat.DETAIL).getTime(), DateFormat.parse(str, PATTERNS).getTime());
+	}
+
+}
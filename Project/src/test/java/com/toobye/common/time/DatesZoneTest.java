@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 (C) , All Rights Reserved.
+ * Company: China.
+ * 
+ * Create At 2026/10/19.
+ * 
+ */
+package com.toobye.common.time;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.TimeZone;
+
+import org.apache.commons.lang3.time.DateUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * <pre> Dates在历史标准偏移变化、跳过时间的时区下与Calendar一致.
+ * 
+ * Modification History:
+ * Date        Author   Version   Action
+ * 2026/10/19  huangys  v1.0      Create
+ * </pre>
+ * 
+ */
+public class DatesZoneTest {
+
+	private TimeZone defaultZone;
+
+	@Before
+	public void setUp() {
+		defaultZone = TimeZone.getDefault();
+	}
+
+	@After
+	public void tearDown() {
+		TimeZone.setDefault(defaultZone);
+	}
+
+	private static Calendar calendar(final String zone) {
+		TimeZone.setDefault(TimeZone.getTimeZone(zone));
+		Calendar c = Calendar.getInstance();
+		c.clear();
+		return c;
+	}
+
+	private static long at(final String zone, final int year, final int month, final int day, final int hour, final int minute) {
+		Calendar c = calendar(zone);
+		c.set(year, month - 1, day, hour, minute);
+		return c.getTimeInMillis();
+	}
+
+	/**
+	 * <pre> 1981-03-01 00:00由+10:00切换为+10:30，月初零点被跳过，顺延至00:30. </pre>
+	 */
+	@Test
+	public void testLordHoweTruncMonth() {
+		long ms = at("Australia/Lord_Howe", 1981, 3, 14, 10, 0);
+		assertEquals(at("Australia/Lord_Howe", 1981, 3, 1, 0, 0), Dates.truncMonth(ms));
+		assertEquals(at("Australia/Lord_Howe", 1981, 1, 1, 0, 0), Dates.truncYear(ms));
+	}
+
+	/**
+	 * <pre> 1906年前为地方时，偏移与现在的标准偏移不同. </pre>
+	 */
+	@Test
+	public void testKolkataTruncYear() {
+		long ms = at("Asia/Kolkata", 1906, 6, 1, 12, 0);
+		assertEquals(at("Asia/Kolkata", 1906, 1, 1, 0, 0), Dates.truncYear(ms));
+	}
+
+	@Test
+	public void testSaoPauloTruncYear() {
+		long ms = at("America/Sao_Paulo", 1914, 6, 1, 12, 0);
+		assertEquals(at("America/Sao_Paulo", 1914, 1, 1, 0, 0), Dates.truncYear(ms));
+	}
+
+	/**
+	 * <pre> 2011-12-30整日被跳过，同宽松的Calendar顺延至12-31. </pre>
+	 */
+	@Test
+	public void testApiaAddMonthsIntoSkippedDay() {
+		long ms = at("Pacific/Apia", 2011, 11, 30, 12, 0);
+		Calendar c = calendar("Pacific/Apia");
+		c.setTimeInMillis(ms);
+		c.add(Calendar.MONTH, 1);
+		assertEquals(31, c.get(Calendar.DAY_OF_MONTH));
+		assertEquals(c.getTimeInMillis(), Dates.addMonths(ms, 1));
+	}
+
+	/**
+	 * <pre> 半小时的夏令时切换前后，逐10分钟与原实现（DateUtils.truncate）比较. </pre>
+	 */
+	@Test
+	public void testLordHoweTruncHour() {
+		long[] days = {at("Australia/Lord_Howe", 2008, 4, 5, 0, 0), at("Australia/Lord_Howe", 2008, 10, 4, 0, 0)};
+		for (long start : days) {
+			for (long ms = start; ms < start + 2 * EpochCalendar.MS_PER_DAY; ms += 10 * EpochCalendar.MS_PER_MINUTE) {
+				Date date = new Date(ms);
+				assertEquals(date.toString(), DateUtils.truncate(date, Calendar.HOUR_OF_DAY).getTime(), Dates.truncHour(ms));
+			}
+		}
+	}
+
+}